@@ -0,0 +1,90 @@
+package com.iubh.quizbackend.api.dto.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iubh.quizbackend.jmh.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the live session events, once per broadcast. QUESTION_END carries the top 10
+ * and a rank change for every participant, QUIZ_ENDED the full leaderboard.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LiveEventsSerializationBenchmark {
+
+    @Param({"10", "200"})
+    public int participants;
+
+    private ObjectMapper objectMapper;
+    private LiveEvents.QuestionShow questionShow;
+    private LiveEvents.QuestionEnd questionEnd;
+    private LiveEvents.QuizEnded quizEnded;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Fixtures.objectMapper();
+        UUID sessionId = UUID.randomUUID();
+
+        List<LiveEvents.QuestionShow.AnswerPayload> answers = new ArrayList<>(4);
+        for (int a = 0; a < 4; a++) {
+            answers.add(new LiveEvents.QuestionShow.AnswerPayload(UUID.randomUUID(), "Answer " + a + " with a typical length"));
+        }
+        questionShow = LiveEvents.QuestionShow.builder()
+                .sessionId(sessionId)
+                .index(3)
+                .endsAt(Instant.now().plusSeconds(30))
+                .question(LiveEvents.QuestionShow.QuestionPayload.builder()
+                        .id(UUID.randomUUID())
+                        .text("Which statement about the observer pattern is correct?")
+                        .answers(answers)
+                        .build())
+                .build();
+
+        List<LiveEvents.QuestionEnd.LeaderboardRow> leaderboard = new ArrayList<>(participants);
+        List<LiveEvents.QuestionEnd.RankChange> rankChanges = new ArrayList<>(participants);
+        for (int p = 0; p < participants; p++) {
+            UUID userId = UUID.randomUUID();
+            int score = (participants - p) * 100;
+            leaderboard.add(new LiveEvents.QuestionEnd.LeaderboardRow(userId, "First" + p, "Name" + p, score, p + 1));
+            rankChanges.add(new LiveEvents.QuestionEnd.RankChange(userId, score, p + 1, p % 3 - 1));
+        }
+        questionEnd = LiveEvents.QuestionEnd.builder()
+                .sessionId(sessionId)
+                .index(3)
+                .correctAnswerId(answers.get(0).getId())
+                .leaderboard(leaderboard.subList(0, Math.min(10, participants)))
+                .totalParticipants(participants)
+                .rankChanges(rankChanges)
+                .build();
+        quizEnded = LiveEvents.QuizEnded.builder()
+                .sessionId(sessionId)
+                .leaderboard(leaderboard)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] questionShow() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(questionShow);
+    }
+
+    @Benchmark
+    public byte[] questionEnd() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(questionEnd);
+    }
+
+    @Benchmark
+    public byte[] quizEnded() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(quizEnded);
+    }
+}
@@ -0,0 +1,146 @@
+package com.iubh.quizbackend.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result with a baseline result and writes a Markdown table with time and
+ * allocation per operation (from {@code -prof gc}) of both runs.
+ * <p>
+ * A change counts as a regression or an improvement only if it exceeds the error margins of both runs
+ * and {@value #THRESHOLD_PERCENT}%. Without a baseline the report lists the current run only; copy the
+ * result file to the baseline location to compare later runs against it.
+ * <pre>
+ * BaselineReport &lt;result.json&gt; &lt;baseline.json&gt; &lt;report.md&gt;
+ * </pre>
+ */
+public final class BaselineReport {
+
+    private static final double THRESHOLD_PERCENT = 5.0;
+
+    private record Score(double value, double error, String unit, double allocatedBytes) {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: BaselineReport <result.json> <baseline.json> <report.md>");
+            System.exit(2);
+        }
+        Path resultFile = Path.of(args[0]);
+        Path baselineFile = Path.of(args[1]);
+        Path reportFile = Path.of(args[2]);
+
+        Map<String, Score> current = read(resultFile);
+        Map<String, Score> baseline = Files.exists(baselineFile) ? read(baselineFile) : Map.of();
+
+        StringBuilder report = new StringBuilder("# JMH results\n\n");
+        if (baseline.isEmpty()) {
+            report.append("No baseline at `").append(baselineFile).append("`; copy `").append(resultFile)
+                    .append("` there to compare later runs against this one.\n\n");
+        } else {
+            report.append("Baseline: `").append(baselineFile).append("`\n\n");
+        }
+        report.append("| Benchmark | Baseline | Current | Change | Alloc baseline (B/op) | Alloc current (B/op) | Verdict |\n");
+        report.append("|---|---:|---:|---:|---:|---:|---|\n");
+
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            String verdict = verdict(before, now);
+            if (verdict.equals("slower")) regressions++;
+            report.append(String.format(Locale.ROOT, "| %s | %s | %s | %s | %s | %s | %s |%n",
+                    entry.getKey(),
+                    before == null ? "–" : format(before),
+                    format(now),
+                    before == null ? "–" : String.format(Locale.ROOT, "%+.1f%%", change(before, now)),
+                    before == null ? "–" : bytes(before.allocatedBytes()),
+                    bytes(now.allocatedBytes()),
+                    verdict));
+        }
+        if (!baseline.isEmpty()) {
+            report.append(String.format(Locale.ROOT, "%n%d of %d benchmarks slower than the baseline.%n", regressions, current.size()));
+        }
+
+        Files.writeString(reportFile, report);
+        System.out.println(report);
+        System.out.println("Report written to " + reportFile);
+    }
+
+    /** Lower is better for the average-time scores used by all benchmarks. */
+    private static String verdict(Score before, Score now) {
+        if (before == null) {
+            return "new";
+        }
+        double difference = now.value() - before.value();
+        double noise = Math.max(before.error() + now.error(), before.value() * THRESHOLD_PERCENT / 100);
+        if (Math.abs(difference) <= noise) {
+            return "unchanged";
+        }
+        return difference > 0 ? "slower" : "faster";
+    }
+
+    private static double change(Score before, Score now) {
+        return (now.value() - before.value()) * 100 / before.value();
+    }
+
+    private static String format(Score score) {
+        return String.format(Locale.ROOT, "%.3f ± %.3f %s", score.value(), score.error(), score.unit());
+    }
+
+    private static String bytes(double allocated) {
+        return Double.isNaN(allocated) ? "–" : String.format(Locale.ROOT, "%.0f", allocated);
+    }
+
+    /** Benchmark name with its parameters → primary score and allocation rate per operation. */
+    private static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder name = new StringBuilder(shortName(run.path("benchmark").asText()));
+            JsonNode params = run.path("params");
+            if (params.size() > 0) {
+                name.append(" (");
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    name.append(param.getKey()).append('=').append(param.getValue().asText());
+                    if (fields.hasNext()) name.append(", ");
+                }
+                name.append(')');
+            }
+            JsonNode primary = run.path("primaryMetric");
+            scores.put(name.toString(), new Score(
+                    primary.path("score").asDouble(),
+                    primary.path("scoreError").asDouble(),
+                    primary.path("scoreUnit").asText(),
+                    allocationRate(run.path("secondaryMetrics"))));
+        }
+        return scores;
+    }
+
+    /** JMH names the metric {@code gc.alloc.rate.norm}, older versions {@code ·gc.alloc.rate.norm}. */
+    private static double allocationRate(JsonNode secondaryMetrics) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = secondaryMetrics.fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith("gc.alloc.rate.norm")) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return Double.NaN;
+    }
+
+    /** {@code com.iubh.quizbackend.mapper.QuizMapperBenchmark.toDetailDto} → {@code QuizMapperBenchmark.toDetailDto} */
+    private static String shortName(String benchmark) {
+        int method = benchmark.lastIndexOf('.');
+        int type = benchmark.lastIndexOf('.', method - 1);
+        return benchmark.substring(type + 1);
+    }
+}
@@ -0,0 +1,118 @@
+package com.iubh.quizbackend.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iubh.quizbackend.entity.module.Module;
+import com.iubh.quizbackend.entity.question.Answer;
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.quiz.AnswerOrder;
+import com.iubh.quizbackend.entity.quiz.Quiz;
+import com.iubh.quizbackend.entity.quiz.QuizItem;
+import com.iubh.quizbackend.entity.quiz.QuizStatus;
+import com.iubh.quizbackend.entity.user.Profile;
+import com.iubh.quizbackend.entity.user.Role;
+import com.iubh.quizbackend.entity.user.User;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Entities shaped like the production data, built without a database. Seeded, so every run and fork
+ * measures the same data.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /** Object mapper configured like Spring Boot's (Java time module, ISO dates). */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    /** The generated MapStruct mappers, wired like in the application. Close after use. */
+    public static AnnotationConfigApplicationContext mappers() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(ObjectMapper.class, Fixtures::objectMapper);
+        context.scan("com.iubh.quizbackend.mapper");
+        context.refresh();
+        return context;
+    }
+
+    public static Module module() {
+        return Module.builder()
+                .id(UUID.randomUUID())
+                .title("Software Engineering")
+                .description("Benchmark module")
+                .build();
+    }
+
+    public static User user(String email) {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .email(email)
+                .password("password123")
+                .role(Role.STUDENT)
+                .profile(Profile.builder().firstName("Bench").name("User").build())
+                .build();
+    }
+
+    public static ChoiceQuestion question(Module module, int index, int answers) {
+        ChoiceQuestion question = ChoiceQuestion.builder()
+                .id(UUID.randomUUID())
+                .questionText("Which statement about topic " + index + " is correct? (" + "x".repeat(80) + ")")
+                .active(true)
+                .module(module)
+                .build();
+        for (int a = 0; a < answers; a++) {
+            question.addAnswer(Answer.builder()
+                    .id(UUID.randomUUID())
+                    .text("Answer " + a + " to question " + index)
+                    .isCorrect(a == 0)
+                    .build());
+        }
+        return question;
+    }
+
+    /**
+     * A completed quiz: every item has a shuffled answer order and a selected answer, roughly
+     * two thirds of them correct.
+     */
+    public static Quiz completedQuiz(int questions, int answersPerQuestion) {
+        Random random = new Random(42);
+        Module module = module();
+        Quiz quiz = Quiz.builder()
+                .id(UUID.randomUUID())
+                .user(user("player@bench.com"))
+                .module(module)
+                .status(QuizStatus.COMPLETED)
+                .createdAt(LocalDateTime.now().minusMinutes(15))
+                .completedAt(LocalDateTime.now())
+                .build();
+        for (int i = 0; i < questions; i++) {
+            ChoiceQuestion question = question(module, i, answersPerQuestion);
+            List<Answer> shuffled = new ArrayList<>(question.getAnswers());
+            Collections.shuffle(shuffled, random);
+            boolean correct = random.nextInt(3) > 0;
+            Answer selected = shuffled.stream()
+                    .filter(a -> a.getIsCorrect() == correct)
+                    .findFirst()
+                    .orElseThrow();
+            quiz.addQuizItem(QuizItem.builder()
+                    .id(UUID.randomUUID())
+                    .question(question)
+                    .answerOrder(AnswerOrder.of(shuffled))
+                    .selectedAnswer(selected)
+                    .isCorrect(correct)
+                    .answeredAt(LocalDateTime.now())
+                    .questionOrder(i)
+                    .build());
+        }
+        return quiz;
+    }
+}
@@ -0,0 +1,63 @@
+package com.iubh.quizbackend.mapper;
+
+import com.iubh.quizbackend.api.dto.QuizAnswerDto;
+import com.iubh.quizbackend.api.dto.QuizDetailDto;
+import com.iubh.quizbackend.api.dto.QuizResultDto;
+import com.iubh.quizbackend.entity.quiz.Quiz;
+import com.iubh.quizbackend.entity.quiz.QuizItem;
+import com.iubh.quizbackend.jmh.Fixtures;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of a completed quiz for the quiz detail and result endpoints. 10 questions is the default
+ * quiz length, 50 a long exam-style quiz.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuizMapperBenchmark {
+
+    @Param({"10", "50"})
+    public int questions;
+
+    private AnnotationConfigApplicationContext context;
+    private QuizMapper quizMapper;
+    private Quiz quiz;
+    private QuizItem item;
+
+    @Setup
+    public void setUp() {
+        context = Fixtures.mappers();
+        quizMapper = context.getBean(QuizMapper.class);
+        quiz = Fixtures.completedQuiz(questions, 4);
+        item = quiz.getQuizItems().iterator().next();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public QuizDetailDto toDetailDto() {
+        return quizMapper.toDetailDto(quiz);
+    }
+
+    @Benchmark
+    public QuizResultDto toResultDto() {
+        return quizMapper.toResultDto(quiz);
+    }
+
+    /** One quiz item; independent of the quiz length. */
+    @Benchmark
+    public List<QuizAnswerDto> mapAndSortAnswers() {
+        return quizMapper.mapAndSortAnswers(item);
+    }
+}
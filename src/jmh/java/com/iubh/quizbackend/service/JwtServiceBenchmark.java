@@ -0,0 +1,57 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.jmh.Fixtures;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token checks done by the JWT filter and the STOMP CONNECT interceptor on every request. {@code cached}
+ * measures a token seen before, {@code uncached} a token that has to be parsed and verified.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    @Param({"cached", "uncached"})
+    public String tokenCache;
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", Base64.getEncoder().encodeToString(secret));
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604_800_000L);
+        // A cache of size 0 evicts every token right after it was stored
+        ReflectionTestUtils.setField(jwtService, "tokenCacheMaxEntries", "cached".equals(tokenCache) ? 10_000 : 0);
+        jwtService.init();
+
+        user = Fixtures.user("student@bench.com");
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+}
@@ -0,0 +1,111 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.api.dto.changeRequest.QuestionChangeRequestDto;
+import com.iubh.quizbackend.entity.change.*;
+import com.iubh.quizbackend.entity.module.Module;
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.jmh.Fixtures;
+import com.iubh.quizbackend.mapper.ChoiceQuestionMapper;
+import com.iubh.quizbackend.mapper.ProposedAnswerMapper;
+import com.iubh.quizbackend.repository.projection.VoteTallyRow;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of one page of the change request feed (20 requests, all four request types) into DTOs,
+ * with the questions and vote tallies already loaded in bulk as {@code toFeedPage} does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuestionChangeServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private AnnotationConfigApplicationContext context;
+    private QuestionChangeService questionChangeService;
+    private List<QuestionChangeRequest> page;
+    private User currentUser;
+    private Map<UUID, ChoiceQuestion> questions;
+    private Map<UUID, VoteTallyRow> tallies;
+
+    @Setup
+    public void setUp() {
+        context = Fixtures.mappers();
+        // only the mappers are used by the conversion
+        questionChangeService = new QuestionChangeService(null, null, null, null,
+                context.getBean(ChoiceQuestionMapper.class), context.getBean(ProposedAnswerMapper.class),
+                null, null, null, null, null);
+
+        Module module = Fixtures.module();
+        User requester = Fixtures.user("requester@bench.com");
+        currentUser = Fixtures.user("viewer@bench.com");
+        page = new ArrayList<>(PAGE_SIZE);
+        questions = new HashMap<>();
+        tallies = new HashMap<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            ChoiceQuestion question = Fixtures.question(module, i, 4);
+            QuestionChangeRequest request = switch (i % 4) {
+                case 0 -> {
+                    IncorrectQuestionTextRequest r = new IncorrectQuestionTextRequest();
+                    r.setProposedText("Improved wording of question " + i);
+                    yield r;
+                }
+                case 1 -> {
+                    IncorrectAnswerRequest r = new IncorrectAnswerRequest();
+                    for (int a = 0; a < 4; a++) {
+                        r.addProposedAnswer(ProposedAnswer.builder().id(UUID.randomUUID())
+                                .text("Proposed answer " + a).isCorrect(a == 1).build());
+                    }
+                    yield r;
+                }
+                case 2 -> new SuggestDeletionRequest();
+                default -> {
+                    ChoiceQuestion duplicate = Fixtures.question(module, 100 + i, 4);
+                    questions.put(duplicate.getId(), duplicate);
+                    DuplicateQuestionRequest r = new DuplicateQuestionRequest();
+                    r.setDuplicateOfQuestionId(duplicate.getId());
+                    yield r;
+                }
+            };
+            request.setId(UUID.randomUUID());
+            request.setQuestion(question);
+            request.setRequester(requester);
+            request.setJustification("The current version is misleading because of detail " + i);
+            request.setCreatedAt(LocalDateTime.now().minusDays(i));
+            page.add(request);
+            tallies.put(request.getId(), tally(request.getId(), i % 5, i % 2, i % 3 == 0 ? 1 : 0));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<QuestionChangeRequestDto> convertPage() {
+        List<QuestionChangeRequestDto> dtos = new ArrayList<>(page.size());
+        for (QuestionChangeRequest request : page) {
+            dtos.add(questionChangeService.convertToDto(request, currentUser, questions, tallies));
+        }
+        return dtos;
+    }
+
+    private static VoteTallyRow tally(UUID requestId, long positive, long negative, long own) {
+        return new VoteTallyRow() {
+            @Override public UUID getChangeRequestId() { return requestId; }
+            @Override public long getPositiveVotes() { return positive; }
+            @Override public long getNegativeVotes() { return negative; }
+            @Override public long getOwnVotes() { return own; }
+        };
+    }
+}
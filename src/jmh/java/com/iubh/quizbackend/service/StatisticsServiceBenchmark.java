@@ -0,0 +1,73 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.api.dto.ActivityDataPointDto;
+import com.iubh.quizbackend.repository.projection.DailyStatsRow;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bucketing of the daily rollups into the activity chart, for the rows a user with 5 followed modules
+ * has in each timeframe (one row per module and active day).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatisticsServiceBenchmark {
+
+    private static final int MODULES = 5;
+
+    @Param({"Letzte Woche", "Letzter Monat", "Gesamt"})
+    public String timeframe;
+
+    private StatisticsService statisticsService;
+    private List<DailyStatsRow> rows;
+
+    @Setup
+    public void setUp() {
+        statisticsService = new StatisticsService(null);
+        int days = switch (timeframe) {
+            case "Letzte Woche" -> 7;
+            case "Letzter Monat" -> 31;
+            default -> 365;
+        };
+        Random random = new Random(42);
+        List<UUID> modules = new ArrayList<>(MODULES);
+        for (int m = 0; m < MODULES; m++) {
+            modules.add(UUID.randomUUID());
+        }
+        LocalDate today = LocalDate.now();
+        rows = new ArrayList<>(days * MODULES);
+        for (int d = 0; d < days; d++) {
+            for (int m = 0; m < MODULES; m++) {
+                int quizzes = 1 + random.nextInt(4);
+                rows.add(row(modules.get(m), "Module " + m, today.minusDays(d), quizzes, random.nextDouble() * 100 * quizzes));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<ActivityDataPointDto> calculateActivity() {
+        return statisticsService.calculateActivity(rows, timeframe);
+    }
+
+    private static DailyStatsRow row(UUID moduleId, String title, LocalDate day, int quizzes, double scoreSum) {
+        return new DailyStatsRow() {
+            @Override public UUID getModuleId() { return moduleId; }
+            @Override public String getModuleTitle() { return title; }
+            @Override public LocalDate getDay() { return day; }
+            @Override public int getQuizzes() { return quizzes; }
+            @Override public long getCorrectCount() { return quizzes * 7L; }
+            @Override public long getAnsweredCount() { return quizzes * 10L; }
+            @Override public double getScoreSum() { return scoreSum; }
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.iubh.quizbackend.api.controller;
+
+import com.iubh.quizbackend.service.LiveQuizService;
+import com.iubh.quizbackend.service.live.LiveAnswerForwarder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Node-zu-Node-Endpunkte für den Cluster-Betrieb der Live-Quizze.
+ * Liegt außerhalb von {@code /api/**}: statt eines JWT prüft der Endpunkt das gemeinsame Cluster-Secret.
+ */
+@RestController
+@RequestMapping("/internal/live")
+@RequiredArgsConstructor
+public class LiveClusterController {
+
+    private final LiveQuizService liveQuizService;
+    private final LiveAnswerForwarder forwarder;
+
+    /**
+     * Von einem anderen Node weitergeleitete Antwort; wird in die Mailbox der Session eingereiht.
+     *
+     * POST /internal/live/sessions/{sessionId}/answers
+     * Body: { userId, questionIndex, answerId }
+     */
+    @PostMapping("/sessions/{sessionId}/answers")
+    public CompletableFuture<ResponseEntity<Void>> submitForwardedAnswer(
+            @PathVariable UUID sessionId,
+            @RequestHeader(value = LiveAnswerForwarder.SECRET_HEADER, required = false) String secret,
+            @RequestBody LiveAnswerForwarder.ForwardedAnswer body
+    ) {
+        if (!forwarder.isTrusted(secret)) {
+            throw new SecurityException("Unknown cluster node.");
+        }
+        return liveQuizService.submitForwardedAnswer(sessionId, body.userId(), body.questionIndex(), body.answerId())
+                .thenApply(v -> ResponseEntity.noContent().<Void>build());
+    }
+}
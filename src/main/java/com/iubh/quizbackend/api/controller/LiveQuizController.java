@@ -15,10 +15,10 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -50,18 +50,19 @@ public class LiveQuizController {
 
     /**
      * Antwort eines Teilnehmers für die aktuelle Frage.
+     * Die Antwort läuft über die Mailbox der Session; der Request-Thread wird sofort freigegeben.
      *
      * POST /api/v1/sessions/{sessionId}/answers
      * Body: { questionIndex, answerId }
      */
     @PostMapping("/sessions/{sessionId}/answers")
-    public ResponseEntity<Void> submitAnswer(
+    public CompletableFuture<ResponseEntity<Void>> submitAnswer(
             @PathVariable UUID sessionId,
             @AuthenticationPrincipal User currentUser,
             @Valid @RequestBody SubmitLiveAnswerDto body
     ) {
-        liveQuizService.submitAnswer(sessionId, currentUser, body.questionIndex(), body.answerId());
-        return ResponseEntity.noContent().build();
+        return liveQuizService.submitAnswer(sessionId, currentUser, body.questionIndex(), body.answerId())
+                .thenApply(v -> ResponseEntity.noContent().<Void>build());
     }
 
     /**
@@ -86,30 +87,14 @@ public class LiveQuizController {
         Instant startAt = (Instant) raw.get("startAt");
         Instant endsAt  = (Instant) raw.get("endsAt");
 
-        SessionStateDto.QuestionDto qDto = null;
-        @SuppressWarnings("unchecked")
-        Map<String, Object> qMap = (Map<String, Object>) raw.get("question");
-        if (qMap != null) {
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> ans = (List<Map<String, Object>>) qMap.getOrDefault("answers", List.of());
-            var answers = ans.stream()
-                    .map(a -> new SessionStateDto.AnswerDto(
-                            (UUID) a.get("id"),
-                            (String) a.get("text")))
-                    .toList();
-
-            qDto = new SessionStateDto.QuestionDto(
-                    (UUID) qMap.get("id"),
-                    (String) qMap.get("text"),
-                    answers
-            );
-        }
-
+        // bereits serialisiertes Frage-JSON (aus dem QUESTION_SHOW-Frame-Cache)
+        String question = (String) raw.get("question");
 
         @SuppressWarnings("unchecked")
         Map<String, Object> youMap = (Map<String, Object>) raw.get("you");
         var youDto = new SessionStateDto.YouDto(
                 (Integer) youMap.get("score"),
+                (Integer) youMap.get("rank"),
                 (Boolean) youMap.get("answered")
         );
 
@@ -119,7 +104,7 @@ public class LiveQuizController {
                 totalQuestions,
                 startAt,
                 endsAt,
-                qDto,
+                question,
                 youDto
         );
 
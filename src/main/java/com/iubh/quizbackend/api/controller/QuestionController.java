@@ -2,9 +2,11 @@ package com.iubh.quizbackend.api.controller;
 
 import com.iubh.quizbackend.api.dto.ChoiceQuestionDto;
 import com.iubh.quizbackend.api.dto.CreateQuestionRequestDto;
+import com.iubh.quizbackend.api.dto.question.DuplicateCandidateDto;
 import com.iubh.quizbackend.api.dto.question.QuestionSummaryDto;
 import com.iubh.quizbackend.entity.question.ChoiceQuestion;
 import com.iubh.quizbackend.mapper.ChoiceQuestionMapper;
+import com.iubh.quizbackend.service.DuplicateDetectionService;
 import com.iubh.quizbackend.service.QuestionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -23,6 +26,7 @@ public class QuestionController {
 
     private final QuestionService questionService;
     private final ChoiceQuestionMapper choiceQuestionMapper;
+    private final DuplicateDetectionService duplicateDetectionService;
 
     /**
      * POST /api/v1/questions/{moduleId} : Creates a new question for a specific module.
@@ -34,9 +38,21 @@ public class QuestionController {
     ) {
         ChoiceQuestion createdQuestion = questionService.createQuestion(moduleId, requestDto);
         ChoiceQuestionDto responseDto = choiceQuestionMapper.toDto(createdQuestion);
+        List<DuplicateCandidateDto> duplicates = duplicateDetectionService.findNearDuplicates(createdQuestion);
+        if (!duplicates.isEmpty()) {
+            responseDto.setPossibleDuplicateIds(duplicates.stream().map(DuplicateCandidateDto::getDuplicateOfQuestionId).toList());
+        }
         return new ResponseEntity<>(responseDto, HttpStatus.CREATED);
     }
 
+    /**
+     * GET /api/v1/questions/duplicates/{moduleId} : Lists all pairs of near-duplicate questions in a module.
+     */
+    @GetMapping("/duplicates/{moduleId}")
+    public ResponseEntity<List<DuplicateCandidateDto>> findDuplicates(@PathVariable UUID moduleId) {
+        return ResponseEntity.ok(duplicateDetectionService.scanModule(moduleId));
+    }
+
 
     @GetMapping("/search/{moduleId}")
     public ResponseEntity<Page<QuestionSummaryDto>> searchQuestions(
@@ -1,5 +1,6 @@
 package com.iubh.quizbackend.api.controller;
 
+import com.iubh.quizbackend.api.dto.quiz.LobbySnapshotDto;
 import com.iubh.quizbackend.api.dto.quiz.QuizLobbyDto;
 import com.iubh.quizbackend.entity.quiz.QuizLobby;
 import com.iubh.quizbackend.entity.user.User;
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
@@ -56,6 +58,23 @@ public class QuizLobbyController {
         return ResponseEntity.ok(quizLobbyService.getWaitingLobbies());
     }
 
+    /**
+     * Waiting lobbies with the version of the last delta on /topic/lobbies/delta they include.
+     */
+    @GetMapping("/snapshot")
+    public ResponseEntity<LobbySnapshotDto> getLobbySnapshot() {
+        return ResponseEntity.ok(quizLobbyService.getLobbySnapshot());
+    }
+
+    /**
+     * Snapshot on subscribe: a client subscribing to /app/lobbies/snapshot receives the current
+     * snapshot once, then follows /topic/lobbies/delta.
+     */
+    @SubscribeMapping("/lobbies/snapshot")
+    public LobbySnapshotDto subscribeLobbySnapshot() {
+        return quizLobbyService.getLobbySnapshot();
+    }
+
     /**
      * This WebSocket endpoint is used by clients to request the latest list of lobbies.
      * When a message is sent to /app/lobbies/get, this method will be invoked,
@@ -0,0 +1,22 @@
+package com.iubh.quizbackend.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Change of the online followers of a module since the previous event, sent to
+ * {@code /topic/activeUsers/{moduleId}/delta}. Users who came online and went offline again
+ * within the same debounce window do not appear at all.
+ */
+@Data
+@Builder
+public class ActiveUsersDeltaDto {
+    private UUID moduleId;
+    private List<UserDto> joined;
+    private List<UserDto> left;
+    /** Number of online followers after applying this delta. */
+    private int onlineCount;
+}
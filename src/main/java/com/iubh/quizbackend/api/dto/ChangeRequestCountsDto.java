@@ -4,7 +4,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.Formula;
 
 @Data
 @AllArgsConstructor
@@ -21,4 +20,6 @@ public class ChangeRequestCountsDto {
     private int duplicationChange;
 
     private int deletionRequest;
+
+    private int pending;
 }
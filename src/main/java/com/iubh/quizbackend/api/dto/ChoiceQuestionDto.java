@@ -3,6 +3,7 @@ package com.iubh.quizbackend.api.dto;
 import com.iubh.quizbackend.entity.question.ChoiceQuestionType;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -34,5 +35,8 @@ public class ChoiceQuestionDto {
 
     private ChangeRequestCountsDto changeRequestCounts;
 
+    /** Only set when creating a question: near-duplicates that already exist in the module. */
+    private List<UUID> possibleDuplicateIds;
+
 
 }
@@ -49,13 +49,26 @@ public interface LiveEvents {
         private final java.util.UUID sessionId;
         private final int index;
         private final java.util.UUID correctAnswerId;
+        /** Top-N nach dieser Frage. */
         private final java.util.List<LeaderboardRow> leaderboard;
+        private final int totalParticipants;
+        /** Nur Teilnehmer, deren Score/Rang sich seit der letzten Frage geändert hat. */
+        private final java.util.List<RankChange> rankChanges;
         @Getter @Builder @AllArgsConstructor
         public static class LeaderboardRow {
             private final java.util.UUID userId;
             private final String firstName;
             private final String name;
             private final int score;
+            private final int rank;
+        }
+        @Getter @Builder @AllArgsConstructor
+        public static class RankChange {
+            private final java.util.UUID userId;
+            private final int score;
+            private final int rank;
+            /** previousRank - rank: positiv = aufgestiegen. */
+            private final int delta;
         }
     }
 
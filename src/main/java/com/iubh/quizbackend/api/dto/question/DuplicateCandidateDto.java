@@ -0,0 +1,18 @@
+package com.iubh.quizbackend.api.dto.question;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * A pair of questions whose texts are (estimated to be) nearly identical.
+ */
+@Data
+@Builder
+public class DuplicateCandidateDto {
+    private UUID questionId;
+    private UUID duplicateOfQuestionId;
+    /** Estimated Jaccard similarity of the two texts, between 0 and 1. */
+    private double similarity;
+}
@@ -0,0 +1,26 @@
+package com.iubh.quizbackend.api.dto.quiz;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Changes of the waiting lobby list, sent to {@code /topic/lobbies/delta}.
+ * <p>
+ * {@code version} increases by exactly one per delta. A client applies deltas on top of a
+ * {@link LobbySnapshotDto}, skips deltas not newer than the snapshot and fetches a new snapshot
+ * when it sees a gap.
+ * <p>
+ * In cluster mode every node publishes its own changes: {@code version} is always 0, waiting lobbies
+ * are listed as {@code updated} and have to be inserted when unknown.
+ */
+@Data
+@Builder
+public class LobbyDeltaDto {
+    private long version;
+    private List<QuizLobbyDto> added;
+    private List<QuizLobbyDto> updated;
+    private List<UUID> removed;
+}
@@ -0,0 +1,16 @@
+package com.iubh.quizbackend.api.dto.quiz;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * All waiting lobbies as of {@code version}, the version of the last {@link LobbyDeltaDto} included.
+ */
+@Data
+@AllArgsConstructor
+public class LobbySnapshotDto {
+    private long version;
+    private List<QuizLobbyDto> lobbies;
+}
@@ -1,6 +1,7 @@
 package com.iubh.quizbackend.config;
 
 import com.iubh.quizbackend.service.JwtService;
+import com.iubh.quizbackend.service.UserPrincipalCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -11,7 +12,6 @@ import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -22,7 +22,7 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
     @Autowired
     private JwtService jwtService;
     @Autowired
-    private UserDetailsService userDetailsService;
+    private UserPrincipalCache userPrincipalCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -42,7 +42,7 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
                 String userEmail = jwtService.extractUsername(authToken);
 
                 if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                    UserDetails userDetails = this.userPrincipalCache.loadUserByUsername(userEmail);
                     if (jwtService.isTokenValid(authToken, userDetails)) {
                         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
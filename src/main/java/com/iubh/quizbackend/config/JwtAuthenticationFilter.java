@@ -1,6 +1,7 @@
 package com.iubh.quizbackend.config;
 
 import com.iubh.quizbackend.service.JwtService;
+import com.iubh.quizbackend.service.UserPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,7 +11,6 @@ import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -23,7 +23,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     // You will need to create this service to handle JWT logic
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     protected void doFilterInternal(
@@ -48,12 +48,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
 
         // 4. Extract the user's email (or username) from the token using the JwtService
+        //    (the token is verified once and cached, later calls do not parse it again)
         userEmail = jwtService.extractUsername(jwt);
 
         // 5. Check if we have a user email and the user is not already authenticated
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            // Load the user details from the database using the email
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            // Load the user details (short-lived cache in front of the database)
+            UserDetails userDetails = this.userPrincipalCache.loadUserByUsername(userEmail);
 
             // 6. Validate the token against the user details
             if (jwtService.isTokenValid(jwt, userDetails)) {
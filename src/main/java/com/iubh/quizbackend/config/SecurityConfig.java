@@ -1,5 +1,9 @@
 package com.iubh.quizbackend.config;
 
+import com.iubh.quizbackend.entity.user.Role;
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -77,6 +81,8 @@ public class SecurityConfig {
                 .securityMatcher("/api/**")
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(a -> a
+                        // async results (e.g. live answers) re-dispatch an already authorized request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/api/v1/auth/authenticate", "/api/v1/auth/register", "/api/v1/auth/refresh-token").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -89,7 +95,29 @@ public class SecurityConfig {
     }
 
 
+    /**
+     * Actuator endpoints, also when they run on a separate {@code management.server.port}: health stays
+     * open for load balancer probes, metrics and info need an admin token.
+     */
     @Bean @Order(2)
+    SecurityFilterChain actuator(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(a -> a
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .anyRequest().hasAuthority(Role.ADMIN.name())
+                )
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authenticationProvider(authenticationProvider)
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+        return http.build();
+    }
+
+
+    @Bean @Order(3)
     SecurityFilterChain web(HttpSecurity http) throws Exception {
         http
                 .securityMatcher("/**")
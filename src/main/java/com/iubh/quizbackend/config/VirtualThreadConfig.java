@@ -0,0 +1,31 @@
+package com.iubh.quizbackend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+/**
+ * Beans for {@code spring.threads.virtual.enabled=true}. Spring Boot itself switches Tomcat's request
+ * threads; the STOMP channels and the live mailboxes read the same property.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Replaces the message broker's scheduler pool for the application's debounce, timeout and lease
+     * callbacks: one timer thread triggers, every callback runs on its own virtual thread, so a callback
+     * waiting for the database does not delay the others. The broker heartbeats keep their own scheduler.
+     */
+    @Bean
+    @Primary
+    public SimpleAsyncTaskScheduler taskScheduler() {
+        SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+        scheduler.setThreadNamePrefix("app-scheduler-");
+        scheduler.setVirtualThreads(true);
+        return scheduler;
+    }
+}
@@ -0,0 +1,45 @@
+package com.iubh.quizbackend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Queue depth and busy threads of the STOMP channel executors sized in {@link WebSocketConfig}.
+ * <ul>
+ *     <li>{@code websocket.channel.queued} – messages waiting for a thread, per channel</li>
+ *     <li>{@code websocket.channel.active} – threads currently handling a message, per channel</li>
+ * </ul>
+ * A growing outbound queue means clients are slower than the messages published to them.
+ * Channels running on virtual threads have no queue and are not measured.
+ */
+@Component
+public class WebSocketChannelMetrics {
+
+    public WebSocketChannelMetrics(MeterRegistry meterRegistry,
+                                   @Qualifier("clientInboundChannelExecutor") Executor inbound,
+                                   @Qualifier("clientOutboundChannelExecutor") Executor outbound,
+                                   @Qualifier("brokerChannelExecutor") Executor broker) {
+        register(meterRegistry, "inbound", inbound);
+        register(meterRegistry, "outbound", outbound);
+        register(meterRegistry, "broker", broker);
+    }
+
+    private static void register(MeterRegistry meterRegistry, String channel, Executor executor) {
+        if (!(executor instanceof ThreadPoolTaskExecutor pool)) {
+            return;
+        }
+        Gauge.builder("websocket.channel.queued", pool, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Messages waiting in a STOMP channel executor")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.channel.active", pool, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Threads handling STOMP channel messages")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+}
@@ -1,17 +1,92 @@
 package com.iubh.quizbackend.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    /**
+     * Relay mode forwards subscriptions and broadcasts to an external STOMP broker (e.g. RabbitMQ with
+     * the STOMP plugin or ActiveMQ), so clients connected to different instances see the same topics.
+     * Required as soon as more than one backend instance runs behind the load balancer.
+     */
+    @Value("${application.websocket.broker.relay.enabled:false}")
+    private boolean relayEnabled;
+
+    @Value("${application.websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${application.websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${application.websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${application.websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    /*
+     * Channel executors. Inbound handles client frames (answers, subscriptions), outbound writes to the
+     * client sockets, the broker channel fans a published message out to the subscribers. 0 threads means
+     * two per CPU. Queues are bounded, so a backlog shows up as rejected messages instead of unbounded memory.
+     */
+    @Value("${application.websocket.inbound.threads:0}")
+    private int inboundThreads;
+
+    @Value("${application.websocket.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${application.websocket.outbound.threads:0}")
+    private int outboundThreads;
+
+    @Value("${application.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    /** One thread keeps the publish order of the live session events (QUESTION_END before the next QUESTION_SHOW). */
+    @Value("${application.websocket.broker.threads:1}")
+    private int brokerThreads;
+
+    @Value("${application.websocket.broker.queue-capacity:10000}")
+    private int brokerQueueCapacity;
+
+    /*
+     * With virtual threads the inbound and outbound channels start one virtual thread per message instead
+     * of using the pools above; the broker channel keeps its single thread for the publish order.
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /*
+     * Per-session send limits: a client that does not take its messages within the time limit, or whose
+     * unsent messages exceed the buffer, is disconnected and recovers through the reconnect snapshot.
+     */
+    @Value("${application.websocket.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${application.websocket.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+
+    @Value("${application.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws-connect")
@@ -28,8 +103,79 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic", "/queue");
+        if (relayEnabled) {
+            registry.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    // /user/... destinations of sessions connected to another instance
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+        } else {
+            registry.enableSimpleBroker("/topic", "/queue");
+        }
+        // decouples the publisher (live session mailbox) from the fan-out to all subscribers
+        registry.configureBrokerChannel().taskExecutor()
+                .corePoolSize(brokerThreads)
+                .maxPoolSize(brokerThreads)
+                .queueCapacity(brokerQueueCapacity);
+        // messages to one client stay in order although the outbound channel has several threads
+        registry.setPreservePublishOrder(true);
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user");
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-inbound-"));
+            return;
+        }
+        int threads = threads(inboundThreads);
+        registration.taskExecutor()
+                .corePoolSize(threads)
+                .maxPoolSize(threads)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-outbound-"));
+            return;
+        }
+        int threads = threads(outboundThreads);
+        registration.taskExecutor()
+                .corePoolSize(threads)
+                .maxPoolSize(threads)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+
+        // Sessions over the send limits are closed with SESSION_NOT_RELIABLE
+        Counter dropped = Counter.builder("websocket.sessions.dropped")
+                .description("WebSocket sessions closed because they could not keep up with outbound messages")
+                .register(meterRegistry);
+        registration.addDecoratorFactory(handler -> new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                if (CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+                    dropped.increment();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        });
+    }
+
+    private static int threads(int configured) {
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors() * 2;
+    }
 }
@@ -1,12 +1,9 @@
 package com.iubh.quizbackend.config;
 
-import com.iubh.quizbackend.api.controller.WebSocketController;
-import com.iubh.quizbackend.entity.module.Module;
 import com.iubh.quizbackend.entity.user.User;
-import com.iubh.quizbackend.repository.ModuleRepository;
 import com.iubh.quizbackend.repository.QuizLobbyRepository;
-import com.iubh.quizbackend.repository.UserRepository;
-import com.iubh.quizbackend.service.ActiveUserStore;
+import com.iubh.quizbackend.service.LobbyDirectory;
+import com.iubh.quizbackend.service.PresenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -26,13 +23,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class WebSocketEventListener {
 
-    private final ActiveUserStore activeUserStore;
-    private final WebSocketController webSocketController;
-    private final UserRepository userRepository;
-    private final ModuleRepository moduleRepository;
+    private final PresenceService presenceService;
     private final QuizLobbyRepository lobbyRepository;
+    private final LobbyDirectory lobbyDirectory;
 
-    @Transactional(readOnly = true)
     @EventListener
     public void handleWebSocketSubscribeListener(SessionSubscribeEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
@@ -52,14 +46,7 @@ public class WebSocketEventListener {
             String sessionId = headerAccessor.getSessionId();
 
             log.info("User {} is now online (Session: {}).", currentUser.getEmail(), sessionId);
-            activeUserStore.addUser(sessionId, currentUser.getId());
-
-
-
-            List<Module> followedModules = moduleRepository.findModulesFollowedByUserId(currentUser.getId());
-            for (Module followedModule : followedModules) {
-                webSocketController.broadcastUpdate(followedModule.getId());
-            }
+            presenceService.connected(sessionId, currentUser);
         }
     }
 
@@ -68,18 +55,16 @@ public class WebSocketEventListener {
 
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         String sessionId = event.getSessionId();
-        UUID removedUserId = activeUserStore.removeUser(sessionId);
+        UUID removedUserId = presenceService.disconnected(sessionId);
 
         if (removedUserId != null) {
             log.info("User with ID {} disconnected.", removedUserId);
 
-            // --- APPLY THE SAME FIX HERE for consistency and safety ---
-            List<Module> followedModules = moduleRepository.findModulesFollowedByUserId(removedUserId);
-
-            lobbyRepository.cancelWaitingLobbiesByHostId(removedUserId);
-
-            for (Module followedModule : followedModules) {
-                webSocketController.broadcastUpdate(followedModule.getId());
+            // Cancel by id, so the directory learns exactly which lobbies were cancelled
+            List<UUID> lobbyIds = lobbyRepository.findWaitingLobbyIdsByHostId(removedUserId);
+            if (!lobbyIds.isEmpty()) {
+                lobbyRepository.cancelWaitingLobbies(lobbyIds);
+                lobbyDirectory.lobbiesCancelled(lobbyIds);
             }
         }
     }
@@ -0,0 +1,129 @@
+package com.iubh.quizbackend.config.migration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iubh.quizbackend.entity.quiz.AnswerOrder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Converts answer orders stored as JSON arrays of answer ids (session_questions.answer_order_json,
+ * quiz_items.shuffled_answer_order) into the compact {@link AnswerOrder} column.
+ * <p>
+ * Runs on every startup and only touches rows that still have a legacy value, so it is a no-op once
+ * all rows are converted. The NOT NULL on the legacy column is dropped only while the schema still has it.
+ * Rows are converted in batches, each in its own transaction; the legacy
+ * value is cleared in the same update so the old TEXT payload no longer takes up space.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnswerOrderMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager txManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // The legacy column used to be NOT NULL; ddl-auto=update never relaxes that on its own
+        relaxNotNull("session_questions", "answer_order_json");
+
+        int sessionQuestions = migrate("session_questions", "answer_order_json");
+        int quizItems = migrate("quiz_items", "shuffled_answer_order");
+        if (sessionQuestions + quizItems > 0) {
+            log.info("Converted legacy answer orders: {} session questions, {} quiz items.", sessionQuestions, quizItems);
+        }
+    }
+
+    private void relaxNotNull(String table, String column) {
+        if (!isNotNull(table, column)) {
+            return;
+        }
+        jdbcTemplate.execute("alter table " + table + " alter column " + column + " drop not null");
+        log.info("Dropped NOT NULL on legacy column {}.{}.", table, column);
+    }
+
+    /** True only while the column exists and is still NOT NULL, so the ALTER runs once per database. */
+    private boolean isNotNull(String table, String column) {
+        List<String> nullable = jdbcTemplate.queryForList(
+                "select is_nullable from information_schema.columns"
+                        + " where lower(table_name) = ? and lower(column_name) = ? and table_schema = current_schema",
+                String.class, table, column);
+        return nullable.stream().anyMatch("NO"::equalsIgnoreCase);
+    }
+
+    private int migrate(String table, String legacyColumn) {
+        TransactionTemplate txTemplate = new TransactionTemplate(txManager);
+        int total = 0;
+        while (true) {
+            Integer converted = txTemplate.execute(status -> migrateBatch(table, legacyColumn));
+            if (converted == null || converted == 0) {
+                return total;
+            }
+            total += converted;
+        }
+    }
+
+    private int migrateBatch(String table, String legacyColumn) {
+        List<LegacyRow> rows = jdbcTemplate.query(
+                "select id, question_id, " + legacyColumn + " from " + table
+                        + " where answer_order is null and " + legacyColumn + " is not null limit ?",
+                (rs, i) -> new LegacyRow(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("question_id", UUID.class),
+                        rs.getString(legacyColumn)),
+                BATCH_SIZE);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, List<UUID>> answerIdsByQuestion = answerIds(rows.stream().map(LegacyRow::questionId).distinct().toList());
+
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        for (LegacyRow row : rows) {
+            List<UUID> answerIds = answerIdsByQuestion.getOrDefault(row.questionId(), List.of());
+            AnswerOrder order = AnswerOrder.ofIds(parse(table, row), answerIds);
+            updates.add(new Object[]{order.toBytes(), row.id()});
+        }
+        jdbcTemplate.batchUpdate(
+                "update " + table + " set answer_order = ?, " + legacyColumn + " = null where id = ?",
+                updates);
+        return rows.size();
+    }
+
+    private Map<UUID, List<UUID>> answerIds(List<UUID> questionIds) {
+        Map<UUID, List<UUID>> result = new HashMap<>();
+        new NamedParameterJdbcTemplate(jdbcTemplate).query(
+                "select id, question_id from answers where question_id in (:questionIds)",
+                new MapSqlParameterSource("questionIds", questionIds),
+                rs -> {
+                    result.computeIfAbsent(rs.getObject("question_id", UUID.class), k -> new ArrayList<>())
+                            .add(rs.getObject("id", UUID.class));
+                });
+        return result;
+    }
+
+    private List<UUID> parse(String table, LegacyRow row) {
+        try {
+            return Arrays.asList(objectMapper.readValue(row.json(), UUID[].class));
+        } catch (Exception e) {
+            // Unreadable order: keep the row usable with the canonical order instead of retrying forever
+            log.warn("Malformed legacy answer order in {} row {}; falling back to canonical order.", table, row.id());
+            return List.of();
+        }
+    }
+
+    private record LegacyRow(UUID id, UUID questionId, String json) {}
+}
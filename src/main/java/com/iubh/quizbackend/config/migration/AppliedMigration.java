@@ -0,0 +1,33 @@
+package com.iubh.quizbackend.config.migration;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marker row of a one-time data migration. The primary key on the name makes a second node that
+ * tries to claim the same migration wait for the first one's transaction and then fail, so a
+ * migration that writes its marker in the same transaction runs exactly once per database.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "applied_migrations")
+@EqualsAndHashCode(of = "name")
+@ToString
+public class AppliedMigration {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,56 @@
+package com.iubh.quizbackend.config.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills the question_change_counts table from the change requests created before the counters existed.
+ * <p>
+ * Only runs while the counter table is still empty; afterwards the counters are maintained by
+ * {@code ChangeRequestCountsService}. The per-type counts are the same as the subqueries
+ * previously mapped on {@code ChoiceQuestion}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeCountsBackfill implements ApplicationRunner {
+
+    private static final String BACKFILL = """
+            insert into question_change_counts
+                   (question_id, total, question_text_change, answer_change, duplication_change, deletion_request, pending)
+            select qcr.question_id,
+                   count(*),
+                   sum(case when qcr.request_type = 'INCORRECT_QUESTION_TEXT' then 1 else 0 end),
+                   sum(case when qcr.request_type = 'INCORRECT_ANSWER' then 1 else 0 end),
+                   sum(case when qcr.request_type = 'DUPLICATE_QUESTION' then 1 else 0 end),
+                   sum(case when qcr.request_type = 'SUGGEST_DELETION' then 1 else 0 end),
+                   sum(case when qcr.status = 'PENDING' then 1 else 0 end)
+              from question_change_requests qcr
+             group by qcr.question_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager txManager;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        new TransactionTemplate(txManager).executeWithoutResult(status -> backfill());
+    }
+
+    private void backfill() {
+        Long existing = jdbcTemplate.queryForObject("select count(*) from question_change_counts", Long.class);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        int inserted = jdbcTemplate.update(BACKFILL);
+        if (inserted > 0) {
+            log.info("Backfilled change request counters for {} questions.", inserted);
+        }
+    }
+}
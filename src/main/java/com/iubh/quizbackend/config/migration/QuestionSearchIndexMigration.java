@@ -0,0 +1,58 @@
+package com.iubh.quizbackend.config.migration;
+
+import com.iubh.quizbackend.service.QuestionSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the full-text search column ({@code choice_questions.search_vector}) and its GIN index on
+ * PostgreSQL, indexes all questions without a vector and then enables full-text search in
+ * {@link QuestionSearchService}.
+ * <p>
+ * Runs once the application is ready, so questions inserted by the seeders are included. The column is
+ * not mapped on the entity, so ddl-auto never touches it. On other databases (H2 in tests), when disabled
+ * or when the setup fails, full-text search stays off and question search uses the substring query.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuestionSearchIndexMigration {
+
+    private static final String SETUP_COLUMN = "ALTER TABLE choice_questions ADD COLUMN IF NOT EXISTS search_vector tsvector";
+    private static final String SETUP_INDEX = "CREATE INDEX IF NOT EXISTS ix_choice_questions_search ON choice_questions USING gin (search_vector)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QuestionSearchService questionSearchService;
+
+    @Value("${application.question-search.full-text.enabled:true}")
+    private boolean fullTextEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        if (!fullTextEnabled) {
+            return;
+        }
+        try {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            if (!"PostgreSQL".equalsIgnoreCase(database)) {
+                log.info("Full-text question search is not available on {}, using substring search.", database);
+                return;
+            }
+            jdbcTemplate.execute(SETUP_COLUMN);
+            jdbcTemplate.execute(SETUP_INDEX);
+            int indexed = questionSearchService.indexMissing();
+            if (indexed > 0) {
+                log.info("Indexed {} questions for full-text search.", indexed);
+            }
+            questionSearchService.enableFullText();
+        } catch (RuntimeException e) {
+            log.warn("Setting up full-text question search failed, using substring search: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.iubh.quizbackend.config.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Fills the user_module_daily_stats rollup from the quizzes completed before the rollup existed.
+ * <p>
+ * Runs once all beans are created and before the web server is started, so no quiz of this node
+ * is finished while it runs; afterwards the rollup is maintained by {@code QuizService.finishQuiz}.
+ * The backfill writes its {@link AppliedMigration} marker in the same transaction, so of several
+ * nodes starting together only one backfills and the others skip once it has committed.
+ * <p>
+ * Rows are merged into existing rollup rows instead of being inserted blindly. The per-quiz
+ * aggregation is the same as the statistics query used before the rollup, so the numbers do not change.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsRollupBackfill implements SmartInitializingSingleton {
+
+    static final String MIGRATION = "statistics-rollup-backfill";
+
+    private static final String COMPLETED_QUIZZES = """
+            select q.user_id, q.module_id, q.completed_at,
+                   sum(case when qi.is_correct = true then 1 else 0 end) as correct,
+                   count(qi.id) as answered
+              from quizzes q
+              join quiz_items qi on qi.quiz_id = q.id
+             where q.status = 'COMPLETED'
+               and q.completed_at is not null
+             group by q.id, q.user_id, q.module_id, q.completed_at
+            """;
+
+    private static final String MERGE_ROLLUP = """
+            update user_module_daily_stats
+               set quizzes = quizzes + ?,
+                   correct_count = correct_count + ?,
+                   answered_count = answered_count + ?,
+                   score_sum = score_sum + ?
+             where user_id = ?
+               and module_id = ?
+               and stats_day = ?
+            """;
+
+    private static final String INSERT_ROLLUP = """
+            insert into user_module_daily_stats (id, user_id, module_id, stats_day, quizzes, correct_count, answered_count, score_sum)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager txManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Long applied = jdbcTemplate.queryForObject(
+                "select count(*) from applied_migrations where name = ?", Long.class, MIGRATION);
+        if (applied != null && applied > 0) {
+            return;
+        }
+        try {
+            new TransactionTemplate(txManager).executeWithoutResult(status -> backfill());
+        } catch (DuplicateKeyException e) {
+            log.info("Daily statistics backfill was done by another node.");
+        }
+    }
+
+    private void backfill() {
+        // Blocks while another node holds the marker uncommitted, fails once it has committed
+        jdbcTemplate.update("insert into applied_migrations (name, applied_at) values (?, ?)",
+                MIGRATION, LocalDateTime.now());
+
+        Map<Key, Rollup> rollups = new HashMap<>();
+        jdbcTemplate.query(COMPLETED_QUIZZES, rs -> {
+            long correct = rs.getLong("correct");
+            long answered = rs.getLong("answered");
+            Key key = new Key(
+                    rs.getObject("user_id", UUID.class),
+                    rs.getObject("module_id", UUID.class),
+                    rs.getTimestamp("completed_at").toLocalDateTime().toLocalDate());
+            Rollup rollup = rollups.computeIfAbsent(key, k -> new Rollup());
+            rollup.quizzes++;
+            rollup.correct += correct;
+            rollup.answered += answered;
+            rollup.scoreSum += correct * 100.0 / answered;
+        });
+        if (rollups.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Key, Rollup>> entries = new ArrayList<>(rollups.entrySet());
+        int[] merged = jdbcTemplate.batchUpdate(MERGE_ROLLUP, entries.stream()
+                .map(e -> new Object[]{
+                        e.getValue().quizzes, e.getValue().correct, e.getValue().answered, e.getValue().scoreSum,
+                        e.getKey().userId(), e.getKey().moduleId(), e.getKey().day()
+                })
+                .toList());
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (merged[i] == 0) {
+                Key key = entries.get(i).getKey();
+                Rollup rollup = entries.get(i).getValue();
+                inserts.add(new Object[]{
+                        UUID.randomUUID(), key.userId(), key.moduleId(), key.day(),
+                        rollup.quizzes, rollup.correct, rollup.answered, rollup.scoreSum
+                });
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ROLLUP, inserts);
+        }
+        log.info("Backfilled {} daily statistics rows from completed quizzes.", entries.size());
+    }
+
+    private record Key(UUID userId, UUID moduleId, LocalDate day) {}
+
+    private static final class Rollup {
+        private int quizzes;
+        private long correct;
+        private long answered;
+        private double scoreSum;
+    }
+}
@@ -0,0 +1,46 @@
+package com.iubh.quizbackend.config.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills the approve_count/reject_count columns of question_change_requests from the votes cast
+ * before the counters existed.
+ * <p>
+ * Only rows whose counters differ from the vote table are written, so after the first start this
+ * is a no-op; afterwards the counters are maintained by {@code QuestionChangeService.voteForChangeRequest}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VoteCounterBackfill implements ApplicationRunner {
+
+    private static final String BACKFILL = """
+            update question_change_requests
+               set approve_count = (select count(*) from change_request_votes v
+                                     where v.change_request_id = question_change_requests.id and v.vote_type = 'APPROVE'),
+                   reject_count = (select count(*) from change_request_votes v
+                                    where v.change_request_id = question_change_requests.id and v.vote_type = 'REJECT')
+             where approve_count <> (select count(*) from change_request_votes v
+                                      where v.change_request_id = question_change_requests.id and v.vote_type = 'APPROVE')
+                or reject_count <> (select count(*) from change_request_votes v
+                                     where v.change_request_id = question_change_requests.id and v.vote_type = 'REJECT')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager txManager;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer updated = new TransactionTemplate(txManager).execute(status -> jdbcTemplate.update(BACKFILL));
+        if (updated != null && updated > 0) {
+            log.info("Backfilled vote counters of {} change requests.", updated);
+        }
+    }
+}
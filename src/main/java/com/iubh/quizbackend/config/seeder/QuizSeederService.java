@@ -8,6 +8,7 @@ import com.iubh.quizbackend.entity.quiz.QuizItem;
 import com.iubh.quizbackend.entity.quiz.QuizStatus;
 import com.iubh.quizbackend.entity.user.User;
 import com.iubh.quizbackend.repository.QuizRepository;
+import com.iubh.quizbackend.service.StatisticsRollupService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -21,6 +22,7 @@ import java.util.Set;
 public class QuizSeederService {
 
     private final QuizRepository quizRepository;
+    private final StatisticsRollupService statisticsRollupService;
 
     public void seedQuizzes(User user, List<Module> modules) {
         if (modules.isEmpty()) return;
@@ -59,5 +61,8 @@ public class QuizSeederService {
             quizzesToSave.add(inProgressQuiz);
         }
         quizRepository.saveAll(quizzesToSave);
+        quizzesToSave.stream()
+                .filter(quiz -> quiz.getStatus() == QuizStatus.COMPLETED)
+                .forEach(statisticsRollupService::recordCompletedQuiz);
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.iubh.quizbackend.entity.change;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Pre-aggregated number of change requests per question and request type.
+ * Maintained by {@code ChangeRequestCountsService} whenever a request is created or resolved,
+ * so loading a question never has to count its change requests.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "question_change_counts")
+@EqualsAndHashCode(of = "questionId")
+@ToString
+public class QuestionChangeCounts {
+
+    @Id
+    @Column(name = "question_id")
+    private UUID questionId;
+
+    /** Number of change requests of any type and status. */
+    @Column(name = "total", nullable = false)
+    private int total;
+
+    @Column(name = "question_text_change", nullable = false)
+    private int questionTextChange;
+
+    @Column(name = "answer_change", nullable = false)
+    private int answerChange;
+
+    @Column(name = "duplication_change", nullable = false)
+    private int duplicationChange;
+
+    @Column(name = "deletion_request", nullable = false)
+    private int deletionRequest;
+
+    /** Number of change requests that are still open for voting. */
+    @Column(name = "pending", nullable = false)
+    private int pending;
+}
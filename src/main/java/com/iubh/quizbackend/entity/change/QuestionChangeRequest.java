@@ -4,6 +4,7 @@ import com.iubh.quizbackend.entity.question.ChoiceQuestion;
 import com.iubh.quizbackend.entity.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Formula;
 
@@ -61,6 +62,21 @@ public abstract class QuestionChangeRequest {
     @OneToMany(mappedBy = "changeRequest", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ChangeRequestVote> votes = new HashSet<>();
 
+    /**
+     * Number of APPROVE votes. Denormalized counter: only changed through
+     * {@code QuestionChangeRequestRepository.addVote}, never by saving the entity.
+     */
+    @ColumnDefault("0")
+    @Column(name = "approve_count", nullable = false, updatable = false)
+    private int approveCount = 0;
+
+    /**
+     * Number of REJECT votes, see {@link #approveCount}.
+     */
+    @ColumnDefault("0")
+    @Column(name = "reject_count", nullable = false, updatable = false)
+    private int rejectCount = 0;
+
     public void addVote(ChangeRequestVote vote) {
         this.votes.add(vote);
         vote.setChangeRequest(this);
@@ -5,7 +5,7 @@ import com.iubh.quizbackend.entity.question.ChoiceQuestion;
 import com.iubh.quizbackend.entity.user.User;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -47,13 +47,23 @@ public class Module {
     @JsonIgnore // Ignore during serialization to prevent fetching a potentially large list
     private Set<ChoiceQuestion> questions = new HashSet<>();
 
-    @Formula("(select count(q.id) from choice_questions q where q.module_id = id and q.active = true)")
-    private int numberOfChoiceQuestions;
-
-
+    /**
+     * Number of active questions. Denormalized counter: only changed through
+     * {@code ModuleRepository.adjustQuestionCount} and the periodic reconciliation,
+     * never by saving the entity.
+     */
+    @ColumnDefault("0")
+    @Column(name = "question_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int numberOfChoiceQuestions = 0;
 
-    @Formula("(select count(ufm.user_id) from user_followed_modules ufm where ufm.module_id = id)")
-    private int likeCount;
+    /**
+     * Number of followers. Denormalized counter, see {@link #numberOfChoiceQuestions}.
+     */
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int likeCount = 0;
 
     // @OneToMany(mappedBy = "module", cascade = CascadeType.ALL, orphanRemoval = true)
     // private List<Quiz> quizzes = new ArrayList<>();
@@ -5,7 +5,6 @@ import com.iubh.quizbackend.entity.change.QuestionChangeRequest;
 import com.iubh.quizbackend.entity.module.Module;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.Formula;
 
 import java.util.*;
 
@@ -55,12 +54,6 @@ public class ChoiceQuestion {
     @JsonManagedReference
     private Set<Answer> answers = new HashSet<>();
 
-//    @Builder.Default
-//    @Embedded
-//    private ChangeRequestCounts changeRequestCounts = new ChangeRequestCounts();
-
-
-
     public void addAnswer(Answer answer) {
         this.answers.add(answer);
         answer.setQuestion(this);
@@ -90,50 +83,4 @@ public class ChoiceQuestion {
         return correctAnswersCount > 1 ? ChoiceQuestionType.MULTI : ChoiceQuestionType.SINGLE;
     }
 
-    @Formula("(select count(qcr.id) from question_change_requests qcr where qcr.question_id = id )")
-    private int totalChangeRequests;
-
-    @Formula("(select count(qcr.id) from question_change_requests qcr where qcr.question_id = id and qcr.request_type = 'INCORRECT_QUESTION_TEXT')")
-    private int questionTextChangeRequests;
-
-    @Formula("(select count(qcr.id) from question_change_requests qcr where qcr.question_id = id and qcr.request_type = 'INCORRECT_ANSWER')")
-    private int answerChangeRequests;
-
-    @Formula("(select count(qcr.id) from question_change_requests qcr where qcr.question_id = id and qcr.request_type = 'DUPLICATE_QUESTION')")
-    private int duplicationChangeRequests;
-
-    @Formula("(select count(qcr.id) from question_change_requests qcr where qcr.question_id = id and qcr.request_type = 'SUGGEST_DELETION')")
-    private int deletionRequests;
-
-//
-//    @Embeddable
-//    @Getter
-//    @Setter
-//    @Builder
-//    @NoArgsConstructor
-//    @AllArgsConstructor
-//    public static class ChangeRequestCounts {
-//
-//        @Column(name = "total")
-//        @Formula("(select count(qcr.id) from question_change_requests qcr where qcr.question_id = id)")
-//        private int total;
-//
-//
-//        @Column(name = "question_text_change")
-//        @Formula("(select count(qcr.id) from question_change_requests qcr where qcr.question_id = id and qcr.request_type = 'INCORRECT_QUESTION_TEXT')")
-//        private int questionTextChange;
-//
-//        @Column(name = "answer_change")
-//        @Formula("(select count(qcr.id) from question_change_requests qcr where qcr.question_id = id and qcr.request_type = 'INCORRECT_ANSWER')")
-//        private int answerChange;
-//
-//        @Column(name = "duplication_change")
-//        @Formula("(select count(qcr.id) from question_change_requests qcr where qcr.question_id = id and qcr.request_type = 'DUPLICATE_QUESTION')")
-//        private int duplicationChange;
-//
-//        @Column(name = "deletion_request")
-//        @Formula("(select count(qcr.id) from question_change_requests qcr where qcr.question_id = id and qcr.request_type = 'SUGGEST_DELETION')")
-//        private int deletionRequest;
-//    }
-
 }
@@ -0,0 +1,100 @@
+package com.iubh.quizbackend.entity.question;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Spaced-repetition state of one user for one question (Leitner system).
+ * <p>
+ * A correct answer moves the question one box up, a wrong answer back to box 0. The box decides
+ * when the question is due again. The row is updated incrementally on every first answer, so
+ * picking questions never has to look at the answer history.
+ * <p>
+ * The module id is stored redundantly so that all rows of a user in a module can be read from
+ * a single index ({@code user_id, module_id, due_at}).
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "question_mastery",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uq_question_mastery_user_question",
+                        columnNames = {"user_id", "question_id"}
+                )
+        },
+        indexes = {
+                @Index(name = "ix_question_mastery_user_module_due", columnList = "user_id,module_id,due_at")
+        }
+)
+@EqualsAndHashCode(of = "id")
+@ToString
+public class QuestionMastery {
+
+    /** Review interval per box; box 0 is due immediately. */
+    private static final Duration[] INTERVALS = {
+            Duration.ZERO,
+            Duration.ofDays(1),
+            Duration.ofDays(3),
+            Duration.ofDays(7),
+            Duration.ofDays(14),
+            Duration.ofDays(30)
+    };
+
+    public static final int MAX_BOX = INTERVALS.length - 1;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "question_id", nullable = false)
+    private UUID questionId;
+
+    @Column(name = "module_id", nullable = false)
+    private UUID moduleId;
+
+    @Column(name = "box", nullable = false)
+    private short box;
+
+    @Column(name = "correct_count", nullable = false)
+    private int correctCount;
+
+    @Column(name = "incorrect_count", nullable = false)
+    private int incorrectCount;
+
+    @Column(name = "due_at", nullable = false)
+    private Instant dueAt;
+
+    @Column(name = "last_answered_at")
+    private Instant lastAnsweredAt;
+
+    /**
+     * Applies one answer: promotes the question on a correct answer, demotes it to box 0 otherwise,
+     * and schedules the next review.
+     *
+     * @param correct    Whether the answer was correct.
+     * @param answeredAt When the answer was given.
+     */
+    public void record(boolean correct, Instant answeredAt) {
+        if (correct) {
+            correctCount++;
+            box = (short) Math.min(box + 1, MAX_BOX);
+        } else {
+            incorrectCount++;
+            box = 0;
+        }
+        lastAnsweredAt = answeredAt;
+        dueAt = answeredAt.plus(INTERVALS[box]);
+    }
+}
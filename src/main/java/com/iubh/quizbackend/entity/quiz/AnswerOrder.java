@@ -0,0 +1,127 @@
+package com.iubh.quizbackend.entity.quiz;
+
+import com.iubh.quizbackend.entity.question.Answer;
+
+import java.util.*;
+
+/**
+ * Compact, shuffled order of a question's answers.
+ * <p>
+ * The answers of a question are put into a canonical order (sorted by id); the order is then
+ * stored as a permutation of those positions, one byte per answer. Four answers take four bytes
+ * instead of a ~150 character JSON array of UUIDs, and reading the order needs no parsing.
+ * <p>
+ * If the answers of the question no longer match the stored permutation (e.g. an answer was
+ * removed), {@link #apply} falls back to the canonical order instead of failing.
+ */
+public final class AnswerOrder {
+
+    private static final Comparator<Answer> CANONICAL = Comparator.comparing(Answer::getId);
+
+    private final byte[] permutation;
+
+    private AnswerOrder(byte[] permutation) {
+        this.permutation = permutation;
+    }
+
+    /**
+     * Encodes the order of the given (already shuffled) answers.
+     *
+     * @param shuffled All answers of one question in the order they should be shown.
+     */
+    public static AnswerOrder of(List<Answer> shuffled) {
+        List<UUID> ids = shuffled.stream().map(Answer::getId).toList();
+        return ofIds(ids, ids);
+    }
+
+    /**
+     * Encodes an order given as answer ids, e.g. from the legacy JSON column.
+     * Ids that are not part of {@code answerIds} are ignored; answers missing from
+     * {@code orderedIds} are appended in canonical order.
+     */
+    public static AnswerOrder ofIds(List<UUID> orderedIds, Collection<UUID> answerIds) {
+        List<UUID> canonical = answerIds.stream().sorted().toList();
+        if (canonical.size() > 255) {
+            throw new IllegalArgumentException("A question can have at most 255 answers to be shuffled.");
+        }
+        Map<UUID, Integer> position = new HashMap<>();
+        for (int i = 0; i < canonical.size(); i++) {
+            position.put(canonical.get(i), i);
+        }
+
+        byte[] permutation = new byte[canonical.size()];
+        boolean[] used = new boolean[canonical.size()];
+        int next = 0;
+        for (UUID id : orderedIds) {
+            Integer pos = position.get(id);
+            if (pos == null || used[pos]) continue;
+            used[pos] = true;
+            permutation[next++] = (byte) (int) pos;
+        }
+        for (int pos = 0; pos < used.length; pos++) {
+            if (!used[pos]) permutation[next++] = (byte) pos;
+        }
+        return new AnswerOrder(permutation);
+    }
+
+    public static AnswerOrder fromBytes(byte[] bytes) {
+        return bytes == null ? null : new AnswerOrder(bytes.clone());
+    }
+
+    public byte[] toBytes() {
+        return permutation.clone();
+    }
+
+    public int size() {
+        return permutation.length;
+    }
+
+    /**
+     * Puts the answers of the question into the stored order.
+     *
+     * @param answers All answers of the question, in any order.
+     */
+    public List<Answer> apply(Collection<Answer> answers) {
+        List<Answer> canonical = canonical(answers);
+        if (canonical.size() != permutation.length) {
+            return canonical;
+        }
+        List<Answer> ordered = new ArrayList<>(permutation.length);
+        boolean[] used = new boolean[permutation.length];
+        for (byte b : permutation) {
+            int pos = Byte.toUnsignedInt(b);
+            if (pos >= canonical.size() || used[pos]) {
+                return canonical;
+            }
+            used[pos] = true;
+            ordered.add(canonical.get(pos));
+        }
+        return ordered;
+    }
+
+    /** The answers sorted by id – the order the permutation refers to. */
+    public static List<Answer> canonical(Collection<Answer> answers) {
+        List<Answer> sorted = new ArrayList<>(answers);
+        sorted.sort(CANONICAL);
+        return sorted;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof AnswerOrder other && Arrays.equals(permutation, other.permutation));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(permutation);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",", "AnswerOrder[", "]");
+        for (byte b : permutation) {
+            joiner.add(Integer.toString(Byte.toUnsignedInt(b)));
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.iubh.quizbackend.entity.quiz;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores an {@link AnswerOrder} as its raw permutation bytes (bytea / varbinary).
+ */
+@Converter
+public class AnswerOrderConverter implements AttributeConverter<AnswerOrder, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(AnswerOrder attribute) {
+        return attribute == null ? null : attribute.toBytes();
+    }
+
+    @Override
+    public AnswerOrder convertToEntityAttribute(byte[] dbData) {
+        return AnswerOrder.fromBytes(dbData);
+    }
+}
@@ -63,6 +63,11 @@ public class LiveQuizSession {
     @Column(name = "question_ends_at")
     private Instant questionEndsAt;
 
+    /** true in der Buffer-Phase nach dem Ende einer Frage ({@code questionEndsAt} ist dann das Buffer-Ende). */
+    @Builder.Default
+    @Column(name = "question_closed", nullable = false, columnDefinition = "boolean default false")
+    private boolean questionClosed = false;
+
     /** Sek. pro Frage (z. B. 30). */
     @Builder.Default
     @Column(name = "question_duration_sec", nullable = false)
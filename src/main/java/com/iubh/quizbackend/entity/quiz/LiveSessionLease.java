@@ -0,0 +1,42 @@
+package com.iubh.quizbackend.entity.quiz;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Besitz einer Live-Session im Cluster-Betrieb: genau ein Node hält die Lease, führt den
+ * In-Memory-Zustand und die Timer der Session. Andere Nodes leiten Antworten an
+ * {@link #ownerUrl} weiter. Läuft die Lease ab (Node ausgefallen), übernimmt ein anderer Node.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "live_session_leases",
+        indexes = @Index(name = "ix_live_session_lease_expires", columnList = "expires_at")
+)
+@EqualsAndHashCode(of = "sessionId")
+@ToString
+public class LiveSessionLease {
+
+    /** Soft-Referenz auf {@link LiveQuizSession} (wie {@code lobbyId}). */
+    @Id
+    @Column(name = "session_id")
+    private UUID sessionId;
+
+    @Column(name = "owner_node", nullable = false, length = 64)
+    private String ownerNode;
+
+    /** Basis-URL, unter der der Besitzer weitergeleitete Antworten annimmt. */
+    @Column(name = "owner_url")
+    private String ownerUrl;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -44,6 +44,18 @@ public class QuizItem {
     @JoinColumn(name = "selected_answer_id")
     private Answer selectedAnswer;
 
+    /**
+     * The shuffled order in which the answers are shown, stored as a compact permutation.
+     */
+    @Convert(converter = AnswerOrderConverter.class)
+    @Column(name = "answer_order", length = 64)
+    private AnswerOrder answerOrder;
+
+    /**
+     * Legacy JSON array of answer ids. Only read for rows that have not been converted
+     * by the {@code AnswerOrderMigration} yet.
+     */
+    @Deprecated
     @Column(name = "shuffled_answer_order", columnDefinition = "TEXT")
     private String shuffledAnswerOrder;
 
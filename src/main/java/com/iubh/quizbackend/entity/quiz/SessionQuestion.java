@@ -45,10 +45,16 @@ public class SessionQuestion {
     @JoinColumn(name = "question_id", nullable = false)
     private ChoiceQuestion question;
 
+    /** Reihenfolge der Antworten – für ALLE gleich (Permutation, ein Byte pro Antwort). */
+    @Convert(converter = AnswerOrderConverter.class)
+    @Column(name = "answer_order", length = 64)
+    private AnswerOrder answerOrder;
+
     /**
-     * Reihenfolge der Antworten – für ALLE gleich.
-     * Einfach als JSON (UUID-Array) ablegen, analog zu deinem QuizItem.
+     * Alte Ablage der Reihenfolge als JSON (UUID-Array). Wird nur noch für Zeilen gelesen,
+     * die die {@code AnswerOrderMigration} noch nicht umgestellt hat.
      */
-    @Column(name = "answer_order_json", columnDefinition = "TEXT", nullable = false)
+    @Deprecated
+    @Column(name = "answer_order_json", columnDefinition = "TEXT")
     private String answerOrderJson;
 }
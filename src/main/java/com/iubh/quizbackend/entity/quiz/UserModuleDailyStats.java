@@ -0,0 +1,64 @@
+package com.iubh.quizbackend.entity.quiz;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Pre-aggregated quiz results of one user in one module on one day.
+ * Maintained incrementally whenever a quiz is finished, so statistics never have to
+ * look at individual quiz items.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "user_module_daily_stats",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uq_daily_stats_user_module_day",
+                        columnNames = {"user_id", "module_id", "stats_day"}
+                )
+        },
+        indexes = {
+                @Index(name = "ix_daily_stats_user_day", columnList = "user_id,stats_day")
+        }
+)
+@EqualsAndHashCode(of = "id")
+@ToString
+public class UserModuleDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "module_id", nullable = false)
+    private UUID moduleId;
+
+    /** Column is not named "day": that is a reserved word in H2. */
+    @Column(name = "stats_day", nullable = false)
+    private LocalDate day;
+
+    /** Number of completed quizzes. */
+    @Column(name = "quizzes", nullable = false)
+    private int quizzes;
+
+    @Column(name = "correct_count", nullable = false)
+    private long correctCount;
+
+    /** Number of quiz items (questions) of the completed quizzes. */
+    @Column(name = "answered_count", nullable = false)
+    private long answeredCount;
+
+    /** Sum of the per-quiz scores in percent, used for the average score. */
+    @Column(name = "score_sum", nullable = false)
+    private double scoreSum;
+}
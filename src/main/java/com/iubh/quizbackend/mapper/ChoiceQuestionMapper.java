@@ -15,14 +15,10 @@ public interface ChoiceQuestionMapper {
 
     ChoiceQuestionMapper INSTANCE = Mappers.getMapper(ChoiceQuestionMapper.class);
 
-    // --- UPDATED MAPPINGS ---
-    // These mappings take the flat @Formula fields from the entity
-    // and map them to the nested DTO object.
-    @Mapping(source = "totalChangeRequests", target = "changeRequestCounts.total")
-    @Mapping(source = "questionTextChangeRequests", target = "changeRequestCounts.questionTextChange")
-    @Mapping(source = "answerChangeRequests", target = "changeRequestCounts.answerChange")
-    @Mapping(source = "duplicationChangeRequests", target = "changeRequestCounts.duplicationChange")
-    @Mapping(source = "deletionRequests", target = "changeRequestCounts.deletionRequest")
+    // The change request counters are not part of the question entity; views that show them
+    // load them in bulk via ChangeRequestCountsService and replace these zero counts.
+    @Mapping(target = "changeRequestCounts", expression = "java(new com.iubh.quizbackend.api.dto.ChangeRequestCountsDto())")
+    @Mapping(target = "possibleDuplicateIds", ignore = true)
     ChoiceQuestionDto toDto(ChoiceQuestion choiceQuestion);
 
 
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.iubh.quizbackend.api.dto.*;
 import com.iubh.quizbackend.entity.question.Answer;
+import com.iubh.quizbackend.entity.quiz.AnswerOrder;
 import com.iubh.quizbackend.entity.quiz.Quiz;
 import com.iubh.quizbackend.entity.quiz.QuizItem;
 import org.mapstruct.Mapper;
@@ -14,6 +15,8 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -41,14 +44,30 @@ public abstract class QuizMapper {
     protected abstract QuizAnswerDto answerToQuizAnswerDto(Answer answer);
 
     protected List<QuizAnswerDto> mapAndSortAnswers(QuizItem quizItem) {
+        return orderedAnswers(quizItem).stream()
+                .map(this::answerToQuizAnswerDto)
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("deprecation") // reads the legacy order of rows not yet migrated
+    private List<Answer> orderedAnswers(QuizItem quizItem) {
+        Set<Answer> answers = quizItem.getQuestion().getAnswers();
+        if (quizItem.getAnswerOrder() != null) {
+            return quizItem.getAnswerOrder().apply(answers);
+        }
+        if (quizItem.getShuffledAnswerOrder() == null) {
+            return AnswerOrder.canonical(answers);
+        }
+
+        // Legacy row that has not been migrated yet
         try {
             List<UUID> shuffledIds = objectMapper.readValue(quizItem.getShuffledAnswerOrder(), new TypeReference<>() {});
-            Map<UUID, Answer> originalAnswersMap = quizItem.getQuestion().getAnswers().stream()
+            Map<UUID, Answer> originalAnswersMap = answers.stream()
                     .collect(Collectors.toMap(Answer::getId, answer -> answer));
 
             return shuffledIds.stream()
                     .map(originalAnswersMap::get)
-                    .map(this::answerToQuizAnswerDto)
+                    .filter(Objects::nonNull)
                     .collect(Collectors.toList());
         } catch (IOException e) {
             System.err.println("Could not deserialize shuffled answer order for quiz item: " + quizItem.getId());
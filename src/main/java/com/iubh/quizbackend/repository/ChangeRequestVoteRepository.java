@@ -0,0 +1,16 @@
+package com.iubh.quizbackend.repository;
+
+import com.iubh.quizbackend.entity.change.ChangeRequestVote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ChangeRequestVoteRepository extends JpaRepository<ChangeRequestVote, UUID> {
+
+    /**
+     * Index lookup on the unique (change_request_id, voter_id) constraint.
+     */
+    boolean existsByChangeRequest_IdAndVoter_Id(UUID changeRequestId, UUID voterId);
+}
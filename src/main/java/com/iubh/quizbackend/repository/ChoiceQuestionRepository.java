@@ -1,6 +1,8 @@
 package com.iubh.quizbackend.repository;
 
 import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.repository.projection.QuestionModuleRow;
+import com.iubh.quizbackend.repository.projection.QuestionTextRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -81,14 +84,63 @@ public interface ChoiceQuestionRepository extends JpaRepository<ChoiceQuestion,
                                              @Param("limit") int limit);
 
 
+    /**
+     * Returns the IDs of all active questions of a module (used to build the in-memory question pool).
+     */
+    @Query("SELECT q.id FROM ChoiceQuestion q WHERE q.module.id = :moduleId AND q.active = true")
+    List<UUID> findActiveIdsByModuleId(@Param("moduleId") UUID moduleId);
+
+    /**
+     * Loads the given questions, if still active, together with their answers in a single query.
+     */
+    @Query("SELECT DISTINCT q FROM ChoiceQuestion q LEFT JOIN FETCH q.answers WHERE q.id IN :ids AND q.active = true")
+    List<ChoiceQuestion> findActiveWithAnswersByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Loads questions (active or not) together with their module and answers in a single query.
+     */
+    @Query("SELECT DISTINCT q FROM ChoiceQuestion q JOIN FETCH q.module LEFT JOIN FETCH q.answers WHERE q.id IN :ids")
+    List<ChoiceQuestion> findWithModuleAndAnswersByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Full-text search over the active questions of a module, ranked by relevance (PostgreSQL only,
+     * see {@code QuestionSearchService}).
+     *
+     * @param tsQuery A tsquery in {@code to_tsquery('simple', ...)} syntax.
+     */
+    @Query(value = """
+            SELECT q.* FROM choice_questions q
+             WHERE q.module_id = :moduleId
+               AND q.active = true
+               AND q.search_vector @@ to_tsquery('simple', :tsQuery)
+             ORDER BY ts_rank(q.search_vector, to_tsquery('simple', :tsQuery)) DESC, q.id
+            """,
+            countQuery = """
+            SELECT count(*) FROM choice_questions q
+             WHERE q.module_id = :moduleId
+               AND q.active = true
+               AND q.search_vector @@ to_tsquery('simple', :tsQuery)
+            """,
+            nativeQuery = true)
+    Page<ChoiceQuestion> searchActiveByModule(@Param("moduleId") UUID moduleId,
+                                              @Param("tsQuery") String tsQuery,
+                                              Pageable pageable);
+
+    /**
+     * Question and answer texts of all active questions of a module, one row per answer.
+     */
     @Query("""
-       select q
-         from ChoiceQuestion q
-        where q.module.id = :moduleId
-          and q.active = true
-        order by function('RANDOM')
-       """)
-    Page<ChoiceQuestion> pickRandomByModule(UUID moduleId, Pageable pageable);
+            SELECT q.id AS questionId, q.questionText AS questionText, a.text AS answerText
+              FROM ChoiceQuestion q LEFT JOIN q.answers a
+             WHERE q.module.id = :moduleId AND q.active = true
+            """)
+    List<QuestionTextRow> findActiveTextsByModuleId(@Param("moduleId") UUID moduleId);
+
+    /**
+     * Resolves the module of each given question.
+     */
+    @Query("SELECT q.id AS questionId, q.module.id AS moduleId FROM ChoiceQuestion q WHERE q.id IN :ids")
+    List<QuestionModuleRow> findModuleIdsByIdIn(@Param("ids") Collection<UUID> ids);
 
 
 }
\ No newline at end of file
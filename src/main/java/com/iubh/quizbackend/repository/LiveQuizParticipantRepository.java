@@ -20,6 +20,16 @@ public interface LiveQuizParticipantRepository extends JpaRepository<LiveQuizPar
 
     long countBySession_Id(UUID sessionId);
 
+    // Teilnehmer inkl. User/Profil (Hydration der Live-Engine), in Beitrittsreihenfolge
+    @Query("""
+           select p
+             from LiveQuizParticipant p
+             join fetch p.user
+            where p.session.id = :sessionId
+            order by p.joinedAt asc
+           """)
+    List<LiveQuizParticipant> findRosterBySessionId(@Param("sessionId") UUID sessionId);
+
     // Leaderboard: sortiert nach Score desc, optional später by name/tie-breaker
     List<LiveQuizParticipant> findBySession_IdOrderByScoreDesc(UUID sessionId);
 
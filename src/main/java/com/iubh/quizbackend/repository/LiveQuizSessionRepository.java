@@ -22,7 +22,8 @@ public interface LiveQuizSessionRepository extends JpaRepository<LiveQuizSession
     @Query("""
            update LiveQuizSession s
               set s.currentIndex = :newIndex,
-                  s.questionEndsAt = :endsAt
+                  s.questionEndsAt = :endsAt,
+                  s.questionClosed = true
             where s.id = :sessionId
            """)
     int updateIndexAndEndsAt(@Param("sessionId") UUID sessionId,
@@ -37,4 +38,18 @@ public interface LiveQuizSessionRepository extends JpaRepository<LiveQuizSession
            """)
     int updateStatus(@Param("sessionId") UUID sessionId,
                      @Param("status") SessionStatus status);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update LiveQuizSession s
+              set s.status = :status,
+                  s.currentIndex = :newIndex,
+                  s.questionEndsAt = :endsAt,
+                  s.questionClosed = false
+            where s.id = :sessionId
+           """)
+    int updateProgress(@Param("sessionId") UUID sessionId,
+                       @Param("status") SessionStatus status,
+                       @Param("newIndex") int newIndex,
+                       @Param("endsAt") java.time.Instant endsAt);
 }
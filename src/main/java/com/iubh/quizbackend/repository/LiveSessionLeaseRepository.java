@@ -0,0 +1,93 @@
+package com.iubh.quizbackend.repository;
+
+import com.iubh.quizbackend.entity.quiz.LiveSessionLease;
+import com.iubh.quizbackend.entity.quiz.SessionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface LiveSessionLeaseRepository extends JpaRepository<LiveSessionLease, UUID> {
+
+    /** Übernimmt bzw. verlängert eine Lease, die diesem Node gehört oder abgelaufen ist. */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update LiveSessionLease l
+              set l.ownerNode = :node,
+                  l.ownerUrl = :url,
+                  l.expiresAt = :expiresAt
+            where l.sessionId = :sessionId
+              and (l.ownerNode = :node or l.expiresAt < :now)
+           """)
+    int claim(@Param("sessionId") UUID sessionId,
+              @Param("node") String node,
+              @Param("url") String url,
+              @Param("now") Instant now,
+              @Param("expiresAt") Instant expiresAt);
+
+    /** Legt die Lease an; existiert sie bereits, schlägt der Primärschlüssel fehl. */
+    @Modifying
+    @Query(value = """
+           insert into live_session_leases (session_id, owner_node, owner_url, expires_at)
+           values (:sessionId, :node, :url, :expiresAt)
+           """, nativeQuery = true)
+    int insert(@Param("sessionId") UUID sessionId,
+               @Param("node") String node,
+               @Param("url") String url,
+               @Param("expiresAt") Instant expiresAt);
+
+    /** Verlängert die Lease nur, solange sie noch diesem Node gehört. */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update LiveSessionLease l
+              set l.expiresAt = :expiresAt
+            where l.sessionId = :sessionId
+              and l.ownerNode = :node
+           """)
+    int renew(@Param("sessionId") UUID sessionId,
+              @Param("node") String node,
+              @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Sperrt die Lease bis zum Ende der laufenden Transaktion, sofern sie diesem Node gehört und
+     * nicht abgelaufen ist. Eine gleichzeitige Übernahme ({@link #claim}) wartet auf den Commit.
+     *
+     * @return 1, wenn die Lease gehalten wird, sonst 0.
+     */
+    @Modifying
+    @Query("""
+           update LiveSessionLease l
+              set l.expiresAt = l.expiresAt
+            where l.sessionId = :sessionId
+              and l.ownerNode = :node
+              and l.expiresAt > :now
+           """)
+    int lockIfHeld(@Param("sessionId") UUID sessionId,
+                   @Param("node") String node,
+                   @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from LiveSessionLease l where l.sessionId = :sessionId and l.ownerNode = :node")
+    int release(@Param("sessionId") UUID sessionId, @Param("node") String node);
+
+    Optional<LiveSessionLease> findBySessionIdAndExpiresAtAfter(UUID sessionId, Instant now);
+
+    /** Aktive Sessions ohne gültige Lease, z. B. weil ihr Node ausgefallen ist. */
+    @Query("""
+           select s.id
+             from LiveQuizSession s
+            where s.status in :statuses
+              and not exists (select l.sessionId from LiveSessionLease l
+                               where l.sessionId = s.id and l.expiresAt > :now)
+           """)
+    List<UUID> findOrphanedSessionIds(@Param("statuses") Collection<SessionStatus> statuses,
+                                      @Param("now") Instant now);
+}
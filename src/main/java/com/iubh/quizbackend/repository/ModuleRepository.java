@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -32,4 +33,39 @@ public interface ModuleRepository extends JpaRepository<Module, UUID>, JpaSpecif
      */
     @Query("SELECT m FROM Module m JOIN m.followers u WHERE u.id = :userId")
     List<Module> findModulesFollowedByUserId(@Param("userId") UUID userId);
+
+    /**
+     * IDs of the modules a user follows, without loading the modules.
+     */
+    @Query("SELECT m.id FROM Module m JOIN m.followers u WHERE u.id = :userId")
+    List<UUID> findFollowedModuleIdsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Adjusts the denormalized follower counter of a module.
+     */
+    @Modifying
+    @Query("UPDATE Module m SET m.likeCount = m.likeCount + :delta WHERE m.id = :moduleId")
+    int adjustLikeCount(@Param("moduleId") UUID moduleId, @Param("delta") int delta);
+
+    /**
+     * Adjusts the denormalized active-question counter of a module.
+     */
+    @Modifying
+    @Query("UPDATE Module m SET m.numberOfChoiceQuestions = m.numberOfChoiceQuestions + :delta WHERE m.id = :moduleId")
+    int adjustQuestionCount(@Param("moduleId") UUID moduleId, @Param("delta") int delta);
+
+    /**
+     * Recomputes both counters of all modules from the source tables; only rows that drifted are written.
+     *
+     * @return The number of corrected modules.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE modules
+               SET like_count = (SELECT COUNT(*) FROM user_followed_modules ufm WHERE ufm.module_id = modules.id),
+                   question_count = (SELECT COUNT(*) FROM choice_questions q WHERE q.module_id = modules.id AND q.active = true)
+             WHERE like_count <> (SELECT COUNT(*) FROM user_followed_modules ufm WHERE ufm.module_id = modules.id)
+                OR question_count <> (SELECT COUNT(*) FROM choice_questions q WHERE q.module_id = modules.id AND q.active = true)
+            """, nativeQuery = true)
+    int reconcileCounters();
 }
\ No newline at end of file
@@ -52,4 +52,13 @@ public interface ParticipantAnswerRepository extends JpaRepository<ParticipantAn
                             @Param("questionIndex") int questionIndex,
                             @Param("userId") UUID userId);
 
+    // Wer hat welche Frage schon beantwortet? (Hydration der Live-Engine)
+    @Query("""
+       select pa.participant.id as participantId,
+              pa.questionIndex as questionIndex
+         from ParticipantAnswer pa
+        where pa.sessionId = :sessionId
+       """)
+    List<com.iubh.quizbackend.repository.projection.AnsweredQuestionRow> findAnsweredBySessionId(@Param("sessionId") UUID sessionId);
+
 }
@@ -0,0 +1,44 @@
+package com.iubh.quizbackend.repository;
+
+import com.iubh.quizbackend.entity.change.QuestionChangeCounts;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface QuestionChangeCountsRepository extends JpaRepository<QuestionChangeCounts, UUID> {
+
+    /**
+     * Adds one pending change request to an existing counter row. Exactly one of the type
+     * parameters is expected to be 1, the others 0.
+     *
+     * @return The number of updated rows (0 if the question has no counter row yet).
+     */
+    @Modifying
+    @Query("""
+       update QuestionChangeCounts c
+          set c.total = c.total + 1,
+              c.questionTextChange = c.questionTextChange + :questionText,
+              c.answerChange = c.answerChange + :answer,
+              c.duplicationChange = c.duplicationChange + :duplication,
+              c.deletionRequest = c.deletionRequest + :deletion,
+              c.pending = c.pending + 1
+        where c.questionId = :questionId
+       """)
+    int addRequest(@Param("questionId") UUID questionId,
+                   @Param("questionText") int questionText,
+                   @Param("answer") int answer,
+                   @Param("duplication") int duplication,
+                   @Param("deletion") int deletion);
+
+    /**
+     * Marks one change request of the question as resolved (approved or rejected).
+     */
+    @Modifying
+    @Query("update QuestionChangeCounts c set c.pending = c.pending - 1 where c.questionId = :questionId and c.pending > 0")
+    int resolveRequest(@Param("questionId") UUID questionId);
+}
@@ -1,25 +1,105 @@
 package com.iubh.quizbackend.repository;
 
 import com.iubh.quizbackend.entity.change.ChangeRequestStatus;
+import com.iubh.quizbackend.entity.change.IncorrectAnswerRequest;
 import com.iubh.quizbackend.entity.change.QuestionChangeRequest;
+import com.iubh.quizbackend.repository.projection.VoteTallyRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Repository for managing QuestionChangeRequest entities and their subclasses.
+ * <p>
+ * The page queries fetch the requester and the question (with its module) in the same select;
+ * the remaining parts of a feed page are loaded in bulk by the batch queries below.
  */
 @Repository
 public interface QuestionChangeRequestRepository extends JpaRepository<QuestionChangeRequest, UUID> {
+    @EntityGraph(attributePaths = {"requester", "question", "question.module"})
     Page<QuestionChangeRequest> findByQuestionId(UUID questionId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"requester", "question", "question.module"})
     Page<QuestionChangeRequest> findByQuestion_ModuleId(UUID moduleId, Pageable pageable);
 
 
+    @EntityGraph(attributePaths = {"requester", "question", "question.module"})
     Page<QuestionChangeRequest> findByQuestion_ModuleIdInAndStatus(List<UUID> moduleIds, ChangeRequestStatus status, Pageable pageable);
 
-}
\ No newline at end of file
+    /**
+     * Initializes the proposed answers of the given answer change requests in a single query.
+     */
+    @Query("SELECT DISTINCT r FROM IncorrectAnswerRequest r LEFT JOIN FETCH r.proposedAnswers WHERE r.id IN :ids")
+    List<IncorrectAnswerRequest> fetchProposedAnswers(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Vote tallies of the given change requests, including whether the given user has voted.
+     * Requests without votes are not returned.
+     */
+    @Query("""
+       SELECT v.changeRequest.id AS changeRequestId,
+              SUM(CASE WHEN v.voteType = com.iubh.quizbackend.entity.change.VoteType.APPROVE THEN 1 ELSE 0 END) AS positiveVotes,
+              SUM(CASE WHEN v.voteType = com.iubh.quizbackend.entity.change.VoteType.REJECT THEN 1 ELSE 0 END) AS negativeVotes,
+              SUM(CASE WHEN v.voter.id = :userId THEN 1 ELSE 0 END) AS ownVotes
+         FROM ChangeRequestVote v
+        WHERE v.changeRequest.id IN :ids
+        GROUP BY v.changeRequest.id
+       """)
+    List<VoteTallyRow> findVoteTallies(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    /**
+     * Adds one vote to the denormalized counters of a change request.
+     */
+    @Modifying
+    @Query("""
+       UPDATE QuestionChangeRequest r
+          SET r.approveCount = r.approveCount + :approve,
+              r.rejectCount = r.rejectCount + :reject
+        WHERE r.id = :id
+       """)
+    int addVote(@Param("id") UUID id, @Param("approve") int approve, @Param("reject") int reject);
+
+    /**
+     * Approves a pending change request once it has reached the given number of APPROVE votes.
+     * The status condition makes this succeed for exactly one of several concurrent voters.
+     *
+     * @return 1 if this call resolved the request, 0 otherwise.
+     */
+    @Modifying
+    @Query("""
+       UPDATE QuestionChangeRequest r
+          SET r.status = com.iubh.quizbackend.entity.change.ChangeRequestStatus.APPROVED,
+              r.resolvedAt = :resolvedAt
+        WHERE r.id = :id
+          AND r.status = com.iubh.quizbackend.entity.change.ChangeRequestStatus.PENDING
+          AND r.approveCount >= :threshold
+       """)
+    int approveIfThresholdReached(@Param("id") UUID id, @Param("threshold") int threshold,
+                                  @Param("resolvedAt") LocalDateTime resolvedAt);
+
+    /**
+     * Rejects a pending change request once it has reached the given number of REJECT votes,
+     * see {@link #approveIfThresholdReached}.
+     */
+    @Modifying
+    @Query("""
+       UPDATE QuestionChangeRequest r
+          SET r.status = com.iubh.quizbackend.entity.change.ChangeRequestStatus.REJECTED,
+              r.resolvedAt = :resolvedAt
+        WHERE r.id = :id
+          AND r.status = com.iubh.quizbackend.entity.change.ChangeRequestStatus.PENDING
+          AND r.rejectCount >= :threshold
+       """)
+    int rejectIfThresholdReached(@Param("id") UUID id, @Param("threshold") int threshold,
+                                 @Param("resolvedAt") LocalDateTime resolvedAt);
+}
@@ -0,0 +1,84 @@
+package com.iubh.quizbackend.repository;
+
+import com.iubh.quizbackend.entity.question.QuestionMastery;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public interface QuestionMasteryRepository extends JpaRepository<QuestionMastery, UUID> {
+
+    /**
+     * Active questions of a user in a module that are due at {@code now}, weakest box first.
+     * Served by the (user_id, module_id, due_at) index; the page size limits the rows read.
+     */
+    @Query("""
+       select m.questionId
+         from QuestionMastery m
+         join ChoiceQuestion q on q.id = m.questionId
+        where m.userId = :userId
+          and m.moduleId = :moduleId
+          and m.dueAt <= :now
+          and q.active = true
+        order by m.box asc, m.dueAt asc
+       """)
+    List<UUID> findDueQuestionIds(@Param("userId") UUID userId,
+                                  @Param("moduleId") UUID moduleId,
+                                  @Param("now") Instant now,
+                                  Pageable pageable);
+
+    /**
+     * Active questions of a user in a module that are not due yet, earliest due first.
+     */
+    @Query("""
+       select m.questionId
+         from QuestionMastery m
+         join ChoiceQuestion q on q.id = m.questionId
+        where m.userId = :userId
+          and m.moduleId = :moduleId
+          and m.dueAt > :now
+          and q.active = true
+        order by m.dueAt asc
+       """)
+    List<UUID> findUpcomingQuestionIds(@Param("userId") UUID userId,
+                                       @Param("moduleId") UUID moduleId,
+                                       @Param("now") Instant now,
+                                       Pageable pageable);
+
+    /**
+     * The subset of {@code questionIds} the user has answered before, from the (user_id, question_id) key.
+     */
+    @Query("""
+       select m.questionId
+         from QuestionMastery m
+        where m.userId = :userId
+          and m.questionId in :questionIds
+       """)
+    Set<UUID> findAnsweredQuestionIds(@Param("userId") UUID userId,
+                                      @Param("questionIds") Collection<UUID> questionIds);
+
+    /**
+     * Mastery rows for the given users and questions, locked for the rest of the transaction.
+     * Rows are locked in id order so that two batches touching the same rows cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+       select m
+         from QuestionMastery m
+        where m.userId in :userIds
+          and m.questionId in :questionIds
+        order by m.id
+       """)
+    List<QuestionMastery> findForUpdate(@Param("userIds") Collection<UUID> userIds,
+                                        @Param("questionIds") Collection<UUID> questionIds);
+}
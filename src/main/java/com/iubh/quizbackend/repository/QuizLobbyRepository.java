@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,9 +17,12 @@ import java.util.UUID;
 public interface QuizLobbyRepository extends JpaRepository<QuizLobby, UUID> {
     List<QuizLobby> findByStatus(QuizLobbyStatus status);
 
+    @Query("SELECT ql.id FROM QuizLobby ql WHERE ql.host.id = :hostId AND ql.status = 'WAITING'")
+    List<UUID> findWaitingLobbyIdsByHostId(@Param("hostId") UUID hostId);
+
     @Transactional
     @Modifying
-    @Query("UPDATE QuizLobby ql SET ql.status = 'CANCELLED' WHERE ql.host.id = :hostId AND ql.status = 'WAITING'")
-    void cancelWaitingLobbiesByHostId(@Param("hostId") UUID hostId);
+    @Query("UPDATE QuizLobby ql SET ql.status = 'CANCELLED' WHERE ql.id IN :lobbyIds AND ql.status = 'WAITING'")
+    int cancelWaitingLobbies(@Param("lobbyIds") Collection<UUID> lobbyIds);
 
 }
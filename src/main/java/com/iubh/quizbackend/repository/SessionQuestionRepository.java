@@ -34,4 +34,15 @@ public interface SessionQuestionRepository extends JpaRepository<SessionQuestion
             @Param("sessionId") UUID sessionId,
             @Param("index") int index);
 
+    // Alle Fragen einer Session inkl. Antworten in einem Query (Hydration der Live-Engine)
+    @Query("""
+   select distinct sq
+     from SessionQuestion sq
+     join fetch sq.question q
+     left join fetch q.answers
+    where sq.session.id = :sessionId
+    order by sq.indexInSession asc
+""")
+    List<SessionQuestion> findAllWithQuestionAndAnswers(@Param("sessionId") UUID sessionId);
+
 }
@@ -0,0 +1,54 @@
+package com.iubh.quizbackend.repository;
+
+import com.iubh.quizbackend.entity.quiz.UserModuleDailyStats;
+import com.iubh.quizbackend.repository.projection.DailyStatsRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserModuleDailyStatsRepository extends JpaRepository<UserModuleDailyStats, UUID> {
+
+    /**
+     * Adds one completed quiz to an existing rollup row.
+     *
+     * @return The number of updated rows (0 if there is no row for this day yet).
+     */
+    @Modifying
+    @Query("""
+       update UserModuleDailyStats s
+          set s.quizzes = s.quizzes + 1,
+              s.correctCount = s.correctCount + :correct,
+              s.answeredCount = s.answeredCount + :answered,
+              s.scoreSum = s.scoreSum + :score
+        where s.userId = :userId
+          and s.moduleId = :moduleId
+          and s.day = :day
+       """)
+    int addQuiz(@Param("userId") UUID userId,
+                @Param("moduleId") UUID moduleId,
+                @Param("day") LocalDate day,
+                @Param("correct") long correct,
+                @Param("answered") long answered,
+                @Param("score") double score);
+
+    /**
+     * All rollup rows of a user since the given day, including the module title.
+     */
+    @Query("""
+       select s.moduleId as moduleId, m.title as moduleTitle, s.day as day,
+              s.quizzes as quizzes, s.correctCount as correctCount,
+              s.answeredCount as answeredCount, s.scoreSum as scoreSum
+         from UserModuleDailyStats s
+         join Module m on m.id = s.moduleId
+        where s.userId = :userId
+          and s.day >= :fromDay
+       """)
+    List<DailyStatsRow> findRowsByUserSince(@Param("userId") UUID userId, @Param("fromDay") LocalDate fromDay);
+}
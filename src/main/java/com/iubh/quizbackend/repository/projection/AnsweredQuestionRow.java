@@ -0,0 +1,8 @@
+package com.iubh.quizbackend.repository.projection;
+
+import java.util.UUID;
+
+public interface AnsweredQuestionRow {
+    UUID getParticipantId();
+    int getQuestionIndex();
+}
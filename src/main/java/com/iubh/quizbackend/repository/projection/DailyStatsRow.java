@@ -0,0 +1,14 @@
+package com.iubh.quizbackend.repository.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface DailyStatsRow {
+    UUID getModuleId();
+    String getModuleTitle();
+    LocalDate getDay();
+    int getQuizzes();
+    long getCorrectCount();
+    long getAnsweredCount();
+    double getScoreSum();
+}
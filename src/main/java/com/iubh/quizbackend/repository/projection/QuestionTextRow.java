@@ -0,0 +1,12 @@
+package com.iubh.quizbackend.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * One row per answer of a question (answerText is null for questions without answers).
+ */
+public interface QuestionTextRow {
+    UUID getQuestionId();
+    String getQuestionText();
+    String getAnswerText();
+}
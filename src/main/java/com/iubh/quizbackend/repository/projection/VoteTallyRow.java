@@ -0,0 +1,11 @@
+package com.iubh.quizbackend.repository.projection;
+
+import java.util.UUID;
+
+public interface VoteTallyRow {
+    UUID getChangeRequestId();
+    long getPositiveVotes();
+    long getNegativeVotes();
+    /** Number of votes cast by the current user (0 or 1). */
+    long getOwnVotes();
+}
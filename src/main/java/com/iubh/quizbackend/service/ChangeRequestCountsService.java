@@ -0,0 +1,82 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.api.dto.ChangeRequestCountsDto;
+import com.iubh.quizbackend.entity.change.ChangeRequestType;
+import com.iubh.quizbackend.entity.change.QuestionChangeCounts;
+import com.iubh.quizbackend.repository.QuestionChangeCountsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Maintains the per-question change request counters ({@link QuestionChangeCounts}) and
+ * loads them for the views that show them.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeRequestCountsService {
+
+    private final QuestionChangeCountsRepository countsRepository;
+
+    /**
+     * Counts a newly created (pending) change request. Runs in the caller's transaction,
+     * so the counters commit together with the request.
+     */
+    @Transactional
+    public void requestAdded(UUID questionId, ChangeRequestType type) {
+        int questionText = type == ChangeRequestType.INCORRECT_QUESTION_TEXT ? 1 : 0;
+        int answer = type == ChangeRequestType.INCORRECT_ANSWER ? 1 : 0;
+        int duplication = type == ChangeRequestType.DUPLICATE_QUESTION ? 1 : 0;
+        int deletion = type == ChangeRequestType.SUGGEST_DELETION ? 1 : 0;
+
+        int updated = countsRepository.addRequest(questionId, questionText, answer, duplication, deletion);
+        if (updated == 0) {
+            countsRepository.save(QuestionChangeCounts.builder()
+                    .questionId(questionId)
+                    .total(1)
+                    .questionTextChange(questionText)
+                    .answerChange(answer)
+                    .duplicationChange(duplication)
+                    .deletionRequest(deletion)
+                    .pending(1)
+                    .build());
+        }
+    }
+
+    /**
+     * Counts a change request that left the PENDING status.
+     */
+    @Transactional
+    public void requestResolved(UUID questionId) {
+        countsRepository.resolveRequest(questionId);
+    }
+
+    /**
+     * Loads the counters of the given questions with a single query.
+     *
+     * @return The counters by question id; questions without change requests map to zero counts.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, ChangeRequestCountsDto> countsFor(Collection<UUID> questionIds) {
+        Map<UUID, ChangeRequestCountsDto> result = new HashMap<>();
+        if (questionIds.isEmpty()) {
+            return result;
+        }
+        for (QuestionChangeCounts counts : countsRepository.findAllById(questionIds)) {
+            result.put(counts.getQuestionId(), ChangeRequestCountsDto.builder()
+                    .total(counts.getTotal())
+                    .questionTextChange(counts.getQuestionTextChange())
+                    .answerChange(counts.getAnswerChange())
+                    .duplicationChange(counts.getDuplicationChange())
+                    .deletionRequest(counts.getDeletionRequest())
+                    .pending(counts.getPending())
+                    .build());
+        }
+        for (UUID questionId : questionIds) {
+            result.computeIfAbsent(questionId, id -> new ChangeRequestCountsDto());
+        }
+        return result;
+    }
+}
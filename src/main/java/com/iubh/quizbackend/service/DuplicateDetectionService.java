@@ -0,0 +1,269 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.api.dto.question.DuplicateCandidateDto;
+import com.iubh.quizbackend.entity.question.Answer;
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
+import com.iubh.quizbackend.repository.projection.QuestionTextRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds near-duplicate questions with MinHash signatures and a locality-sensitive hashing (LSH) index.
+ * <p>
+ * The question text and its (sorted) answer texts are normalized and cut into character shingles; a
+ * question's signature is the minimum hash of its shingles under {@value #SIGNATURE_LENGTH} hash functions.
+ * The share of equal signature entries estimates the Jaccard similarity of two questions. The signature
+ * is split into {@value #BANDS} bands; questions sharing any band bucket are candidates, which are then
+ * checked against {@code application.duplicate-detection.similarity-threshold}. Looking up a new question
+ * therefore touches a constant number of buckets instead of every question of the module.
+ * <p>
+ * Like {@link QuestionPoolService}, the index of a module is built lazily on first use and kept up to
+ * date when questions are created or deactivated.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DuplicateDetectionService {
+
+    static final int BANDS = 16;
+    static final int ROWS = 8;
+    static final int SIGNATURE_LENGTH = BANDS * ROWS;
+    private static final int SHINGLE_LENGTH = 5;
+    private static final long[] SEEDS = new long[SIGNATURE_LENGTH];
+
+    static {
+        // Fixed seeds, so signatures are comparable across restarts and instances
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private final ChoiceQuestionRepository choiceQuestionRepository;
+
+    @Value("${application.duplicate-detection.similarity-threshold:0.8}")
+    private double similarityThreshold;
+
+    private final Map<UUID, ModuleIndex> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the active questions of the same module that are near-duplicates of the given one,
+     * most similar first. The question itself is never reported.
+     */
+    public List<DuplicateCandidateDto> findNearDuplicates(ChoiceQuestion question) {
+        int[] signature = signature(question.getQuestionText(), answerTexts(question));
+        return index(question.getModule().getId()).matches(question.getId(), signature, similarityThreshold);
+    }
+
+    /**
+     * Checks a whole module and returns every near-duplicate pair once. The index is rebuilt from
+     * the database, so the result reflects changes made by other instances as well.
+     */
+    @Transactional(readOnly = true)
+    public List<DuplicateCandidateDto> scanModule(UUID moduleId) {
+        ModuleIndex index = loadIndex(moduleId);
+        indexes.put(moduleId, index);
+        return index.allPairs(similarityThreshold);
+    }
+
+    /**
+     * Adds a newly created question to its module's index once the current transaction has committed.
+     */
+    public void questionActivated(ChoiceQuestion question) {
+        UUID moduleId = question.getModule().getId();
+        UUID questionId = question.getId();
+        int[] signature = signature(question.getQuestionText(), answerTexts(question));
+        AfterCommit.run(() -> {
+            ModuleIndex index = indexes.get(moduleId);
+            if (index != null) index.add(questionId, signature);
+        });
+    }
+
+    /**
+     * Removes a deactivated question from its module's index once the current transaction has committed.
+     */
+    public void questionDeactivated(UUID moduleId, UUID questionId) {
+        AfterCommit.run(() -> {
+            ModuleIndex index = indexes.get(moduleId);
+            if (index != null) index.remove(questionId);
+        });
+    }
+
+    private ModuleIndex index(UUID moduleId) {
+        return indexes.computeIfAbsent(moduleId, this::loadIndex);
+    }
+
+    private ModuleIndex loadIndex(UUID moduleId) {
+        Map<UUID, String> questionTexts = new LinkedHashMap<>();
+        Map<UUID, List<String>> answers = new HashMap<>();
+        for (QuestionTextRow row : choiceQuestionRepository.findActiveTextsByModuleId(moduleId)) {
+            questionTexts.putIfAbsent(row.getQuestionId(), row.getQuestionText());
+            List<String> texts = answers.computeIfAbsent(row.getQuestionId(), id -> new ArrayList<>());
+            if (row.getAnswerText() != null) {
+                texts.add(row.getAnswerText());
+            }
+        }
+        ModuleIndex index = new ModuleIndex();
+        questionTexts.forEach((id, text) -> index.add(id, signature(text, answers.get(id))));
+        log.debug("Built duplicate index for module {} ({} questions).", moduleId, questionTexts.size());
+        return index;
+    }
+
+    private static List<String> answerTexts(ChoiceQuestion question) {
+        if (question.getAnswers() == null) {
+            return List.of();
+        }
+        return question.getAnswers().stream().map(Answer::getText).toList();
+    }
+
+    /**
+     * MinHash signature over the character shingles of the normalized question and answer texts.
+     * The answers are sorted, so their order does not matter.
+     */
+    static int[] signature(String questionText, Collection<String> answerTexts) {
+        List<String> sortedAnswers = new ArrayList<>();
+        for (String answer : answerTexts) {
+            sortedAnswers.add(normalize(answer));
+        }
+        Collections.sort(sortedAnswers);
+        String document = normalize(questionText) + " | " + String.join(" | ", sortedAnswers);
+
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, document.length() - SHINGLE_LENGTH + 1);
+        for (int start = 0; start < shingles; start++) {
+            String shingle = document.substring(start, Math.min(document.length(), start + SHINGLE_LENGTH));
+            long hash = shingle.hashCode();
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int h = (int) mix(hash ^ SEEDS[i]);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (a[i] == b[i]) equal++;
+        }
+        return (double) equal / SIGNATURE_LENGTH;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Signatures and LSH buckets of the active questions of one module.
+     */
+    static final class ModuleIndex {
+
+        private final Map<UUID, int[]> signatures = new HashMap<>();
+        @SuppressWarnings("unchecked")
+        private final Map<Long, List<UUID>>[] buckets = new Map[BANDS];
+
+        ModuleIndex() {
+            for (int band = 0; band < BANDS; band++) {
+                buckets[band] = new HashMap<>();
+            }
+        }
+
+        synchronized void add(UUID id, int[] signature) {
+            if (signatures.put(id, signature) != null) return;
+            for (int band = 0; band < BANDS; band++) {
+                buckets[band].computeIfAbsent(bandKey(signature, band), k -> new ArrayList<>(1)).add(id);
+            }
+        }
+
+        synchronized void remove(UUID id) {
+            int[] signature = signatures.remove(id);
+            if (signature == null) return;
+            for (int band = 0; band < BANDS; band++) {
+                long key = bandKey(signature, band);
+                List<UUID> bucket = buckets[band].get(key);
+                if (bucket != null) {
+                    bucket.remove(id);
+                    if (bucket.isEmpty()) buckets[band].remove(key);
+                }
+            }
+        }
+
+        synchronized List<DuplicateCandidateDto> matches(UUID questionId, int[] signature, double threshold) {
+            List<DuplicateCandidateDto> matches = new ArrayList<>();
+            for (UUID candidate : candidates(signature)) {
+                if (candidate.equals(questionId)) continue;
+                double similarity = similarity(signature, signatures.get(candidate));
+                if (similarity >= threshold) {
+                    matches.add(DuplicateCandidateDto.builder()
+                            .questionId(questionId)
+                            .duplicateOfQuestionId(candidate)
+                            .similarity(similarity)
+                            .build());
+                }
+            }
+            matches.sort(Comparator.comparingDouble(DuplicateCandidateDto::getSimilarity).reversed());
+            return matches;
+        }
+
+        synchronized List<DuplicateCandidateDto> allPairs(double threshold) {
+            List<DuplicateCandidateDto> pairs = new ArrayList<>();
+            for (Map.Entry<UUID, int[]> entry : signatures.entrySet()) {
+                UUID id = entry.getKey();
+                for (UUID candidate : candidates(entry.getValue())) {
+                    // Report each pair once
+                    if (id.compareTo(candidate) >= 0) continue;
+                    double similarity = similarity(entry.getValue(), signatures.get(candidate));
+                    if (similarity >= threshold) {
+                        pairs.add(DuplicateCandidateDto.builder()
+                                .questionId(candidate)
+                                .duplicateOfQuestionId(id)
+                                .similarity(similarity)
+                                .build());
+                    }
+                }
+            }
+            pairs.sort(Comparator.comparingDouble(DuplicateCandidateDto::getSimilarity).reversed());
+            return pairs;
+        }
+
+        private Set<UUID> candidates(int[] signature) {
+            Set<UUID> candidates = new HashSet<>();
+            for (int band = 0; band < BANDS; band++) {
+                List<UUID> bucket = buckets[band].get(bandKey(signature, band));
+                if (bucket != null) candidates.addAll(bucket);
+            }
+            return candidates;
+        }
+
+        private static long bandKey(int[] signature, int band) {
+            long key = band;
+            for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+                key = key * 0x100000001B3L + signature[row];
+            }
+            return mix(key);
+        }
+    }
+}
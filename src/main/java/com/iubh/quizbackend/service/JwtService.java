@@ -1,17 +1,24 @@
 package com.iubh.quizbackend.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -24,9 +31,68 @@ public class JwtService {
     private long jwtExpiration;
     @Value("${application.security.jwt.refresh-token.expiration}")
     private long refreshExpiration;
+    @Value("${application.security.jwt.token-cache.max-entries:10000}")
+    private int tokenCacheMaxEntries;
+
+    // Decoded once; rebuilding the HMAC key and parser per call showed up on every request
+    private Key signInKey;
+    private JwtParser parser;
+
+    /** Tokens whose signature was already verified, keyed by SHA-256 of the token. */
+    private Map<String, VerifiedToken> verifiedTokens;
+
+    /**
+     * Result of verifying a token: subject and expiry, taken from the signed claims.
+     */
+    public record VerifiedToken(String username, Date expiresAt) {
+        public boolean isExpired() {
+            return expiresAt != null && expiresAt.before(new Date());
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        int maxEntries = tokenCacheMaxEntries;
+        verifiedTokens = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Verifies signature and expiry of a token. A token is parsed at most once; later calls are
+     * answered from the cache until the token expires.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired.
+     */
+    public VerifiedToken verify(String token) {
+        String hash = hash(token);
+        synchronized (verifiedTokens) {
+            VerifiedToken cached = verifiedTokens.get(hash);
+            if (cached != null) {
+                if (!cached.isExpired()) {
+                    return cached;
+                }
+                verifiedTokens.remove(hash);
+            }
+        }
+        // Throws for invalid or expired tokens, exactly as before the cache
+        Claims claims = extractAllClaims(token);
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.getExpiration());
+        synchronized (verifiedTokens) {
+            verifiedTokens.put(hash, verified);
+        }
+        return verified;
+    }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).username();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -66,30 +132,26 @@ public class JwtService {
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        final VerifiedToken verified = verify(token);
+        return (verified.username().equals(userDetails.getUsername())) && !verified.isExpired();
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return parser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signInKey;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available.", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,6 @@
 // src/main/java/com/iubh/quizbackend/service/LiveQuizService.java
 package com.iubh.quizbackend.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.iubh.quizbackend.api.dto.live.LiveEvents;
 import com.iubh.quizbackend.entity.module.Module;
 import com.iubh.quizbackend.entity.question.Answer;
@@ -10,24 +8,23 @@ import com.iubh.quizbackend.entity.question.ChoiceQuestion;
 import com.iubh.quizbackend.entity.quiz.*;
 import com.iubh.quizbackend.entity.user.User;
 import com.iubh.quizbackend.repository.*;
+import com.iubh.quizbackend.service.live.*;
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -37,38 +34,34 @@ public class LiveQuizService {
     private final LiveQuizSessionRepository sessionRepo;
     private final SessionQuestionRepository sessionQuestionRepo;
     private final LiveQuizParticipantRepository participantRepo;
-    private final ParticipantAnswerRepository answerRepo;
 
     private final QuizLobbyRepository lobbyRepo;
-    private final ChoiceQuestionRepository choiceQuestionRepo;
+    private final LobbyDirectory lobbyDirectory;
+    private final QuestionPoolService questionPool;
 
     private final SimpMessagingTemplate messagingTemplate;
-    private final TaskScheduler taskScheduler;
-    private final ObjectMapper objectMapper;
 
 
     private final LiveQuizTxRunner tx;
+    private final LiveSessionEngine engine;
+    private final LiveAnswerJournal journal;
+    private final LiveSessionMailboxes mailboxes;
+    private final QuestionFrameCache frames;
 
 
-    // Scheduler-Futures pro Session (für EndsAt / Buffer)
-    private final Map<UUID, ScheduledFuture<?>> scheduledEnds = new ConcurrentHashMap<>();
-    private final Map<UUID, ScheduledFuture<?>> scheduledNext = new ConcurrentHashMap<>();
-
+    // Fristen pro Session (EndsAt / Buffer), adressiert über (Session, Befehl)
+    private final LiveQuizTimer timer;
 
-    // private final @Lazy LiveQuizService self;
-    private final PlatformTransactionManager txManager; // <-- ADD
+    private record TimerKey(UUID sessionId, LiveCommand command) {}
 
+    // Cluster-Betrieb: Besitz der Sessions (Lease) und Weiterleitung an den Besitzer
+    private final LiveSessionOwnership ownership;
+    private final LiveAnswerForwarder forwarder;
+    private final TaskScheduler taskScheduler;
+    private final LiveQuizMetrics metrics;
 
-    private void runInTx(Runnable action) {
-        new TransactionTemplate(txManager).executeWithoutResult(status -> action.run());
-    }
-
-    // Leichtgewichtige Locks pro Session
-    private final Map<UUID, Object> sessionLocks = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> leaseTask;
 
-    private Object lock(UUID sessionId) {
-        return sessionLocks.computeIfAbsent(sessionId, id -> new Object());
-    }
 
     private String topicForLobby(UUID lobbyId) {
         return "/topic/lobby/" + lobbyId;
@@ -98,14 +91,12 @@ public class LiveQuizService {
 
         lobby.setStatus(QuizLobbyStatus.IN_PROGRESS);
         lobbyRepo.save(lobby);
+        lobbyDirectory.lobbyChanged(lobby);
 
         final int QUESTION_COUNT = 10;  // TODO: Change to 10 or handle in HTTP Request
         Module module = lobby.getModule();
 
-        List<ChoiceQuestion> picked =
-                choiceQuestionRepo
-                        .pickRandomByModule(module.getId(), PageRequest.of(0, QUESTION_COUNT))
-                        .getContent();
+        List<ChoiceQuestion> picked = questionPool.pickRandom(module.getId(), QUESTION_COUNT);
 
 
         if (picked.isEmpty()) {
@@ -116,7 +107,8 @@ public class LiveQuizService {
                 .lobbyId(lobby.getId())
                 .module(module)
                 .status(SessionStatus.COUNTDOWN)
-                .totalQuestions(QUESTION_COUNT)
+                // der Pool kann weniger Fragen liefern als angefragt
+                .totalQuestions(picked.size())
                 .questionDurationSec(30)
                 .bufferDurationSec(2)
                 .earlyAdvanceEnabled(true)
@@ -126,25 +118,21 @@ public class LiveQuizService {
 
         // Persist & ab hier nur noch savedSession benutzen (effektiv final)
         final LiveQuizSession savedSession = sessionRepo.save(session);
+        // neue Session: gehört dem startenden Node, nur er stellt ihre Timer
+        ownership.claim(savedSession.getId());
 
+        List<LiveSessionState.FrozenQuestion> frozen = new ArrayList<>(picked.size());
         int idx = 0;
         for (ChoiceQuestion q : picked) {
             List<Answer> answers = new ArrayList<>(q.getAnswers());
             Collections.shuffle(answers);
-
-            List<UUID> orderIds = answers.stream().map(Answer::getId).toList();
-            final String orderJson;
-            try {
-                orderJson = objectMapper.writeValueAsString(orderIds);
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException("Could not serialize answer order.", e);
-            }
+            frozen.add(LiveSessionEngine.freeze(q.getId(), q.getQuestionText(), answers));
 
             SessionQuestion sq = SessionQuestion.builder()
                     .session(savedSession)
                     .indexInSession(idx++)
                     .question(q)
-                    .answerOrderJson(orderJson)
+                    .answerOrder(AnswerOrder.of(answers))
                     .build();
             savedSession.addQuestion(sq);
         }
@@ -165,6 +153,11 @@ public class LiveQuizService {
         });
         participantRepo.saveAll(savedSession.getParticipants());
 
+        List<LiveSessionState.Participant> roster = savedSession.getParticipants().stream()
+                .map(LiveSessionEngine::toParticipant)
+                .toList();
+        LiveSessionState state = LiveSessionEngine.newState(savedSession, frozen, roster);
+
         var evt = LiveEvents.QuizStarted.builder()
                 .lobbyId(lobby.getId())
                 .sessionId(savedSession.getId())
@@ -180,7 +173,10 @@ public class LiveQuizService {
                 .registerSynchronization(new org.springframework.transaction.support.TransactionSynchronization() {
                     @Override
                     public void afterCommit() {
+                        engine.register(state);
+                        frames.precompute(state.getSessionId(), state.getQuestions());
                         messagingTemplate.convertAndSend(topicForLobby(lobby.getId()), evt);
+                        metrics.sessionStarted();
                     }
                 });
 
@@ -190,292 +186,283 @@ public class LiveQuizService {
     }
     // --------------------- Scheduling Helpers ---------------------
 
+    /** Timer: nächste Frage zum Zeitpunkt {@code when} – ausgeführt in der Mailbox der Session. */
     private void scheduleNextQuestionAt(UUID sessionId, Instant when, int indexToShow) {
-        cancelFuture(scheduledNext.remove(sessionId));
-        var fut = taskScheduler.schedule(() -> {
-            synchronized (lock(sessionId)) {
-                tx.showQuestion(sessionId, indexToShow);
-            }
-        }, Date.from(when));
-        scheduledNext.put(sessionId, fut);
+        timer.schedule(new TimerKey(sessionId, LiveCommand.TICK), when,
+                () -> dispatch(sessionId, LiveCommand.TICK, () -> showQuestion(sessionId, indexToShow, when)));
     }
 
-    private void scheduleEndAt(UUID sessionId, Instant when) {
-        cancelFuture(scheduledEnds.remove(sessionId));
-        var fut = taskScheduler.schedule(() -> {
-            synchronized (lock(sessionId)) {
-                tx.endCurrentQuestion(sessionId, false);
-            }
-        }, Date.from(when));
-        scheduledEnds.put(sessionId, fut);
+    /** Timer: Ende der Frage {@code index} zum Zeitpunkt {@code when} – ausgeführt in der Mailbox der Session. */
+    private void scheduleEndAt(UUID sessionId, Instant when, int index) {
+        timer.schedule(new TimerKey(sessionId, LiveCommand.END), when,
+                () -> dispatch(sessionId, LiveCommand.END, () -> endQuestion(sessionId, index, false)));
+    }
+
+    private void cancelTimers(UUID sessionId) {
+        timer.cancel(new TimerKey(sessionId, LiveCommand.END));
+        timer.cancel(new TimerKey(sessionId, LiveCommand.TICK));
     }
 
-    private void cancelFuture(ScheduledFuture<?> f) {
-        if (f != null) {
+    /**
+     * Führt einen Befehl seriell in der Mailbox der Session aus. Ist die Session danach beendet
+     * (FINISHED/CANCELLED), werden Timer und Mailbox aufgeräumt. Besitzt dieser Node die Session
+     * nicht mehr (Lease verloren oder lokal abgelaufen), wird der Befehl verworfen und der lokale
+     * Zustand samt Timern entfernt.
+     */
+    private CompletableFuture<Void> dispatch(UUID sessionId, LiveCommand command, Runnable action) {
+        CompletableFuture<Void> result = mailboxes.execute(sessionId, command, () -> {
+            if (!ownership.isOwner(sessionId)) {
+                discard(sessionId);
+                mailboxes.evict(sessionId);
+                throw new IllegalStateException("Live session is not owned by this node, please retry.");
+            }
             try {
-                f.cancel(false);
-            } catch (Exception ignored) {
+                action.run();
+            } finally {
+                boolean active = engine.find(sessionId).map(st -> !st.isTerminal()).orElse(false);
+                if (!active) {
+                    cancelTimers(sessionId);
+                    mailboxes.evict(sessionId);
+                    ownership.release(sessionId);
+                } else if (!ownership.isOwner(sessionId)) {
+                    // Fencing ist fehlgeschlagen: ein anderer Node hat übernommen
+                    discard(sessionId);
+                    mailboxes.evict(sessionId);
+                }
             }
+        });
+        if (command != LiveCommand.ANSWER) {
+            // Timer-Befehle haben keinen Aufrufer, der Fehler auswertet
+            result.whenComplete((v, ex) -> {
+                if (ex != null) log.error("Live session {}: {} failed", sessionId, command, ex);
+            });
         }
+        return result;
     }
 
     // ------------------ Show & End Question ------------------
 
-    @org.springframework.transaction.annotation.Transactional
-    public void safeShowQuestion(UUID sessionId, int index) {
-        synchronized (lock(sessionId)) {
-            showQuestion(sessionId, index); // this internal call now runs WITH an active TX
-        }
+    public CompletableFuture<Void> safeShowQuestion(UUID sessionId, int index) {
+        return dispatch(sessionId, LiveCommand.TICK, () -> showQuestion(sessionId, index, null));
     }
 
-    @Transactional
-    protected void showQuestion(UUID sessionId, int index) {
-        LiveQuizSession s = sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new EntityNotFoundException("Session not found: " + sessionId));
+    public CompletableFuture<Void> safeEndCurrentQuestion(UUID sessionId) {
+        return dispatch(sessionId, LiveCommand.END,
+                () -> endQuestion(sessionId, engine.get(sessionId).getCurrentIndex(), false));
+    }
 
-        if (s.getStatus() == SessionStatus.CANCELLED || s.getStatus() == SessionStatus.FINISHED) {
-            return;
-        }
-        if (index >= s.getTotalQuestions()) {
-            // Nichts mehr zu zeigen → finish
-            finishSessionInternal(s);
-            return;
+    /**
+     * Läuft in der Mailbox: zeigt die Frage und plant deren Ende. {@code due} ist der geplante
+     * Zeitpunkt (für {@code live.question.reveal.skew}), {@code null} bei manuellem Aufruf.
+     */
+    private void showQuestion(UUID sessionId, int index, Instant due) {
+        LiveSessionState s = engine.get(sessionId);
+        // veraltete Timer (Frage wurde bereits gezeigt) ignorieren
+        if (s.isTerminal() || s.getCurrentIndex() >= index) return;
+
+        long start = System.nanoTime();
+        tx.showQuestion(sessionId, index);
+        metrics.txCompleted(LiveQuizMetrics.Operation.SHOW_QUESTION, System.nanoTime() - start);
+        if (s.getStatus() == SessionStatus.RUNNING && s.getCurrentIndex() == index) {
+            if (due != null) {
+                metrics.questionRevealed(Duration.between(due, Instant.now()));
+            }
+            scheduleEndAt(sessionId, s.getQuestionEndsAt(), index);
         }
+    }
 
-        s.setStatus(SessionStatus.RUNNING);
-        s.setCurrentIndex(index);
-
-        Instant endsAt = Instant.now().plusSeconds(s.getQuestionDurationSec());
-        s.setQuestionEndsAt(endsAt);
-        sessionRepo.save(s);
-
-        // Payload der Frage erzeugen (in Session-Order)
-        SessionQuestion sq = sessionQuestionRepo.findWithQuestionAndAnswers(s.getId(), index)
-                .orElseThrow(() -> new EntityNotFoundException("SessionQuestion not found"));
-
-        List<UUID> orderIds;
-        try {
-            orderIds = Arrays.asList(objectMapper.readValue(sq.getAnswerOrderJson(), UUID[].class));
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("answerOrderJson malformed", e);
+    /** Läuft in der Mailbox: beendet die Frage und plant die nächste (nach dem Buffer). */
+    private void endQuestion(UUID sessionId, int index, boolean earlyAdvance) {
+        LiveSessionState s = engine.get(sessionId);
+        // veraltete Timer (Frage bereits beendet) ignorieren
+        if (s.getStatus() != SessionStatus.RUNNING || s.getCurrentIndex() != index || s.isQuestionClosed()) return;
+
+        timer.cancel(new TimerKey(sessionId, LiveCommand.END));
+        long start = System.nanoTime();
+        tx.endCurrentQuestion(sessionId, earlyAdvance);
+        metrics.txCompleted(LiveQuizMetrics.Operation.END_QUESTION, System.nanoTime() - start);
+        if (s.getStatus() == SessionStatus.RUNNING) {
+            scheduleNextQuestionAt(sessionId, s.getQuestionEndsAt(), index + 1);
         }
-
-        var answerMap = sq.getQuestion().getAnswers().stream()
-                .collect(Collectors.toMap(Answer::getId, a -> a));
-
-        List<LiveEvents.QuestionShow.AnswerPayload> answers = orderIds.stream()
-                .map(id -> {
-                    Answer a = answerMap.get(id);
-                    return new LiveEvents.QuestionShow.AnswerPayload(a.getId(), a.getText());
-                })
-                .collect(Collectors.toList());
-
-        var qPayload = LiveEvents.QuestionShow.QuestionPayload.builder()
-                .id(sq.getQuestion().getId())
-                .text(sq.getQuestion().getQuestionText())
-                .answers(answers)
-                .build();
-
-        var evt = LiveEvents.QuestionShow.builder()
-                .sessionId(s.getId())
-                .index(index)
-                .endsAt(endsAt)
-                .question(qPayload)
-                .build();
-        messagingTemplate.convertAndSend(topicForLobby(s.getLobbyId()), evt);
-
-        // Ende planen
-        scheduleEndAt(s.getId(), endsAt);
     }
 
-    @org.springframework.transaction.annotation.Transactional
-    public void safeEndCurrentQuestion(UUID sessionId) {
-        synchronized (lock(sessionId)) {
-            endCurrentQuestion(sessionId, /*early*/ false);
+    // -------------------- Antworten (REST) --------------------
+
+    /**
+     * Antwortet auf die aktuelle Frage. Die Antwort wird in die Mailbox der Session eingereiht;
+     * der REST-Thread wartet nicht auf die Ausführung.
+     * - prüft Teilnahme, Zeitfenster, Idempotenz (komplett im Speicher, ohne DB-Lesezugriff)
+     * - reiht ParticipantAnswer + Score ins Write-Behind-Journal ein
+     * - Early-Advance wenn alle geantwortet haben
+     */
+    public CompletableFuture<Void> submitAnswer(UUID sessionId, User user, int questionIndex, UUID answerId) {
+        UUID userId = user.getId();
+        if (!ownership.isOwner(sessionId)) {
+            Optional<String> ownerUrl = ownership.ownerUrl(sessionId);
+            if (ownerUrl.isPresent()) {
+                return forwarder.forward(ownerUrl.get(), sessionId,
+                        new LiveAnswerForwarder.ForwardedAnswer(userId, questionIndex, answerId));
+            }
+            // kein gültiger Besitzer (Node ausgefallen) → Session hier übernehmen
+            if (!takeOver(sessionId)) {
+                throw new IllegalStateException("Live session is moving to another node, please retry.");
+            }
         }
+        return dispatchAnswer(sessionId, userId, questionIndex, answerId);
     }
 
-    @Transactional
-    protected void endCurrentQuestion(UUID sessionId, boolean earlyAdvance) {
-        LiveQuizSession s = sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new EntityNotFoundException("Session not found: " + sessionId));
-
-        if (s.getStatus() != SessionStatus.RUNNING) return;
-
-        int idx = s.getCurrentIndex();
-
-        // korrekte Antwort ermitteln
-        SessionQuestion sq = sessionQuestionRepo.findBySession_IdAndIndexInSession(s.getId(), idx)
-                .orElseThrow(() -> new EntityNotFoundException("SessionQuestion not found"));
-        UUID correctAnswerId = sq.getQuestion().getAnswers().stream()
-                .filter(Answer::getIsCorrect)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Question without correct answer"))
-                .getId();
-
-        // optional Leaderboard
-        var leaderboard = participantRepo.getLeaderboard(s.getId()).stream()
-                .map(r -> new LiveEvents.QuestionEnd.LeaderboardRow(r.getUserId(), r.getFirstName(), r.getName(), r.getScore()))
-                .collect(Collectors.toList());
-
-        var evt = LiveEvents.QuestionEnd.builder()
-                .sessionId(s.getId())
-                .index(idx)
-                .correctAnswerId(correctAnswerId)
-                .leaderboard(leaderboard)
-                .build();
-        messagingTemplate.convertAndSend(topicForLobby(s.getLobbyId()), evt);
-
-        // Nächste Frage oder Finish
-        if (s.hasMoreQuestions()) {
-            Instant when = Instant.now().plus(s.getBufferDurationSec(), ChronoUnit.SECONDS);
-            sessionRepo.save(s); // keep updatedAt
-            scheduleNextQuestionAt(s.getId(), when, idx + 1);
-        } else {
-            finishSessionInternal(s);
+    /**
+     * Von einem anderen Node weitergeleitete Antwort. Wird nur angenommen, solange dieser Node
+     * die Session besitzt – so können Weiterleitungen nicht im Kreis laufen.
+     */
+    public CompletableFuture<Void> submitForwardedAnswer(UUID sessionId, UUID userId, int questionIndex, UUID answerId) {
+        if (!ownership.isOwner(sessionId)) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("Live session is not owned by this node, please retry."));
         }
-
-        // End-Future aufräumen (falls earlyAdvance)
-        cancelFuture(scheduledEnds.remove(sessionId));
+        return dispatchAnswer(sessionId, userId, questionIndex, answerId);
     }
 
-    @Transactional
-    protected void finishSessionInternal(LiveQuizSession s) {
-        s.setStatus(SessionStatus.FINISHED);
-        sessionRepo.save(s);
+    /** Reiht die Antwort ein und misst die Zeit bis zu ihrer Verarbeitung in der Mailbox. */
+    private CompletableFuture<Void> dispatchAnswer(UUID sessionId, UUID userId, int questionIndex, UUID answerId) {
+        long start = System.nanoTime();
+        return dispatch(sessionId, LiveCommand.ANSWER, () -> applyAnswer(sessionId, userId, questionIndex, answerId))
+                .whenComplete((v, ex) -> metrics.answerCompleted(System.nanoTime() - start, ex != null));
+    }
 
-        var leaderboard = participantRepo.getLeaderboard(s.getId()).stream()
-                .map(r -> new LiveEvents.QuestionEnd.LeaderboardRow(r.getUserId(), r.getFirstName(), r.getName(), r.getScore()))
-                .collect(Collectors.toList());
+    private void applyAnswer(UUID sessionId, UUID userId, int questionIndex, UUID answerId) {
+        LiveSessionState s = engine.get(sessionId);
 
-        var evt = LiveEvents.QuizEnded.builder()
-                .sessionId(s.getId())
-                .leaderboard(leaderboard)
-                .build();
-        messagingTemplate.convertAndSend(topicForLobby(s.getLobbyId()), evt);
+        if (s.getStatus() != SessionStatus.RUNNING) {
+            throw new IllegalStateException("Session not running.");
+        }
+        if (questionIndex != s.getCurrentIndex()) {
+            throw new IllegalStateException("Answer is for wrong question index.");
+        }
+        if (s.isQuestionClosed() || Instant.now().isAfter(s.getQuestionEndsAt())) {
+            throw new IllegalStateException("Too late. Question already ended.");
+        }
 
-        // geplante Tasks aufräumen
-        cancelFuture(scheduledEnds.remove(s.getId()));
-        cancelFuture(scheduledNext.remove(s.getId()));
-    }
+        int slot = s.slotOf(userId);
+        if (slot < 0) {
+            throw new SecurityException("Not a participant.");
+        }
 
-    // -------------------- Antworten (REST) --------------------
+        // idempotent: already answered?
+        if (s.hasAnswered(slot, questionIndex)) {
+            metrics.answerDuplicate();
+            return;
+        }
 
-    /**
-     * Antwortet auf die aktuelle Frage.
-     * - prüft Teilnahme, Zeitfenster, Idempotenz
-     * - speichert ParticipantAnswer
-     * - increment Score wenn korrekt
-     * - Early-Advance wenn alle geantwortet haben
-     */
-    @Transactional
-    public void submitAnswer(UUID sessionId, User user, int questionIndex, UUID answerId) {
-        synchronized (lock(sessionId)) {
-            LiveQuizSession s = sessionRepo.findById(sessionId)
-                    .orElseThrow(() -> new EntityNotFoundException("Session not found: " + sessionId));
+        // Validierung: Antwort gehört zur richtigen Frage
+        LiveSessionState.FrozenAnswer chosen = s.question(questionIndex).answer(answerId);
+        if (chosen == null) {
+            throw new IllegalArgumentException("Answer does not belong to this question.");
+        }
 
-            if (s.getStatus() != SessionStatus.RUNNING) {
-                throw new IllegalStateException("Session not running.");
-            }
-            if (questionIndex != s.getCurrentIndex()) {
-                throw new IllegalStateException("Answer is for wrong question index.");
-            }
-            if (Instant.now().isAfter(s.getQuestionEndsAt())) {
-                throw new IllegalStateException("Too late. Question already ended.");
-            }
+        // Speicherzustand fortschreiben, Persistierung erfolgt gebündelt (Write-Behind)
+        s.recordAnswer(slot, questionIndex, chosen.correct());
+        journal.append(sessionId, s.participant(slot).participantId(), userId,
+                s.question(questionIndex).questionId(), questionIndex, answerId, chosen.correct());
+        metrics.answerAccepted();
 
-            LiveQuizParticipant p = participantRepo.findBySession_IdAndUser_Id(s.getId(), user.getId())
-                    .orElseThrow(() -> new SecurityException("Not a participant."));
+        // Early-Advance: alle haben geantwortet → jetzt beenden, nächste Frage nach dem Buffer
+        if (s.isEarlyAdvanceEnabled() && s.allAnswered(questionIndex)) {
+            endQuestion(sessionId, questionIndex, true);
+        }
+    }
 
-            // idempotent: already answered?
-            if (answerRepo.existsForParticipantAndIndex(p.getId(), questionIndex)) {
-                return;
-            }
+    // -------------------- Abbruch/Cancel --------------------
 
-            // Validierung: Antwort gehört zur richtigen Frage
-            SessionQuestion sq = sessionQuestionRepo.findBySession_IdAndIndexInSession(s.getId(), questionIndex)
-                    .orElseThrow(() -> new EntityNotFoundException("SessionQuestion not found"));
-            boolean belongs = sq.getQuestion().getAnswers().stream()
-                    .anyMatch(a -> a.getId().equals(answerId));
-            if (!belongs) {
-                throw new IllegalArgumentException("Answer does not belong to this question.");
-            }
+    public void abortSessionByHostDisconnect(UUID lobbyId) {
+        sessionRepo.findByLobbyId(lobbyId)
+                .filter(s -> s.getStatus() != SessionStatus.CANCELLED && s.getStatus() != SessionStatus.FINISHED)
+                // nur der Besitzer bricht ab; andere Nodes würden sonst einen eigenen Zustand aufbauen
+                .filter(s -> ownership.isOwner(s.getId()))
+                .ifPresent(s -> dispatch(s.getId(), LiveCommand.ABORT, () -> {
+                    long start = System.nanoTime();
+                    tx.abortSession(s.getId(), "HOST_DISCONNECTED");
+                    metrics.txCompleted(LiveQuizMetrics.Operation.ABORT, System.nanoTime() - start);
+                }));
+    }
 
-            Answer chosen = sq.getQuestion().getAnswers().stream()
-                    .filter(a -> a.getId().equals(answerId))
-                    .findFirst()
-                    .orElseThrow(() -> new EntityNotFoundException("Answer not found"));
+    // -------------------- Cluster: Leases & Failover --------------------
 
-            boolean correct = Boolean.TRUE.equals(chosen.getIsCorrect());
+    /** Verlängert periodisch die eigenen Leases und übernimmt Sessions ausgefallener Nodes. */
+    @EventListener(ApplicationReadyEvent.class)
+    void startLeaseMaintenance() {
+        if (!ownership.isClustered()) return;
+        Duration interval = ownership.getLeaseDuration().dividedBy(3);
+        leaseTask = taskScheduler.scheduleAtFixedRate(this::maintainLeases, Instant.now().plus(interval), interval);
+    }
 
-            ParticipantAnswer pa = ParticipantAnswer.builder()
-                    .sessionId(s.getId())
-                    .participant(p)
-                    .questionIndex(questionIndex)
-                    .answer(chosen)
-                    .isCorrect(correct)
-                    .answeredAt(java.time.LocalDateTime.now())
-                    .build();
-            answerRepo.save(pa);
+    @PreDestroy
+    void stopLeaseMaintenance() {
+        if (leaseTask != null) {
+            leaseTask.cancel(false);
+        }
+    }
 
-            if (correct) {
-                participantRepo.incrementScore(p.getId(), 1);
+    private void maintainLeases() {
+        try {
+            for (UUID sessionId : ownership.renewAll()) {
+                relinquish(sessionId);
             }
-
-            // Early-Advance?
-            if (s.isRunning() && s.isEarlyAdvanceEnabled()) {
-                long answered = answerRepo.countAnsweredForQuestion(s.getId(), questionIndex);
-                long total = participantRepo.countBySession_Id(s.getId());
-                if (answered == total) {
-                    // end now and schedule next (buffer)
-                    tx.endCurrentQuestion(s.getId(), true);
-                    if (s.hasMoreQuestions()) {
-                        Instant when = Instant.now().plusSeconds(s.getBufferDurationSec());
-                        scheduleNextQuestionAt(s.getId(), when, questionIndex + 1);
-                    } else {
-                        // finished; runner will broadcast QUIZ_ENDED
-                        cancelFuture(scheduledEnds.remove(s.getId()));
-                        cancelFuture(scheduledNext.remove(s.getId()));
-                    }
-                } else {
-                    // still waiting—ensure end is scheduled
-                    scheduleEndAt(s.getId(), s.getQuestionEndsAt());
-                }
+            for (UUID sessionId : ownership.claimOrphans()) {
+                resume(sessionId);
             }
+        } catch (RuntimeException e) {
+            log.warn("Maintaining live session leases failed: {}", e.getMessage());
         }
     }
 
-    // -------------------- Abbruch/Cancel --------------------
-
-    @Transactional
-    public void abortSessionByHostDisconnect(UUID lobbyId) {
-        Optional<LiveQuizSession> opt = sessionRepo.findByLobbyId(lobbyId);
-        if (opt.isEmpty()) return;
-        LiveQuizSession s = opt.get();
-        if (s.getStatus() == SessionStatus.CANCELLED || s.getStatus() == SessionStatus.FINISHED) return;
+    private boolean takeOver(UUID sessionId) {
+        if (!ownership.claim(sessionId)) return false;
+        resume(sessionId);
+        return true;
+    }
 
-        s.setStatus(SessionStatus.CANCELLED);
-        sessionRepo.save(s);
+    /**
+     * Übernommene Session: Zustand aus der Datenbank laden und die nächste Frist neu stellen.
+     * Bereits vergangene Fristen feuern sofort.
+     */
+    private void resume(UUID sessionId) {
+        log.info("Live session {} taken over by node {}.", sessionId, ownership.getNodeId());
+        dispatch(sessionId, LiveCommand.TICK, () -> {
+            LiveSessionState s = engine.get(sessionId);
+            if (s.isTerminal()) return;
+            if (s.getStatus() == SessionStatus.COUNTDOWN) {
+                scheduleNextQuestionAt(sessionId, s.getStartAt(), 0);
+            } else if (s.isQuestionClosed()) {
+                scheduleNextQuestionAt(sessionId, s.getQuestionEndsAt(), s.getCurrentIndex() + 1);
+            } else {
+                scheduleEndAt(sessionId, s.getQuestionEndsAt(), s.getCurrentIndex());
+            }
+        });
+    }
 
-        var evt = LiveEvents.QuizAborted.builder()
-                .sessionId(s.getId())
-                .reason("HOST_DISCONNECTED")
-                .build();
-        messagingTemplate.convertAndSend(topicForLobby(s.getLobbyId()), evt);
+    /** Lease an einen anderen Node verloren: lokale Timer und lokalen Zustand verwerfen. */
+    private void relinquish(UUID sessionId) {
+        log.warn("Live session {} lost its lease, dropping local state.", sessionId);
+        mailboxes.execute(sessionId, LiveCommand.ABORT, () -> discard(sessionId))
+                .whenComplete((v, ex) -> mailboxes.evict(sessionId));
+    }
 
-        cancelFuture(scheduledEnds.remove(s.getId()));
-        cancelFuture(scheduledNext.remove(s.getId()));
+    /** Läuft in der Mailbox: Timer stoppen, angenommene Antworten sichern, Zustand verwerfen. */
+    private void discard(UUID sessionId) {
+        cancelTimers(sessionId);
+        journal.close(sessionId);
+        engine.evict(sessionId);
     }
 
     // -------------------- Snapshot (für Reconnect) --------------------
 
-    @Transactional(readOnly = true)
     public Map<String, Object> getSessionState(UUID sessionId, User user) {
-        LiveQuizSession s = sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new EntityNotFoundException("Session not found: " + sessionId));
+        // fremde Sessions nur lesen, nicht registrieren – der Besitzer hält den Zustand
+        LiveSessionState s = ownership.isOwner(sessionId) ? engine.get(sessionId) : engine.load(sessionId);
 
-        var meOpt = participantRepo.findBySession_IdAndUser_Id(sessionId, user.getId());
-        if (meOpt.isEmpty()) throw new SecurityException("Not a participant.");
+        int slot = s.slotOf(user.getId());
+        if (slot < 0) throw new SecurityException("Not a participant.");
 
         Map<String, Object> out = new LinkedHashMap<>();
         out.put("status", s.getStatus().name());
@@ -484,33 +471,16 @@ public class LiveQuizService {
         out.put("startAt", s.getStartAt());
         out.put("endsAt", s.getQuestionEndsAt());
 
-        // aktuelle Frage (falls RUNNING)
+        // aktuelle Frage (falls RUNNING) – derselbe vorab serialisierte JSON-Block wie bei QUESTION_SHOW
         if (s.getStatus() == SessionStatus.RUNNING && s.getCurrentIndex() >= 0) {
-            SessionQuestion sq = sessionQuestionRepo.findBySession_IdAndIndexInSession(s.getId(), s.getCurrentIndex())
-                    .orElseThrow(() -> new EntityNotFoundException("SessionQuestion not found"));
-
-            List<UUID> orderIds;
-            try {
-                orderIds = Arrays.asList(objectMapper.readValue(sq.getAnswerOrderJson(), UUID[].class));
-            } catch (JsonProcessingException e) {
-                orderIds = Collections.emptyList();
-            }
-            Map<String, Object> q = new LinkedHashMap<>();
-            q.put("id", sq.getQuestion().getId());
-            q.put("text", sq.getQuestion().getQuestionText());
-            q.put("answers", orderIds.stream().map(aid -> {
-                var a = sq.getQuestion().getAnswers().stream().filter(x -> x.getId().equals(aid)).findFirst().orElse(null);
-                return Map.of("id", aid, "text", a != null ? a.getText() : "");
-            }).collect(Collectors.toList()));
-            out.put("question", q);
+            out.put("question", frames.get(s, s.getCurrentIndex()).questionJson());
         }
 
         // eigener Status
-        var me = meOpt.get();
-        boolean answered = answerRepo.existsForParticipantAndIndex(me.getId(), s.getCurrentIndex());
         out.put("you", Map.of(
-                "score", me.getScore(),
-                "answered", answered
+                "score", s.scoreOf(slot),
+                "rank", s.rankOf(slot),
+                "answered", s.hasAnswered(slot, s.getCurrentIndex())
         ));
 
         return out;
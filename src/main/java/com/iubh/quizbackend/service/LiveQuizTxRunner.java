@@ -1,146 +1,180 @@
-
 // src/main/java/com/iubh/quizbackend/service/LiveQuizTxRunner.java
 package com.iubh.quizbackend.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.iubh.quizbackend.api.dto.live.LiveEvents;
-import com.iubh.quizbackend.entity.question.Answer;
-import com.iubh.quizbackend.entity.quiz.LiveQuizSession;
-import com.iubh.quizbackend.entity.quiz.SessionQuestion;
 import com.iubh.quizbackend.entity.quiz.SessionStatus;
-import com.iubh.quizbackend.repository.*;
-import jakarta.persistence.EntityNotFoundException;
+import com.iubh.quizbackend.repository.LiveQuizSessionRepository;
+import com.iubh.quizbackend.service.live.LiveAnswerJournal;
+import com.iubh.quizbackend.service.live.LiveQuizMetrics;
+import com.iubh.quizbackend.service.live.LiveSessionEngine;
+import com.iubh.quizbackend.service.live.LiveSessionOwnership;
+import com.iubh.quizbackend.service.live.LiveSessionState;
+import com.iubh.quizbackend.service.live.QuestionFrameCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.MimeTypeUtils;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * Zustandsübergänge einer Live-Session. Gelesen wird ausschließlich aus dem
+ * {@link LiveSessionEngine}; die Datenbank erhält nur noch schmale Fortschritts-Updates,
+ * Antworten laufen gebündelt über das {@link LiveAnswerJournal}.
+ * <p>
+ * Jeder Übergang prüft zuerst per {@link LiveSessionOwnership#fence}, dass dieser Node die Lease
+ * noch hält – sonst wird weder geschrieben noch gesendet.
+ */
 @Service
 @RequiredArgsConstructor
 public class LiveQuizTxRunner {
 
     private final LiveQuizSessionRepository sessionRepo;
-    private final SessionQuestionRepository sessionQuestionRepo;
-    private final LiveQuizParticipantRepository participantRepo;
-    private final ParticipantAnswerRepository answerRepo;
     private final SimpMessagingTemplate messagingTemplate;
-    private final ObjectMapper objectMapper;
+    private final LiveSessionEngine engine;
+    private final LiveAnswerJournal journal;
+    private final QuestionFrameCache frames;
+    private final LiveQuizMetrics metrics;
+    private final LiveSessionOwnership ownership;
+
+    /** Anzahl Plätze im QUESTION_END-Leaderboard; das vollständige Ranking kommt mit QUIZ_ENDED. */
+    @Value("${application.live.leaderboard.top-n:10}")
+    private int leaderboardTopN;
 
     private String topic(UUID lobbyId) { return "/topic/lobby/" + lobbyId; }
 
     @Transactional
     public void showQuestion(UUID sessionId, int index) {
-        LiveQuizSession s = sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new EntityNotFoundException("Session not found: " + sessionId));
+        LiveSessionState s = engine.get(sessionId);
 
-        if (s.getStatus() == SessionStatus.CANCELLED || s.getStatus() == SessionStatus.FINISHED) return;
+        if (s.isTerminal()) return;
+        ownership.fence(sessionId);
         if (index >= s.getTotalQuestions()) {
             finishSessionInternal(s);
             return;
         }
 
-        s.setStatus(SessionStatus.RUNNING);
-        s.setCurrentIndex(index);
-
         Instant endsAt = Instant.now().plusSeconds(s.getQuestionDurationSec());
-        s.setQuestionEndsAt(endsAt);
-        sessionRepo.save(s);
-
-        SessionQuestion sq = sessionQuestionRepo.findWithQuestionAndAnswers(s.getId(), index)
-                .orElseThrow(() -> new EntityNotFoundException("SessionQuestion not found"));
-
-        List<UUID> orderIds;
-        try {
-            orderIds = Arrays.asList(objectMapper.readValue(sq.getAnswerOrderJson(), UUID[].class));
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("answerOrderJson malformed", e);
-        }
-
-        var answerMap = sq.getQuestion().getAnswers().stream()
-                .collect(Collectors.toMap(Answer::getId, a -> a));
 
-        var answers = orderIds.stream()
-                .map(id -> {
-                    var a = answerMap.get(id);
-                    return new LiveEvents.QuestionShow.AnswerPayload(a.getId(), a.getText());
-                })
-                .toList();
+        // vorab serialisierter Frame: nur noch endsAt einsetzen und dieselben Bytes an alle senden
+        long start = System.nanoTime();
+        byte[] payload = frames.get(s, index).render(frames.serializeInstant(endsAt));
+        sessionRepo.updateProgress(sessionId, SessionStatus.RUNNING, index, endsAt);
 
-        var qPayload = LiveEvents.QuestionShow.QuestionPayload.builder()
-                .id(sq.getQuestion().getId())
-                .text(sq.getQuestion().getQuestionText())
-                .answers(answers)
-                .build();
-
-        var evt = LiveEvents.QuestionShow.builder()
-                .sessionId(s.getId())
-                .index(index)
-                .endsAt(endsAt)
-                .question(qPayload)
-                .build();
+        // Speicherzustand erst nach den fehlbaren Schritten ändern – ein Rollback setzt ihn nicht zurück
+        s.setStatus(SessionStatus.RUNNING);
+        s.setCurrentIndex(index);
+        s.setQuestionEndsAt(endsAt);
+        s.setQuestionClosed(false);
 
-        messagingTemplate.convertAndSend(topic(s.getLobbyId()), evt);
+        messagingTemplate.send(topic(s.getLobbyId()), MessageBuilder.withPayload(payload)
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build());
+        metrics.broadcastCompleted(LiveQuizMetrics.Event.QUESTION_SHOW, System.nanoTime() - start);
     }
 
     @Transactional
     public void endCurrentQuestion(UUID sessionId, boolean earlyAdvance) {
-        LiveQuizSession s = sessionRepo.findById(sessionId)
-                .orElseThrow(() -> new EntityNotFoundException("Session not found: " + sessionId));
+        LiveSessionState s = engine.get(sessionId);
         if (s.getStatus() != SessionStatus.RUNNING) return;
+        // Timer und Early-Advance können sich überholen – nur das erste Ende zählt
+        if (s.isQuestionClosed()) return;
+        ownership.fence(sessionId);
 
         int idx = s.getCurrentIndex();
-
-        SessionQuestion sq = sessionQuestionRepo.findWithQuestionAndAnswers(s.getId(), idx)
-                .orElseThrow(() -> new EntityNotFoundException("SessionQuestion not found"));
-
-        UUID correctAnswerId = sq.getQuestion().getAnswers().stream()
-                .filter(Answer::getIsCorrect)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Question without correct answer"))
-                .getId();
-
-        var leaderboard = participantRepo.getLeaderboard(s.getId()).stream()
-                .map(r -> new LiveEvents.QuestionEnd.LeaderboardRow(r.getUserId(), r.getFirstName(), r.getName(), r.getScore()))
-                .toList();
+        s.setQuestionClosed(true);
+        journal.flush(sessionId);
 
         var evt = LiveEvents.QuestionEnd.builder()
-                .sessionId(s.getId())
+                .sessionId(sessionId)
                 .index(idx)
-                .correctAnswerId(correctAnswerId)
-                .leaderboard(leaderboard)
+                .correctAnswerId(s.question(idx).correctAnswerId())
+                .leaderboard(rows(s, s.topSlots(leaderboardTopN)))
+                .totalParticipants(s.participantCount())
+                .rankChanges(rankChanges(s))
                 .build();
 
-        messagingTemplate.convertAndSend(topic(s.getLobbyId()), evt);
+        broadcast(s, LiveQuizMetrics.Event.QUESTION_END, evt);
+        if (!earlyAdvance) {
+            // Verzug gegenüber dem geplanten Ende; bei Early-Advance endet die Frage bewusst vorher
+            metrics.questionEnded(Duration.between(s.getQuestionEndsAt(), Instant.now()));
+        }
 
         if (s.hasMoreQuestions()) {
             // next is scheduled by caller (LiveQuizService), we only persist timestamps here if needed
-            s.setQuestionEndsAt(Instant.now().plus(s.getBufferDurationSec(), ChronoUnit.SECONDS));
-            sessionRepo.save(s);
+            Instant bufferEndsAt = Instant.now().plus(s.getBufferDurationSec(), ChronoUnit.SECONDS);
+            s.setQuestionEndsAt(bufferEndsAt);
+            sessionRepo.updateIndexAndEndsAt(sessionId, idx, bufferEndsAt);
         } else {
             finishSessionInternal(s);
         }
     }
 
     @Transactional
-    public void finishSessionInternal(LiveQuizSession s) {
+    public void finishSessionInternal(LiveSessionState s) {
+        // alle Antworten müssen vor dem Statuswechsel persistiert sein
+        journal.close(s.getSessionId());
         s.setStatus(SessionStatus.FINISHED);
-        sessionRepo.save(s);
-
-        var leaderboard = participantRepo.getLeaderboard(s.getId()).stream()
-                .map(r -> new LiveEvents.QuestionEnd.LeaderboardRow(r.getUserId(), r.getFirstName(), r.getName(), r.getScore()))
-                .toList();
+        sessionRepo.updateStatus(s.getSessionId(), SessionStatus.FINISHED);
 
         var evt = LiveEvents.QuizEnded.builder()
-                .sessionId(s.getId())
-                .leaderboard(leaderboard)
+                .sessionId(s.getSessionId())
+                .leaderboard(rows(s, s.slotsByScore()))
+                .build();
+
+        broadcast(s, LiveQuizMetrics.Event.QUIZ_ENDED, evt);
+        engine.evict(s.getSessionId());
+        frames.evict(s.getSessionId(), s.getTotalQuestions());
+        metrics.sessionEnded(LiveQuizMetrics.Outcome.FINISHED);
+    }
+
+    @Transactional
+    public void abortSession(UUID sessionId, String reason) {
+        LiveSessionState s = engine.get(sessionId);
+        if (s.isTerminal()) return;
+        ownership.fence(sessionId);
+
+        journal.close(sessionId);
+        s.setStatus(SessionStatus.CANCELLED);
+        sessionRepo.updateStatus(sessionId, SessionStatus.CANCELLED);
+
+        var evt = LiveEvents.QuizAborted.builder()
+                .sessionId(sessionId)
+                .reason(reason)
                 .build();
 
-        messagingTemplate.convertAndSend(topic(s.getLobbyId()), evt);
+        broadcast(s, LiveQuizMetrics.Event.QUIZ_ABORTED, evt);
+        engine.evict(sessionId);
+        frames.evict(sessionId, s.getTotalQuestions());
+        metrics.sessionEnded(LiveQuizMetrics.Outcome.CANCELLED);
+    }
+
+    private void broadcast(LiveSessionState s, LiveQuizMetrics.Event event, Object payload) {
+        long start = System.nanoTime();
+        messagingTemplate.convertAndSend(topic(s.getLobbyId()), payload);
+        metrics.broadcastCompleted(event, System.nanoTime() - start);
+    }
+
+    private List<LiveEvents.QuestionEnd.LeaderboardRow> rows(LiveSessionState s, List<Integer> slots) {
+        return slots.stream()
+                .map(slot -> {
+                    var p = s.participant(slot);
+                    return new LiveEvents.QuestionEnd.LeaderboardRow(p.userId(), p.firstName(), p.name(), s.scoreOf(slot), s.rankOf(slot));
+                })
+                .toList();
+    }
+
+    private List<LiveEvents.QuestionEnd.RankChange> rankChanges(LiveSessionState s) {
+        return s.drainRankChanges().stream()
+                .map(c -> new LiveEvents.QuestionEnd.RankChange(
+                        s.participant(c.slot()).userId(), c.score(), c.rank(), c.previousRank() - c.rank()))
+                .toList();
     }
 }
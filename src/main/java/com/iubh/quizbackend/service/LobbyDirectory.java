@@ -0,0 +1,231 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.api.dto.NotificationDto;
+import com.iubh.quizbackend.api.dto.quiz.LobbyDeltaDto;
+import com.iubh.quizbackend.api.dto.quiz.LobbySnapshotDto;
+import com.iubh.quizbackend.api.dto.quiz.QuizLobbyDto;
+import com.iubh.quizbackend.entity.quiz.QuizLobby;
+import com.iubh.quizbackend.entity.quiz.QuizLobbyStatus;
+import com.iubh.quizbackend.mapper.QuizLobbyMapper;
+import com.iubh.quizbackend.repository.QuizLobbyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * In-memory directory of the waiting lobbies.
+ * <p>
+ * Lobby changes are handed in after their transaction has committed and collected for
+ * {@code application.lobbies.coalesce-ms}; then one {@link LobbyDeltaDto} with the net changes is
+ * published on {@code /topic/lobbies/delta}. A lobby created and cancelled within the same window
+ * never shows up. Clients start from a {@link LobbySnapshotDto} (REST or subscription to
+ * {@code /app/lobbies/snapshot}), which is served from memory and always matches the last delta.
+ * Each publication also sends the full list to {@code /topic/lobbies} for clients that do not follow
+ * the deltas yet.
+ * <p>
+ * The directory is loaded from the database on first use; afterwards the lobby list costs no queries.
+ * In cluster mode ({@code application.live.cluster.enabled}) a node only sees its own changes, so the
+ * snapshot and the full list are read from the database instead and deltas carry version 0.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LobbyDirectory {
+
+    private static final String LOBBIES_TOPIC = "/topic/lobbies";
+    private static final String DELTA_TOPIC = "/topic/lobbies/delta";
+
+    private final QuizLobbyRepository quizLobbyRepository;
+    private final QuizLobbyMapper quizLobbyMapper;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TaskScheduler taskScheduler;
+    private final PlatformTransactionManager txManager;
+
+    @Value("${application.lobbies.coalesce-ms:50}")
+    private long coalesceMs;
+
+    @Value("${application.live.cluster.enabled:false}")
+    private boolean clustered;
+
+    /** The published lobbies, null until loaded and unused in cluster mode; modified only while holding this. */
+    private volatile Map<UUID, QuizLobbyDto> lobbies;
+    // All state below is guarded by this
+    private long version;
+    /** Latest state per changed lobby since the last delta; a null value means the lobby is gone. */
+    private final Map<UUID, QuizLobbyDto> pending = new LinkedHashMap<>();
+    private boolean publishScheduled;
+
+    /**
+     * Records the current state of a lobby; it is listed while WAITING and removed otherwise.
+     * Has to be called inside the transaction that changed the lobby, the mapping may load lazy associations.
+     */
+    public void lobbyChanged(QuizLobby lobby) {
+        UUID lobbyId = lobby.getId();
+        QuizLobbyDto dto = lobby.getStatus() == QuizLobbyStatus.WAITING ? quizLobbyMapper.toDto(lobby) : null;
+        AfterCommit.run(() -> submit(lobbyId, dto));
+    }
+
+    /**
+     * Removes lobbies cancelled by a bulk update, after it has committed.
+     */
+    public void lobbiesCancelled(Collection<UUID> lobbyIds) {
+        if (lobbyIds.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                for (UUID lobbyId : lobbyIds) {
+                    pending.put(lobbyId, null);
+                }
+                schedulePublish();
+            }
+        });
+    }
+
+    public LobbySnapshotDto snapshot() {
+        if (clustered) {
+            return new LobbySnapshotDto(0, new ArrayList<>(loadWaiting().values()));
+        }
+        Map<UUID, QuizLobbyDto> published = loaded();
+        synchronized (this) {
+            return new LobbySnapshotDto(version, new ArrayList<>(published.values()));
+        }
+    }
+
+    private synchronized void submit(UUID lobbyId, QuizLobbyDto lobby) {
+        pending.put(lobbyId, lobby);
+        schedulePublish();
+    }
+
+    private void schedulePublish() {
+        if (!publishScheduled && !pending.isEmpty()) {
+            publishScheduled = true;
+            taskScheduler.schedule(this::publish, Instant.now().plusMillis(coalesceMs));
+        }
+    }
+
+    /**
+     * Applies the pending changes and publishes them as one delta. Sent under the lock, so deltas
+     * leave in version order.
+     */
+    void publish() {
+        if (clustered) {
+            publishClustered();
+            return;
+        }
+        Map<UUID, QuizLobbyDto> published = loaded();
+        synchronized (this) {
+            publishScheduled = false;
+            if (apply(published)) {
+                send(LOBBIES_TOPIC, new NotificationDto<>(NotificationDto.NotificationType.LOBBY_UPDATE,
+                        new ArrayList<>(published.values())));
+            }
+        }
+    }
+
+    /**
+     * Called holding this.
+     *
+     * @return {@code false} if the pending changes cancelled out.
+     */
+    private boolean apply(Map<UUID, QuizLobbyDto> published) {
+        List<QuizLobbyDto> added = new ArrayList<>();
+        List<QuizLobbyDto> updated = new ArrayList<>();
+        List<UUID> removed = new ArrayList<>();
+        for (Map.Entry<UUID, QuizLobbyDto> change : pending.entrySet()) {
+            UUID lobbyId = change.getKey();
+            QuizLobbyDto lobby = change.getValue();
+            if (lobby == null) {
+                if (published.remove(lobbyId) != null) removed.add(lobbyId);
+            } else if (published.put(lobbyId, lobby) == null) {
+                added.add(lobby);
+            } else {
+                updated.add(lobby);
+            }
+        }
+        pending.clear();
+        if (added.isEmpty() && updated.isEmpty() && removed.isEmpty()) {
+            return false;
+        }
+        version++;
+        // Clients notice a failed send by the version gap and fetch a new snapshot
+        send(DELTA_TOPIC, LobbyDeltaDto.builder()
+                .version(version)
+                .added(added)
+                .updated(updated)
+                .removed(removed)
+                .build());
+        return true;
+    }
+
+    /**
+     * Without a cluster-wide version this node cannot tell added from updated lobbies: all waiting
+     * lobbies of the delta are listed as updated. The full list is read after the changes committed,
+     * so it also contains the changes of other nodes.
+     */
+    private void publishClustered() {
+        LobbyDeltaDto delta;
+        synchronized (this) {
+            publishScheduled = false;
+            List<QuizLobbyDto> updated = new ArrayList<>();
+            List<UUID> removed = new ArrayList<>();
+            pending.forEach((lobbyId, lobby) -> {
+                if (lobby == null) removed.add(lobbyId);
+                else updated.add(lobby);
+            });
+            pending.clear();
+            delta = LobbyDeltaDto.builder().version(0).added(List.of()).updated(updated).removed(removed).build();
+        }
+        send(DELTA_TOPIC, delta);
+        send(LOBBIES_TOPIC, new NotificationDto<>(NotificationDto.NotificationType.LOBBY_UPDATE,
+                new ArrayList<>(loadWaiting().values())));
+    }
+
+    private void send(String destination, Object payload) {
+        try {
+            messagingTemplate.convertAndSend(destination, payload);
+        } catch (RuntimeException e) {
+            log.warn("Publishing lobbies to {} failed: {}", destination, e.getMessage());
+        }
+    }
+
+    /**
+     * The published lobbies. The first call loads them outside the lock, so a slow query does not
+     * block other callers on the monitor; a concurrent first load is discarded. Changes committed
+     * meanwhile are still pending and applied on top at the next publish.
+     */
+    private Map<UUID, QuizLobbyDto> loaded() {
+        Map<UUID, QuizLobbyDto> published = lobbies;
+        if (published != null) {
+            return published;
+        }
+        Map<UUID, QuizLobbyDto> waiting = loadWaiting();
+        synchronized (this) {
+            if (lobbies == null) {
+                lobbies = waiting;
+                log.debug("Loaded {} waiting lobbies.", waiting.size());
+            }
+            return lobbies;
+        }
+    }
+
+    private Map<UUID, QuizLobbyDto> loadWaiting() {
+        TransactionTemplate template = new TransactionTemplate(txManager);
+        template.setReadOnly(true);
+        return template.execute(status -> {
+            Map<UUID, QuizLobbyDto> result = new LinkedHashMap<>();
+            for (QuizLobby lobby : quizLobbyRepository.findByStatus(QuizLobbyStatus.WAITING)) {
+                result.put(lobby.getId(), quizLobbyMapper.toDto(lobby));
+            }
+            return result;
+        });
+    }
+}
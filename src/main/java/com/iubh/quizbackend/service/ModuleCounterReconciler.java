@@ -0,0 +1,71 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.repository.ModuleRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Periodically recomputes the denormalized module counters (followers, active questions).
+ * <p>
+ * The counters are adjusted incrementally on follow/unfollow, question creation and
+ * deactivation; this job corrects any drift (e.g. seeded data, direct database changes).
+ * The first run happens once the application is ready, i.e. after the seeders.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ModuleCounterReconciler {
+
+    private final ModuleRepository moduleRepository;
+    private final PlatformTransactionManager txManager;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${application.module-counters.reconcile-interval-ms:600000}")
+    private long reconcileIntervalMs;
+
+    private ScheduledFuture<?> reconcileTask;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        reconcile();
+        Duration interval = Duration.ofMillis(reconcileIntervalMs);
+        reconcileTask = taskScheduler.scheduleAtFixedRate(this::reconcile, Instant.now().plus(interval), interval);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (reconcileTask != null) {
+            reconcileTask.cancel(false);
+        }
+    }
+
+    /**
+     * Recomputes the counters of all modules.
+     *
+     * @return The number of modules whose counters were corrected.
+     */
+    public int reconcile() {
+        try {
+            Integer corrected = new TransactionTemplate(txManager).execute(status -> moduleRepository.reconcileCounters());
+            if (corrected != null && corrected > 0) {
+                log.info("Reconciled counters of {} modules.", corrected);
+            }
+            return corrected == null ? 0 : corrected;
+        } catch (RuntimeException e) {
+            log.warn("Reconciling module counters failed: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -35,6 +36,8 @@ public class ModuleService {
     private final ModuleMapper moduleMapper;
     private final ChoiceQuestionRepository choiceQuestionRepository; // Inject new repository
     private final ChoiceQuestionMapper choiceQuestionMapper; // Inject question mapper
+    private final ChangeRequestCountsService changeRequestCountsService;
+    private final PresenceService presenceService;
 
 
     /**
@@ -108,9 +111,13 @@ public class ModuleService {
         // Use the Set's efficient 'contains' check. This works because Module has a proper equals/hashCode.
         if (user.getFollowedModules().contains(module)) {
             user.unfollowModule(module);
+            moduleRepository.adjustLikeCount(moduleId, -1);
+            presenceService.followChanged(user.getId(), moduleId, false);
             return false; // User is no longer following
         } else {
             user.followModule(module);
+            moduleRepository.adjustLikeCount(moduleId, 1);
+            presenceService.followChanged(user.getId(), moduleId, true);
             return true; // User is now following
         }
     }
@@ -132,21 +139,12 @@ public class ModuleService {
         // 2. Fetch the paginated list of questions for this module
         Page<ChoiceQuestion> questionsPage = choiceQuestionRepository.findByModule_IdAndActiveTrue(moduleId, pageable);
 
-        // 3. Map the page of question entities to a page of DTOs
+        // 3. Map the page of question entities to a page of DTOs, with the change request counters loaded in one query
+        Map<UUID, ChangeRequestCountsDto> changeRequestCounts = changeRequestCountsService.countsFor(
+                questionsPage.map(ChoiceQuestion::getId).getContent());
         Page<ChoiceQuestionDto> questionsDtoPage = questionsPage.map(e -> {
-
-           log.info(e.getAnswers().size() + " Entity : answers found");
             ChoiceQuestionDto dto = choiceQuestionMapper.toDto(e);
-            log.info(dto.getAnswers().size() + " Dto :  answers found");
-            dto.setChangeRequestCounts(
-                    ChangeRequestCountsDto.builder()
-                            .total(e.getTotalChangeRequests())
-                            .answerChange(e.getAnswerChangeRequests())
-                            .questionTextChange(e.getQuestionTextChangeRequests())
-                            .duplicationChange(e.getDuplicationChangeRequests())
-                            .deletionRequest(e.getDeletionRequests())
-                            .build()
-            );
+            dto.setChangeRequestCounts(changeRequestCounts.get(e.getId()));
             return dto;
         });
 
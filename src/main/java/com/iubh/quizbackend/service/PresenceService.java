@@ -0,0 +1,245 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.api.dto.ActiveUsersDeltaDto;
+import com.iubh.quizbackend.api.dto.UserDto;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.mapper.UserMapper;
+import com.iubh.quizbackend.repository.ModuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Tracks which users are online and keeps, per module, the set of its online followers in memory.
+ * <p>
+ * The followed modules of a user are loaded once when their first WebSocket session connects and are
+ * kept up to date by follow toggles, so connects and disconnects never query the database per module.
+ * Changes are collected per module and published after {@code application.presence.debounce-ms}:
+ * the full list of online followers on {@code /topic/activeUsers/{moduleId}} and an
+ * {@link ActiveUsersDeltaDto} on {@code /topic/activeUsers/{moduleId}/delta}. A login spike therefore
+ * results in at most one event pair per module and debounce window.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PresenceService {
+
+    private static final String TOPIC = "/topic/activeUsers/";
+
+    private final ModuleRepository moduleRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TaskScheduler taskScheduler;
+    private final QuizMetrics metrics;
+
+    @Value("${application.presence.debounce-ms:500}")
+    private long debounceMs;
+
+    // All state below is guarded by this
+    private final Map<String, UUID> userBySession = new HashMap<>();
+    private final Map<UUID, OnlineUser> onlineUsers = new HashMap<>();
+    private final Map<UUID, Set<UUID>> onlineFollowers = new HashMap<>();
+    private final Map<UUID, PendingDelta> pending = new HashMap<>();
+
+    /**
+     * Registers a WebSocket session of the user. Only the first session of a user changes the
+     * online followers of their modules.
+     */
+    public void connected(String sessionId, User user) {
+        UUID userId = user.getId();
+        OnlineUser online;
+        synchronized (this) {
+            if (joinExisting(sessionId, userId)) {
+                return;
+            }
+            // Register before loading, so a disconnect or follow toggle during the load is not lost
+            userBySession.put(sessionId, userId);
+            online = new OnlineUser(UserMapper.toDto(user));
+            onlineUsers.put(userId, online);
+        }
+
+        List<UUID> followedModules = moduleRepository.findFollowedModuleIdsByUserId(userId);
+
+        synchronized (this) {
+            if (onlineUsers.get(userId) != online) {
+                // All sessions disconnected during the load
+                return;
+            }
+            online.loaded = true;
+            for (UUID moduleId : followedModules) {
+                follow(userId, online, moduleId);
+            }
+            online.toggles.forEach((moduleId, following) -> toggle(userId, online, moduleId, following));
+            online.toggles.clear();
+        }
+    }
+
+    /**
+     * Registers the session if it is already known or its user is already online.
+     *
+     * @return {@code false} if this is the first session of the user.
+     */
+    private boolean joinExisting(String sessionId, UUID userId) {
+        if (userBySession.containsKey(sessionId)) {
+            return true;
+        }
+        OnlineUser online = onlineUsers.get(userId);
+        if (online == null) {
+            return false;
+        }
+        userBySession.put(sessionId, userId);
+        online.sessions++;
+        return true;
+    }
+
+    /**
+     * Removes a WebSocket session.
+     *
+     * @return The ID of the session's user, or {@code null} if the session was not registered.
+     */
+    public UUID disconnected(String sessionId) {
+        synchronized (this) {
+            UUID userId = userBySession.remove(sessionId);
+            if (userId == null) {
+                return null;
+            }
+            OnlineUser online = onlineUsers.get(userId);
+            if (online != null && --online.sessions == 0) {
+                onlineUsers.remove(userId);
+                for (UUID moduleId : online.modules) {
+                    removeFollower(moduleId, userId);
+                    delta(moduleId).left(userId, online.dto);
+                }
+            }
+            return userId;
+        }
+    }
+
+    /**
+     * Applies a follow toggle of an online user once the current transaction has committed.
+     */
+    public void followChanged(UUID userId, UUID moduleId, boolean following) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                OnlineUser online = onlineUsers.get(userId);
+                if (online == null) {
+                    return;
+                }
+                if (!online.loaded) {
+                    // Applied after the followed modules are loaded; the load may or may not include it
+                    online.toggles.put(moduleId, following);
+                    return;
+                }
+                toggle(userId, online, moduleId, following);
+            }
+        });
+    }
+
+    private void toggle(UUID userId, OnlineUser online, UUID moduleId, boolean following) {
+        if (following) {
+            follow(userId, online, moduleId);
+        } else if (online.modules.remove(moduleId)) {
+            removeFollower(moduleId, userId);
+            delta(moduleId).left(userId, online.dto);
+        }
+    }
+
+    private void follow(UUID userId, OnlineUser online, UUID moduleId) {
+        if (online.modules.add(moduleId)) {
+            onlineFollowers.computeIfAbsent(moduleId, id -> new HashSet<>()).add(userId);
+            delta(moduleId).joined(userId, online.dto);
+        }
+    }
+
+    /**
+     * The online followers of a module.
+     */
+    public synchronized List<UserDto> onlineFollowers(UUID moduleId) {
+        Set<UUID> followers = onlineFollowers.getOrDefault(moduleId, Set.of());
+        List<UserDto> users = new ArrayList<>(followers.size());
+        for (UUID userId : followers) {
+            users.add(onlineUsers.get(userId).dto);
+        }
+        return users;
+    }
+
+    private void removeFollower(UUID moduleId, UUID userId) {
+        Set<UUID> followers = onlineFollowers.get(moduleId);
+        if (followers != null) {
+            followers.remove(userId);
+            if (followers.isEmpty()) onlineFollowers.remove(moduleId);
+        }
+    }
+
+    /** The pending delta of a module; the first change of a window schedules its publication. */
+    private PendingDelta delta(UUID moduleId) {
+        return pending.computeIfAbsent(moduleId, id -> {
+            taskScheduler.schedule(() -> publish(id), Instant.now().plusMillis(debounceMs));
+            return new PendingDelta();
+        });
+    }
+
+    void publish(UUID moduleId) {
+        ActiveUsersDeltaDto delta;
+        List<UserDto> followers;
+        synchronized (this) {
+            PendingDelta changes = pending.remove(moduleId);
+            if (changes == null || changes.isEmpty()) {
+                return;
+            }
+            followers = onlineFollowers(moduleId);
+            delta = ActiveUsersDeltaDto.builder()
+                    .moduleId(moduleId)
+                    .joined(List.copyOf(changes.joined.values()))
+                    .left(List.copyOf(changes.left.values()))
+                    .onlineCount(followers.size())
+                    .build();
+        }
+        long start = System.nanoTime();
+        try {
+            messagingTemplate.convertAndSend(TOPIC + moduleId, followers);
+            messagingTemplate.convertAndSend(TOPIC + moduleId + "/delta", delta);
+            metrics.presencePublished(System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            log.warn("Publishing presence of module {} failed: {}", moduleId, e.getMessage());
+        }
+    }
+
+    private static final class OnlineUser {
+        private final UserDto dto;
+        private final Set<UUID> modules = new HashSet<>();
+        /** Follow toggles that commit while the followed modules are still loading. */
+        private final Map<UUID, Boolean> toggles = new LinkedHashMap<>();
+        private boolean loaded;
+        private int sessions = 1;
+
+        private OnlineUser(UserDto dto) {
+            this.dto = dto;
+        }
+    }
+
+    /**
+     * Net changes of one module within the debounce window: joining and leaving again cancel out.
+     */
+    private static final class PendingDelta {
+        private final Map<UUID, UserDto> joined = new LinkedHashMap<>();
+        private final Map<UUID, UserDto> left = new LinkedHashMap<>();
+
+        void joined(UUID userId, UserDto user) {
+            if (left.remove(userId) == null) joined.put(userId, user);
+        }
+
+        void left(UUID userId, UserDto user) {
+            if (joined.remove(userId) == null) left.put(userId, user);
+        }
+
+        boolean isEmpty() {
+            return joined.isEmpty() && left.isEmpty();
+        }
+    }
+}
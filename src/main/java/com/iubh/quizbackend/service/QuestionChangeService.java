@@ -1,5 +1,7 @@
 package com.iubh.quizbackend.service;
 
+import com.iubh.quizbackend.api.dto.ChangeRequestCountsDto;
+import com.iubh.quizbackend.api.dto.ChoiceQuestionDto;
 import com.iubh.quizbackend.api.dto.changeRequest.CreateChangeRequestDto;
 import com.iubh.quizbackend.api.dto.changeRequest.QuestionChangeRequestDto;
 import com.iubh.quizbackend.api.dto.changeRequest.VoteDto;
@@ -10,11 +12,15 @@ import com.iubh.quizbackend.entity.question.ChoiceQuestion;
 import com.iubh.quizbackend.entity.user.User;
 import com.iubh.quizbackend.mapper.ChoiceQuestionMapper;
 import com.iubh.quizbackend.mapper.ProposedAnswerMapper;
+import com.iubh.quizbackend.repository.ChangeRequestVoteRepository;
 import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
+import com.iubh.quizbackend.repository.ModuleRepository;
 import com.iubh.quizbackend.repository.QuestionChangeRequestRepository;
 import com.iubh.quizbackend.repository.UserRepository;
+import com.iubh.quizbackend.repository.projection.VoteTallyRow;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -23,9 +29,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,9 +39,15 @@ public class QuestionChangeService {
 
     private final QuestionChangeRequestRepository changeRequestRepository;
     private final ChoiceQuestionRepository choiceQuestionRepository;
+    private final ModuleRepository moduleRepository;
     private final UserRepository userRepository;
     private final ChoiceQuestionMapper choiceQuestionMapper;
     private final ProposedAnswerMapper proposedAnswerMapper; // --- ADD THIS ---
+    private final QuestionPoolService questionPoolService;
+    private final ChangeRequestCountsService changeRequestCountsService;
+    private final ChangeRequestVoteRepository voteRepository;
+    private final QuestionSearchService questionSearchService;
+    private final DuplicateDetectionService duplicateDetectionService;
 
     private static final int VOTE_THRESHOLD = 3;
 
@@ -44,14 +55,14 @@ public class QuestionChangeService {
     public Page<QuestionChangeRequestDto> getChangeRequestsByModule(UUID moduleId, Pageable pageable) {
         Page<QuestionChangeRequest> requestsPage = changeRequestRepository.findByQuestion_ModuleId(moduleId, pageable);
         User currentUser = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return requestsPage.map(request -> convertToDto(request, currentUser));
+        return toFeedPage(requestsPage, currentUser);
     }
 
     @Transactional(readOnly = true)
     public Page<QuestionChangeRequestDto> getChangeRequestsByQuestion(UUID questionId, Pageable pageable) {
         Page<QuestionChangeRequest> requestsPage = changeRequestRepository.findByQuestionId(questionId, pageable);
         User currentUser = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return requestsPage.map(request -> convertToDto(request, currentUser));
+        return toFeedPage(requestsPage, currentUser);
     }
 
     @Transactional(readOnly = true)
@@ -69,10 +80,63 @@ public class QuestionChangeService {
                 .collect(Collectors.toList());
 
         Page<QuestionChangeRequest> requestsPage = changeRequestRepository.findByQuestion_ModuleIdInAndStatus(followedModuleIds, status, pageable);
-        return requestsPage.map(request -> convertToDto(request, currentUser));
+        return toFeedPage(requestsPage, currentUser);
     }
 
-    private QuestionChangeRequestDto convertToDto(QuestionChangeRequest entity, User currentUser) {
+    /**
+     * Converts a page of change requests with a constant number of queries, independent of the page size:
+     * the page query already fetched requester, question and module; here the answers of all referenced
+     * questions (including duplicate targets), the proposed answers, the vote tallies and the change request
+     * counters of the questions are loaded in bulk.
+     */
+    private Page<QuestionChangeRequestDto> toFeedPage(Page<QuestionChangeRequest> requestsPage, User currentUser) {
+        List<QuestionChangeRequest> requests = requestsPage.getContent();
+        if (requests.isEmpty()) {
+            return requestsPage.map(request -> convertToDto(request, currentUser, Map.of(), Map.of()));
+        }
+
+        Set<UUID> questionIds = new HashSet<>();
+        List<UUID> answerRequestIds = new ArrayList<>();
+        for (QuestionChangeRequest request : requests) {
+            questionIds.add(request.getQuestion().getId());
+            if (request instanceof DuplicateQuestionRequest r && r.getDuplicateOfQuestionId() != null) {
+                questionIds.add(r.getDuplicateOfQuestionId());
+            } else if (request instanceof IncorrectAnswerRequest) {
+                answerRequestIds.add(request.getId());
+            }
+        }
+
+        // Initializes the answers of the page's questions in the persistence context and resolves the duplicate targets
+        Map<UUID, ChoiceQuestion> questions = choiceQuestionRepository.findWithModuleAndAnswersByIdIn(questionIds).stream()
+                .collect(Collectors.toMap(ChoiceQuestion::getId, Function.identity()));
+        if (!answerRequestIds.isEmpty()) {
+            changeRequestRepository.fetchProposedAnswers(answerRequestIds);
+        }
+        List<UUID> requestIds = requests.stream().map(QuestionChangeRequest::getId).toList();
+        Map<UUID, VoteTallyRow> tallies = changeRequestRepository.findVoteTallies(requestIds, currentUser.getId()).stream()
+                .collect(Collectors.toMap(VoteTallyRow::getChangeRequestId, Function.identity()));
+
+        Map<UUID, ChangeRequestCountsDto> counts = changeRequestCountsService.countsFor(questionIds);
+
+        return requestsPage.map(request -> withCounts(convertToDto(request, currentUser, questions, tallies), counts));
+    }
+
+    private static QuestionChangeRequestDto withCounts(QuestionChangeRequestDto dto, Map<UUID, ChangeRequestCountsDto> counts) {
+        setCounts(dto.getQuestion(), counts);
+        if (dto instanceof QuestionChangeRequestDto.DuplicateQuestionRequestDto d) {
+            setCounts(d.getDuplicateOfQuestion(), counts);
+        }
+        return dto;
+    }
+
+    private static void setCounts(ChoiceQuestionDto question, Map<UUID, ChangeRequestCountsDto> counts) {
+        if (question != null && counts.containsKey(question.getId())) {
+            question.setChangeRequestCounts(counts.get(question.getId()));
+        }
+    }
+
+    QuestionChangeRequestDto convertToDto(QuestionChangeRequest entity, User currentUser,
+                                          Map<UUID, ChoiceQuestion> questions, Map<UUID, VoteTallyRow> tallies) {
         QuestionChangeRequestDto dto;
 
         // Determine which DTO to instantiate based on the entity type
@@ -93,9 +157,11 @@ public class QuestionChangeService {
             dto = new QuestionChangeRequestDto.SuggestDeletionRequestDto();
         } else if (entity instanceof DuplicateQuestionRequest r) {
             QuestionChangeRequestDto.DuplicateQuestionRequestDto specificDto = new QuestionChangeRequestDto.DuplicateQuestionRequestDto();
-            // Fetch and map the duplicate question
-            choiceQuestionRepository.findById(r.getDuplicateOfQuestionId())
-                    .ifPresent(dupQuestion -> specificDto.setDuplicateOfQuestion(choiceQuestionMapper.toDto(dupQuestion)));
+            // Map the duplicate question, loaded in bulk for the whole page
+            ChoiceQuestion dupQuestion = questions.get(r.getDuplicateOfQuestionId());
+            if (dupQuestion != null) {
+                specificDto.setDuplicateOfQuestion(choiceQuestionMapper.toDto(dupQuestion));
+            }
             dto = specificDto;
         } else {
             // This should not happen with the current structure
@@ -112,13 +178,10 @@ public class QuestionChangeService {
         dto.setQuestion(choiceQuestionMapper.toDto(entity.getQuestion()));
         dto.setRequestType(resolveRequestType(entity));
 
-        long positiveVotes = entity.getVotes().stream().filter(v -> v.getVoteType() == VoteType.APPROVE).count();
-        long negativeVotes = entity.getVotes().stream().filter(v -> v.getVoteType() == VoteType.REJECT).count();
-        dto.setPositiveVotes(positiveVotes);
-        dto.setNegativeVotes(negativeVotes);
-
-        boolean hasVoted = entity.getVotes().stream().anyMatch(v -> v.getVoter().getId().equals(currentUser.getId()));
-        dto.setCurrentUserHasVoted(hasVoted);
+        VoteTallyRow tally = tallies.get(entity.getId());
+        dto.setPositiveVotes(tally == null ? 0 : tally.getPositiveVotes());
+        dto.setNegativeVotes(tally == null ? 0 : tally.getNegativeVotes());
+        dto.setCurrentUserHasVoted(tally != null && tally.getOwnVotes() > 0);
 
         return dto;
     }
@@ -180,37 +243,58 @@ public class QuestionChangeService {
         QuestionChangeRequest changeRequest = changeRequestRepository.findById(changeRequestId)
                 .orElseThrow(() -> new EntityNotFoundException("Change request not found with id: " + changeRequestId));
         User currentUser = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        if (changeRequest.getVotes().stream().anyMatch(vote -> vote.getVoter().equals(currentUser))) {
+        if (voteRepository.existsByChangeRequest_IdAndVoter_Id(changeRequestId, currentUser.getId())) {
             throw new IllegalStateException("User has already voted on this change request.");
         }
         ChangeRequestVote vote = new ChangeRequestVote();
         vote.setChangeRequest(changeRequest);
         vote.setVoter(currentUser);
         vote.setVoteType(voteDto.getVoteType());
-        changeRequest.getVotes().add(vote);
-        changeRequestRepository.save(changeRequest);
-        commitChangeRequest(changeRequest);
+        try {
+            // The unique (change_request_id, voter_id) constraint catches concurrent double votes
+            voteRepository.saveAndFlush(vote);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("User has already voted on this change request.");
+        }
+        boolean approve = voteDto.getVoteType() == VoteType.APPROVE;
+        changeRequestRepository.addVote(changeRequestId, approve ? 1 : 0, approve ? 0 : 1);
+        commitChangeRequest(changeRequest, voteDto.getVoteType());
     }
 
-    private void commitChangeRequest(QuestionChangeRequest changeRequest) {
-        if (changeRequest.getStatus() != ChangeRequestStatus.PENDING) {
-            return;
-        }
-        long positiveVotes = changeRequest.getVotes().stream().filter(vote -> vote.getVoteType() == VoteType.APPROVE).count();
-        long negativeVotes = changeRequest.getVotes().stream().filter(vote -> vote.getVoteType() == VoteType.REJECT).count();
-        if (positiveVotes >= VOTE_THRESHOLD) {
-            applyApprovedChange(changeRequest);
-        } else if (negativeVotes >= VOTE_THRESHOLD) {
-            changeRequest.setStatus(ChangeRequestStatus.REJECTED);
-            changeRequest.setResolvedAt(LocalDateTime.now());
-            changeRequestRepository.save(changeRequest);
+    /**
+     * Resolves the request if the vote just cast reached the threshold. The decision is made by a
+     * conditional update on the vote counters, so only one of several concurrent voters applies it.
+     */
+    private void commitChangeRequest(QuestionChangeRequest changeRequest, VoteType voteType) {
+        LocalDateTime now = LocalDateTime.now();
+        if (voteType == VoteType.APPROVE) {
+            if (changeRequestRepository.approveIfThresholdReached(changeRequest.getId(), VOTE_THRESHOLD, now) == 1) {
+                markResolved(changeRequest, ChangeRequestStatus.APPROVED, now);
+                applyApprovedChange(changeRequest);
+            }
+        } else if (changeRequestRepository.rejectIfThresholdReached(changeRequest.getId(), VOTE_THRESHOLD, now) == 1) {
+            markResolved(changeRequest, ChangeRequestStatus.REJECTED, now);
         }
     }
 
+    private void markResolved(QuestionChangeRequest changeRequest, ChangeRequestStatus status, LocalDateTime resolvedAt) {
+        // Keep the managed entity in line with the bulk update, so a later flush writes the same values
+        changeRequest.setStatus(status);
+        changeRequest.setResolvedAt(resolvedAt);
+        changeRequestCountsService.requestResolved(changeRequest.getQuestion().getId());
+    }
+
     private void applyApprovedChange(QuestionChangeRequest changeRequest) {
         ChoiceQuestion originalQuestion = changeRequest.getQuestion();
+        boolean wasActive = Boolean.TRUE.equals(originalQuestion.getActive());
         originalQuestion.setActive(false);
         choiceQuestionRepository.save(originalQuestion);
+        UUID moduleId = originalQuestion.getModule().getId();
+        if (wasActive) {
+            moduleRepository.adjustQuestionCount(moduleId, -1);
+        }
+        questionPoolService.questionDeactivated(moduleId, originalQuestion.getId());
+        duplicateDetectionService.questionDeactivated(moduleId, originalQuestion.getId());
         if (changeRequest instanceof IncorrectQuestionTextRequest textRequest) {
             ChoiceQuestion newQuestion = new ChoiceQuestion();
             newQuestion.setModule(originalQuestion.getModule());
@@ -225,6 +309,10 @@ public class QuestionChangeService {
             }).collect(Collectors.toSet());
             newQuestion.setAnswers(newAnswers);
             choiceQuestionRepository.save(newQuestion);
+            moduleRepository.adjustQuestionCount(moduleId, 1);
+            questionPoolService.questionActivated(moduleId, newQuestion.getId());
+            questionSearchService.questionSaved(newQuestion.getId());
+            duplicateDetectionService.questionActivated(newQuestion);
         } else if (changeRequest instanceof IncorrectAnswerRequest answerRequest) {
             ChoiceQuestion newQuestion = new ChoiceQuestion();
             newQuestion.setModule(originalQuestion.getModule());
@@ -243,10 +331,11 @@ public class QuestionChangeService {
 
             newQuestion.setAnswers(newAnswers);
             choiceQuestionRepository.save(newQuestion);
+            moduleRepository.adjustQuestionCount(moduleId, 1);
+            questionPoolService.questionActivated(moduleId, newQuestion.getId());
+            questionSearchService.questionSaved(newQuestion.getId());
+            duplicateDetectionService.questionActivated(newQuestion);
         }
-        changeRequest.setStatus(ChangeRequestStatus.APPROVED);
-        changeRequest.setResolvedAt(LocalDateTime.now());
-        changeRequestRepository.save(changeRequest);
     }
 
 
@@ -257,5 +346,6 @@ public class QuestionChangeService {
         request.setJustification(justification);
         request.setStatus(ChangeRequestStatus.PENDING);
         changeRequestRepository.save(request);
+        changeRequestCountsService.requestAdded(question.getId(), resolveRequestType(request));
     }
 }
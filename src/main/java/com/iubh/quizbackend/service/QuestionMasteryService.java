@@ -0,0 +1,185 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.question.QuestionMastery;
+import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
+import com.iubh.quizbackend.repository.QuestionMasteryRepository;
+import com.iubh.quizbackend.repository.projection.QuestionModuleRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the per-user spaced-repetition state ({@link QuestionMastery}) and uses it to pick
+ * the questions of a solo quiz.
+ * <p>
+ * Questions are chosen in this order: due questions (weakest box first), then questions the user
+ * has never answered (random, from the {@link QuestionPoolService}), then questions that are not
+ * due yet, earliest first. Deactivated questions are skipped by the queries, so they never take
+ * the place of a question that can actually be shown.
+ * <p>
+ * Mastery is derived data: answers are recorded in their own transaction, and a failure is logged
+ * instead of being passed on to the caller, whose answer has already been stored.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestionMasteryService {
+
+    /** Attempts per batch when a concurrent answer of the same user conflicts. */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final QuestionMasteryRepository masteryRepository;
+    private final ChoiceQuestionRepository choiceQuestionRepository;
+    private final QuestionPoolService questionPoolService;
+    private final PlatformTransactionManager txManager;
+
+    /**
+     * A first answer of a user to a question.
+     */
+    public record AnswerEvent(UUID userId, UUID questionId, boolean correct, Instant answeredAt) {}
+
+    /**
+     * Picks the questions for a new quiz of the user, answers included.
+     *
+     * @param userId   The ID of the user starting the quiz.
+     * @param moduleId The ID of the module.
+     * @param count    The number of questions to pick.
+     * @return Up to {@code count} questions in random order.
+     */
+    @Transactional(readOnly = true)
+    public List<ChoiceQuestion> selectForQuiz(UUID userId, UUID moduleId, int count) {
+        Instant now = Instant.now();
+        List<UUID> ids = new ArrayList<>(
+                masteryRepository.findDueQuestionIds(userId, moduleId, now, PageRequest.of(0, count)));
+
+        if (ids.size() < count) {
+            ids.addAll(sampleUnseen(userId, moduleId, count - ids.size(), new HashSet<>(ids)));
+        }
+
+        // Everything has been answered and is not due yet: repeat what is due next
+        if (ids.size() < count) {
+            ids.addAll(masteryRepository.findUpcomingQuestionIds(userId, moduleId, now, PageRequest.of(0, count - ids.size())));
+        }
+
+        List<ChoiceQuestion> questions = new ArrayList<>(questionPoolService.load(moduleId, ids));
+        Collections.shuffle(questions);
+        return questions;
+    }
+
+    /**
+     * Random active questions the user has never answered. Candidates are sampled from the
+     * {@link QuestionPoolService} and checked against the user's mastery rows in one query per round;
+     * each round samples twice as many candidates as the last, until enough are found or the pool is exhausted.
+     */
+    private List<UUID> sampleUnseen(UUID userId, UUID moduleId, int count, Set<UUID> exclude) {
+        List<UUID> unseen = new ArrayList<>(count);
+        int batch = count * 2;
+        while (unseen.size() < count) {
+            List<UUID> candidates = questionPoolService.sampleIds(moduleId, batch, exclude);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            Set<UUID> answered = masteryRepository.findAnsweredQuestionIds(userId, candidates);
+            for (UUID id : candidates) {
+                exclude.add(id);
+                if (unseen.size() < count && !answered.contains(id)) {
+                    unseen.add(id);
+                }
+            }
+            if (candidates.size() < batch) {
+                break;
+            }
+            batch *= 2;
+        }
+        return unseen;
+    }
+
+    /**
+     * Applies the first answer of a user to a question.
+     */
+    public void record(AnswerEvent event) {
+        recordAll(List.of(event));
+    }
+
+    /**
+     * Applies a batch of first answers in a new transaction. The batch is retried when a concurrent
+     * answer created the same row first or holds its lock; it is dropped with a warning once the
+     * attempts are used up or on any other error.
+     */
+    public void recordAll(Collection<AnswerEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate template = new TransactionTemplate(txManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                template.executeWithoutResult(status -> apply(events));
+                return;
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    log.warn("Updating question mastery failed after {} attempts: {}", attempt, e.getMessage());
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Updating question mastery failed: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Existing mastery rows are loaded and locked in one query, so concurrent answers of the same
+     * user are applied one after the other; modules of questions answered for the first time are
+     * resolved in another query. Two first answers to the same question race on the unique key,
+     * and the loser is retried by {@link #recordAll}.
+     */
+    private void apply(Collection<AnswerEvent> events) {
+        Set<UUID> userIds = events.stream().map(AnswerEvent::userId).collect(Collectors.toSet());
+        Set<UUID> questionIds = events.stream().map(AnswerEvent::questionId).collect(Collectors.toSet());
+
+        Map<Key, QuestionMastery> masteries = new HashMap<>();
+        for (QuestionMastery m : masteryRepository.findForUpdate(userIds, questionIds)) {
+            masteries.put(new Key(m.getUserId(), m.getQuestionId()), m);
+        }
+
+        Map<UUID, UUID> moduleByQuestion = null;
+        for (AnswerEvent event : events) {
+            Key key = new Key(event.userId(), event.questionId());
+            QuestionMastery mastery = masteries.get(key);
+            if (mastery == null) {
+                if (moduleByQuestion == null) {
+                    moduleByQuestion = choiceQuestionRepository.findModuleIdsByIdIn(questionIds).stream()
+                            .collect(Collectors.toMap(QuestionModuleRow::getQuestionId, QuestionModuleRow::getModuleId));
+                }
+                UUID moduleId = moduleByQuestion.get(event.questionId());
+                if (moduleId == null) {
+                    continue; // question was deleted in the meantime
+                }
+                mastery = QuestionMastery.builder()
+                        .userId(event.userId())
+                        .questionId(event.questionId())
+                        .moduleId(moduleId)
+                        .build();
+                masteries.put(key, mastery);
+            }
+            mastery.record(event.correct(), event.answeredAt());
+        }
+        masteryRepository.saveAll(masteries.values());
+    }
+
+    private record Key(UUID userId, UUID questionId) {}
+}
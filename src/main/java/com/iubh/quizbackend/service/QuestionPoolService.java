@@ -0,0 +1,200 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the ids of all active questions per module in memory so that picking random questions
+ * for a quiz does not need an {@code ORDER BY RANDOM()} scan over the whole module.
+ * <p>
+ * A pool is loaded lazily on first use and kept up to date when questions are created or
+ * deactivated. Picking samples k distinct ids with a partial Fisher-Yates shuffle and loads the
+ * questions (with their answers) in a single {@code IN} query. Pools are additionally dropped
+ * periodically, so changes made by other instances are picked up eventually.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuestionPoolService {
+
+    private final ChoiceQuestionRepository choiceQuestionRepository;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${application.question-pool.reload-interval-ms:300000}")
+    private long reloadIntervalMs;
+
+    private final Map<UUID, ModulePool> pools = new ConcurrentHashMap<>();
+
+    private ScheduledFuture<?> reloadTask;
+
+    @PostConstruct
+    void start() {
+        reloadTask = taskScheduler.scheduleAtFixedRate(pools::clear, Duration.ofMillis(reloadIntervalMs));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (reloadTask != null) {
+            reloadTask.cancel(false);
+        }
+    }
+
+    /**
+     * Picks up to {@code count} distinct random active questions of a module, answers included.
+     *
+     * @param moduleId The ID of the module.
+     * @param count    The maximum number of questions to return.
+     * @return The questions in random order; fewer than {@code count} if the module has fewer questions.
+     */
+    public List<ChoiceQuestion> pickRandom(UUID moduleId, int count) {
+        return load(moduleId, sampleIds(moduleId, count, Set.of()));
+    }
+
+    /**
+     * Samples up to {@code count} distinct random ids of active questions, skipping {@code exclude}.
+     */
+    public List<UUID> sampleIds(UUID moduleId, int count, Set<UUID> exclude) {
+        if (count <= 0) {
+            return List.of();
+        }
+        return pool(moduleId).sample(count, exclude);
+    }
+
+    /**
+     * Loads the given questions with their answers in a single query, keeping the given order.
+     * Ids that are no longer active are skipped and dropped from the module's pool.
+     */
+    public List<ChoiceQuestion> load(UUID moduleId, List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, ChoiceQuestion> byId = choiceQuestionRepository.findActiveWithAnswersByIdIn(ids).stream()
+                .collect(Collectors.toMap(ChoiceQuestion::getId, Function.identity()));
+
+        ModulePool pool = pools.get(moduleId);
+        List<ChoiceQuestion> loaded = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            ChoiceQuestion question = byId.get(id);
+            if (question != null) {
+                loaded.add(question);
+            } else if (pool != null) {
+                // Deactivated or deleted elsewhere (e.g. by another instance)
+                pool.remove(id);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Adds a newly created or re-activated question to its module's pool once the current
+     * transaction has committed.
+     */
+    public void questionActivated(UUID moduleId, UUID questionId) {
+        AfterCommit.run(() -> {
+            ModulePool pool = pools.get(moduleId);
+            if (pool != null) pool.add(questionId);
+        });
+    }
+
+    /**
+     * Removes a deactivated question from its module's pool once the current transaction has committed.
+     */
+    public void questionDeactivated(UUID moduleId, UUID questionId) {
+        AfterCommit.run(() -> {
+            ModulePool pool = pools.get(moduleId);
+            if (pool != null) pool.remove(questionId);
+        });
+    }
+
+    private ModulePool pool(UUID moduleId) {
+        return pools.computeIfAbsent(moduleId, id -> {
+            List<UUID> ids = choiceQuestionRepository.findActiveIdsByModuleId(id);
+            log.debug("Loaded question pool for module {} ({} questions).", id, ids.size());
+            return new ModulePool(ids);
+        });
+    }
+
+    /**
+     * Ids of the active questions of one module. Removal swaps the last id into the freed slot,
+     * so both add and remove are O(1).
+     */
+    static final class ModulePool {
+
+        private UUID[] ids;
+        private int size;
+        private final Map<UUID, Integer> positions;
+
+        ModulePool(Collection<UUID> initial) {
+            this.ids = new UUID[Math.max(16, initial.size())];
+            this.positions = new HashMap<>(initial.size() * 2);
+            initial.forEach(this::add);
+        }
+
+        synchronized void add(UUID id) {
+            if (positions.containsKey(id)) return;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size] = id;
+            positions.put(id, size);
+            size++;
+        }
+
+        synchronized void remove(UUID id) {
+            Integer pos = positions.remove(id);
+            if (pos == null) return;
+            size--;
+            if (pos != size) {
+                ids[pos] = ids[size];
+                positions.put(ids[pos], pos);
+            }
+            ids[size] = null;
+        }
+
+        /**
+         * Partial Fisher-Yates: only the first slots are shuffled in place, so picking k ids needs
+         * about k swaps regardless of the pool size. Excluded ids are swapped in as well but skipped.
+         */
+        synchronized List<UUID> sample(int count, Set<UUID> exclude) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<UUID> sample = new ArrayList<>(Math.min(count, size));
+            for (int i = 0; i < size && sample.size() < count; i++) {
+                int j = i + random.nextInt(size - i);
+                swap(i, j);
+                if (!exclude.contains(ids[i])) {
+                    sample.add(ids[i]);
+                }
+            }
+            return sample;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        private void swap(int i, int j) {
+            if (i == j) return;
+            UUID tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+            positions.put(ids[i], i);
+            positions.put(ids[j], j);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Full-text search over question and answer texts, backed by a PostgreSQL {@code tsvector} column
+ * with a GIN index.
+ * <p>
+ * The column ({@code choice_questions.search_vector}) is not mapped on the entity; it is created by
+ * {@code QuestionSearchIndexMigration} and written with native SQL: once for all questions without a
+ * vector, afterwards for each question created directly or by an approved change request. Question text
+ * is weighted above the answer texts for ranking. Until the migration has enabled it (never on H2 in
+ * tests) {@link #isFullTextAvailable()} is false and callers fall back to the substring query.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuestionSearchService {
+
+    // 'simple' does no stemming: the questions are a mix of German and English
+    private static final String DOCUMENT = """
+            setweight(to_tsvector('simple', q.question_text), 'A')
+            || setweight(to_tsvector('simple', coalesce((SELECT string_agg(a.text, ' ') FROM answers a WHERE a.question_id = q.id), '')), 'B')
+            """;
+    private static final String INDEX_MISSING = "UPDATE choice_questions q SET search_vector = " + DOCUMENT + " WHERE q.search_vector IS NULL";
+    private static final String INDEX_ONE = "UPDATE choice_questions q SET search_vector = " + DOCUMENT + " WHERE q.id = ?";
+
+    private static final Pattern TERM = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private final ChoiceQuestionRepository choiceQuestionRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean fullTextAvailable;
+
+    /**
+     * Writes the search vector of all questions that do not have one yet.
+     *
+     * @return The number of indexed questions.
+     */
+    public int indexMissing() {
+        return jdbcTemplate.update(INDEX_MISSING);
+    }
+
+    /**
+     * Switches searches to the full-text index; called once the column and index exist.
+     */
+    public void enableFullText() {
+        fullTextAvailable = true;
+    }
+
+    public boolean isFullTextAvailable() {
+        return fullTextAvailable;
+    }
+
+    /**
+     * Searches the active questions of a module, ranked by relevance. Every word of the search
+     * term has to match as a word prefix, so results narrow while typing.
+     *
+     * @return The matching page, or {@code null} if the term contains no searchable words.
+     */
+    public Page<ChoiceQuestion> search(UUID moduleId, String searchTerm, Pageable pageable) {
+        String tsQuery = toPrefixQuery(searchTerm);
+        if (tsQuery == null) {
+            return null;
+        }
+        // The order is given by the rank, a sort from the request would conflict with it
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return choiceQuestionRepository.searchActiveByModule(moduleId, tsQuery, unsorted);
+    }
+
+    /**
+     * (Re-)indexes a question once the current transaction has committed. Failures are logged;
+     * a question left without a vector is indexed again on the next startup.
+     */
+    public void questionSaved(UUID questionId) {
+        if (!fullTextAvailable) {
+            return;
+        }
+        AfterCommit.run(() -> index(questionId));
+    }
+
+    private void index(UUID questionId) {
+        try {
+            jdbcTemplate.update(INDEX_ONE, questionId);
+        } catch (RuntimeException e) {
+            log.warn("Indexing question {} for full-text search failed: {}", questionId, e.getMessage());
+        }
+    }
+
+    /**
+     * Turns free text into a tsquery like {@code word1:* & word2:*}; only letters and digits are
+     * kept, so user input can never produce tsquery syntax errors.
+     */
+    static String toPrefixQuery(String searchTerm) {
+        if (searchTerm == null) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        Matcher matcher = TERM.matcher(searchTerm.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            terms.add(matcher.group() + ":*");
+        }
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+}
@@ -26,6 +26,9 @@ public class QuestionService {
     private final ChoiceQuestionRepository choiceQuestionRepository;
     private final ModuleRepository moduleRepository;
     private final ChoiceQuestionMapper choiceQuestionMapper; // Add this
+    private final QuestionPoolService questionPoolService;
+    private final QuestionSearchService questionSearchService;
+    private final DuplicateDetectionService duplicateDetectionService;
 
 
     /**
@@ -65,17 +68,28 @@ public class QuestionService {
         });
 
         // 4. Save the new question. Due to CascadeType.ALL, the answers are saved automatically.
-        return choiceQuestionRepository.save(newQuestion);
+        ChoiceQuestion savedQuestion = choiceQuestionRepository.save(newQuestion);
+        moduleRepository.adjustQuestionCount(moduleId, 1);
+
+        // 5. Make it available for random picking once the transaction has committed.
+        questionPoolService.questionActivated(moduleId, savedQuestion.getId());
+        questionSearchService.questionSaved(savedQuestion.getId());
+        duplicateDetectionService.questionActivated(savedQuestion);
+        return savedQuestion;
     }
 
 
 
     @Transactional(readOnly = true)
     public Page<QuestionSummaryDto> searchQuestions(UUID moduleId, String searchTerm, Pageable pageable) {
-        Page<ChoiceQuestion> questionsPage;
+        Page<ChoiceQuestion> questionsPage = null;
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             questionsPage = choiceQuestionRepository.findByModule_IdAndActiveTrue(moduleId, pageable);
-        } else {
+        } else if (questionSearchService.isFullTextAvailable()) {
+            // Ranked, index-backed search over question and answer texts (PostgreSQL)
+            questionsPage = questionSearchService.search(moduleId, searchTerm, pageable);
+        }
+        if (questionsPage == null) {
             questionsPage = choiceQuestionRepository.findByModule_IdAndQuestionTextContainingIgnoreCaseAndActiveTrue(moduleId, searchTerm, pageable);
         }
         return questionsPage.map(choiceQuestionMapper::toSummaryDto);
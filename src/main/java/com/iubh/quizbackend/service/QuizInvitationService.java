@@ -8,13 +8,12 @@ import com.iubh.quizbackend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -23,10 +22,10 @@ public class QuizInvitationService {
 
     // A thread-safe map to store pending invitations. Key is invitationId.
     private final ConcurrentHashMap<UUID, QuizInvitationDto> pendingInvitations = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(10);
 
     private final SimpMessagingTemplate messagingTemplate;
     private final UserRepository userRepository;
+    private final TaskScheduler taskScheduler;
 
     /**
      * Creates an invitation and sends it to the recipient.
@@ -49,7 +48,7 @@ public class QuizInvitationService {
         sendInvitationUpdate(invitation);
 
         // Schedule the timeout task
-        scheduler.schedule(() -> timeoutInvitation(invitation.getInvitationId()), 60, TimeUnit.SECONDS);
+        taskScheduler.schedule(() -> timeoutInvitation(invitation.getInvitationId()), Instant.now().plusSeconds(60));
         log.info("Invitation {} sent from {} to {}. Timeout scheduled.", invitation.getInvitationId(), inviter.getEmail(), recipient.getEmail());
     }
 
@@ -1,8 +1,7 @@
 package com.iubh.quizbackend.service;
 
 import com.iubh.quizbackend.api.dto.LobbyEventDto;
-import com.iubh.quizbackend.api.dto.NotificationDto;
-
+import com.iubh.quizbackend.api.dto.quiz.LobbySnapshotDto;
 import com.iubh.quizbackend.api.dto.quiz.QuizLobbyDto;
 import com.iubh.quizbackend.entity.module.Module;
 import com.iubh.quizbackend.entity.quiz.QuizLobby;
@@ -19,7 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,8 +27,9 @@ public class QuizLobbyService {
     private final ModuleRepository moduleRepository;
     private final QuizLobbyMapper quizLobbyMapper;
     private final SimpMessagingTemplate messagingTemplate;
+    private final LobbyDirectory lobbyDirectory;
+    private final QuizMetrics metrics;
 
-    private static final String LOBBY_TOPIC = "/topic/lobbies";
     private static final String SINGLE_LOBBY_TOPIC_PREFIX = "/topic/lobby/";
 
 
@@ -52,7 +51,8 @@ public class QuizLobbyService {
         lobby.getParticipants().add(host); // The host is also a participant
 
         QuizLobby savedLobby = quizLobbyRepository.save(lobby);
-        broadcastLobbiesUpdate();
+        lobbyDirectory.lobbyChanged(savedLobby);
+        metrics.lobbyEvent(QuizMetrics.LobbyEvent.CREATED);
         return savedLobby;
     }
 
@@ -78,7 +78,8 @@ public class QuizLobbyService {
         // 3. Broadcast the fully updated lobby state to all clients.
         broadcastSingleLobbyUpdate(updatedLobby, LobbyEventDto.EventType.LOBBY_JOINED);
         //   broadcastLobbyEvent(new LobbyEventDto(LobbyEventDto.EventType.LOBBY_JOINED, quizLobbyMapper.toDto(updatedLobby)));
-        broadcastLobbiesUpdate();
+        lobbyDirectory.lobbyChanged(updatedLobby);
+        metrics.lobbyEvent(QuizMetrics.LobbyEvent.JOINED);
         return updatedLobby;
     }
 
@@ -110,7 +111,8 @@ public class QuizLobbyService {
                 // 1) Einzel-Topic: Cancel-Event
                 broadcastSingleLobbyUpdate(cancelled, LobbyEventDto.EventType.LOBBY_CANCELLED);
                 // 2) Liste aktualisieren
-                broadcastLobbiesUpdate();
+                lobbyDirectory.lobbyChanged(cancelled);
+                metrics.lobbyEvent(QuizMetrics.LobbyEvent.CANCELLED);
 
                 return cancelled;
             } else {
@@ -126,7 +128,8 @@ public class QuizLobbyService {
         // 1) Einzel-Topic: LOBBY_LEFT (mit kompletter aktualisierter Lobby)
         broadcastSingleLobbyUpdate(updated, LobbyEventDto.EventType.LOBBY_LEFT);
         // 2) Liste aktualisieren
-        broadcastLobbiesUpdate();
+        lobbyDirectory.lobbyChanged(updated);
+        metrics.lobbyEvent(QuizMetrics.LobbyEvent.LEFT);
 
         return updated;
     }
@@ -146,36 +149,25 @@ public class QuizLobbyService {
 
         lobby.setStatus(QuizLobbyStatus.CANCELLED);
         quizLobbyRepository.save(lobby);
-        broadcastLobbiesUpdate();
+        lobbyDirectory.lobbyChanged(lobby);
         broadcastSingleLobbyUpdate(lobby, LobbyEventDto.EventType.LOBBY_CANCELLED);
+        metrics.lobbyEvent(QuizMetrics.LobbyEvent.CANCELLED);
         //  broadcastLobbyEvent(new LobbyEventDto(LobbyEventDto.EventType.LOBBY_CANCELLED, lobbyId));
     }
 
 
     /**
-     * Retrieves all lobbies that are currently in the WAITING state.
+     * Retrieves all lobbies that are currently in the WAITING state, from the {@link LobbyDirectory}.
      */
-    @Transactional(readOnly = true)
     public List<QuizLobbyDto> getWaitingLobbies() {
-        return quizLobbyRepository.findByStatus(QuizLobbyStatus.WAITING)
-                .stream()
-                .map(quizLobbyMapper::toDto)
-                .collect(Collectors.toList());
+        return lobbyDirectory.snapshot().getLobbies();
     }
 
     /**
-     * Broadcasts the current list of waiting lobbies to all subscribed clients.
+     * The waiting lobbies together with the version of the last lobby delta they include.
      */
-    public void broadcastLobbiesUpdate() {
-        List<QuizLobbyDto> waitingLobbies = getWaitingLobbies();
-
-        // --- CREATE A SPECIFIC NOTIFICATION DTO ---
-        NotificationDto<List<QuizLobbyDto>> notification = new NotificationDto<>(
-                NotificationDto.NotificationType.LOBBY_UPDATE,
-                waitingLobbies
-        );
-
-        messagingTemplate.convertAndSend(LOBBY_TOPIC, notification);
+    public LobbySnapshotDto getLobbySnapshot() {
+        return lobbyDirectory.snapshot();
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,95 @@
+package com.iubh.quizbackend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters for single-player quizzes, lobbies and presence. Tags only carry a fixed set of values, never
+ * user, module or lobby ids. The live session meters are in {@link com.iubh.quizbackend.service.live.LiveQuizMetrics}.
+ * <ul>
+ *     <li>{@code quiz.started} / {@code quiz.start.time} – started quizzes and the time to assemble one</li>
+ *     <li>{@code quiz.answers} – submitted answers ({@code result=correct|incorrect})</li>
+ *     <li>{@code quiz.completed} / {@code quiz.completion.time} – finished quizzes and the time from start to finish</li>
+ *     <li>{@code lobby.events} – lobby changes ({@code event=created|joined|left|cancelled})</li>
+ *     <li>{@code presence.publish} – time to send one debounced presence update of a module</li>
+ * </ul>
+ */
+@Component
+public class QuizMetrics {
+
+    public enum LobbyEvent { CREATED, JOINED, LEFT, CANCELLED }
+
+    private final Counter quizzesStarted;
+    private final Timer quizStartTime;
+    private final Counter correctAnswers;
+    private final Counter incorrectAnswers;
+    private final Counter quizzesCompleted;
+    private final Timer quizCompletionTime;
+    private final Map<LobbyEvent, Counter> lobbyEvents = new EnumMap<>(LobbyEvent.class);
+    private final Timer presencePublish;
+
+    public QuizMetrics(MeterRegistry meterRegistry) {
+        quizzesStarted = Counter.builder("quiz.started")
+                .description("Single-player quizzes started")
+                .register(meterRegistry);
+        quizStartTime = Timer.builder("quiz.start.time")
+                .description("Time to select the questions of a new quiz and save it")
+                .register(meterRegistry);
+        correctAnswers = answerCounter(meterRegistry, "correct");
+        incorrectAnswers = answerCounter(meterRegistry, "incorrect");
+        quizzesCompleted = Counter.builder("quiz.completed")
+                .description("Single-player quizzes finished")
+                .register(meterRegistry);
+        quizCompletionTime = Timer.builder("quiz.completion.time")
+                .description("Time between starting and finishing a quiz")
+                .register(meterRegistry);
+        for (LobbyEvent event : LobbyEvent.values()) {
+            lobbyEvents.put(event, Counter.builder("lobby.events")
+                    .description("Lobby changes by type")
+                    .tag("event", event.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        presencePublish = Timer.builder("presence.publish")
+                .description("Time to send the presence update of one module")
+                .register(meterRegistry);
+    }
+
+    private static Counter answerCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("quiz.answers")
+                .description("Single-player quiz answers by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public void quizStarted(long nanos) {
+        quizzesStarted.increment();
+        quizStartTime.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void answerSubmitted(boolean correct) {
+        (correct ? correctAnswers : incorrectAnswers).increment();
+    }
+
+    /** {@code playTime} is null when the quiz has no creation timestamp. */
+    public void quizCompleted(Duration playTime) {
+        quizzesCompleted.increment();
+        if (playTime != null) {
+            quizCompletionTime.record(playTime);
+        }
+    }
+
+    public void lobbyEvent(LobbyEvent event) {
+        lobbyEvents.get(event).increment();
+    }
+
+    public void presencePublished(long nanos) {
+        presencePublish.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,36 +1,33 @@
 package com.iubh.quizbackend.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.iubh.quizbackend.api.dto.QuizResultDto;
 import com.iubh.quizbackend.api.dto.QuizSummaryDto;
 import com.iubh.quizbackend.api.dto.SubmitAnswerRequestDto;
 import com.iubh.quizbackend.entity.module.Module;
 import com.iubh.quizbackend.entity.question.Answer;
 import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.quiz.AnswerOrder;
 import com.iubh.quizbackend.entity.quiz.Quiz;
 import com.iubh.quizbackend.entity.quiz.QuizItem;
 import com.iubh.quizbackend.entity.quiz.QuizStatus;
 import com.iubh.quizbackend.entity.user.User;
 import com.iubh.quizbackend.mapper.QuizMapper;
 import com.iubh.quizbackend.repository.AnswerRepository;
-import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
 import com.iubh.quizbackend.repository.ModuleRepository;
 import com.iubh.quizbackend.repository.QuizRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.core.JsonProcessingException;
 
 
 import java.nio.file.AccessDeniedException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -40,19 +37,19 @@ public class QuizService {
     private final QuizMapper quizMapper;
     private static final int QUIZ_QUESTION_COUNT = 10;
     private final ModuleRepository moduleRepository;
-    private final ChoiceQuestionRepository choiceQuestionRepository;
     private final AnswerRepository answerRepository;
-
-
-    private final ObjectMapper objectMapper;
+    private final QuestionMasteryService questionMasteryService;
+    private final StatisticsRollupService statisticsRollupService;
+    private final QuizMetrics metrics;
 
 
     @Transactional
     public Quiz startQuiz(User currentUser, UUID moduleId) {
+        long start = System.nanoTime();
         Module module = moduleRepository.findById(moduleId)
                 .orElseThrow(() -> new EntityNotFoundException("Module not found with id: " + moduleId));
 
-        Page<ChoiceQuestion> randomQuestions = choiceQuestionRepository.pickRandomByModule(moduleId, PageRequest.of(0,QUIZ_QUESTION_COUNT ));
+        List<ChoiceQuestion> randomQuestions = questionMasteryService.selectForQuiz(currentUser.getId(), moduleId, QUIZ_QUESTION_COUNT);
         if (randomQuestions.isEmpty()) {
             throw new IllegalStateException("Not enough questions in the module to start a quiz.");
         }
@@ -67,20 +64,15 @@ public class QuizService {
         for (ChoiceQuestion question : randomQuestions) {
             QuizItem quizItem = QuizItem.builder().question(question).questionOrder(order++).build();
 
-            // Shuffle answers and store their new order as a JSON string
+            // Shuffle answers and store their new order as a compact permutation
             List<Answer> answers = new ArrayList<>(question.getAnswers());
             Collections.shuffle(answers);
-            List<UUID> shuffledIds = answers.stream().map(Answer::getId).collect(Collectors.toList());
-
-            try {
-                quizItem.setShuffledAnswerOrder(objectMapper.writeValueAsString(shuffledIds));
-            } catch (JsonProcessingException e) {
-                // This would be a critical internal server error
-                throw new RuntimeException("Could not serialize shuffled answer order.", e);
-            }
+            quizItem.setAnswerOrder(AnswerOrder.of(answers));
             newQuiz.addQuizItem(quizItem);
         }
-        return quizRepository.save(newQuiz);
+        Quiz savedQuiz = quizRepository.save(newQuiz);
+        metrics.quizStarted(System.nanoTime() - start);
+        return savedQuiz;
     }
 
     /**
@@ -161,13 +153,23 @@ public class QuizService {
         }
 
         // 2. Update the quiz item with the single selected answer
+        boolean firstAnswer = quizItem.getAnsweredAt() == null;
         quizItem.setSelectedAnswer(selectedAnswer);
         quizItem.setAnsweredAt(LocalDateTime.now());
 
         // 3. Perform a simple boolean check for correctness
         quizItem.setIsCorrect(selectedAnswer.getIsCorrect());
 
+        // 4. Only the first answer counts for spaced repetition; later changes are corrections.
+        //    Mastery is updated in its own transaction once the answer is committed and never fails the request.
+        if (firstAnswer) {
+            var event = new QuestionMasteryService.AnswerEvent(
+                    currentUser.getId(), quizItem.getQuestion().getId(), Boolean.TRUE.equals(selectedAnswer.getIsCorrect()), Instant.now());
+            AfterCommit.run(() -> questionMasteryService.record(event));
+        }
+
         quizRepository.save(quiz); // Persist all changes
+        metrics.answerSubmitted(Boolean.TRUE.equals(selectedAnswer.getIsCorrect()));
     }
 
 
@@ -189,7 +191,13 @@ public class QuizService {
         quiz.setStatus(QuizStatus.COMPLETED);
         quiz.setCompletedAt(LocalDateTime.now());
 
-        return quizRepository.save(quiz);
+        // Update the statistics rollup in the same transaction
+        statisticsRollupService.recordCompletedQuiz(quiz);
+
+        Quiz savedQuiz = quizRepository.save(quiz);
+        metrics.quizCompleted(quiz.getCreatedAt() == null ? null
+                : Duration.between(quiz.getCreatedAt(), quiz.getCompletedAt()));
+        return savedQuiz;
     }
 
 
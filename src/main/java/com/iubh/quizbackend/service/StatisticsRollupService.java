@@ -0,0 +1,59 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.entity.quiz.Quiz;
+import com.iubh.quizbackend.entity.quiz.UserModuleDailyStats;
+import com.iubh.quizbackend.repository.UserModuleDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Maintains the per-user, per-module, per-day statistics rollup ({@link UserModuleDailyStats}).
+ */
+@Service
+@RequiredArgsConstructor
+public class StatisticsRollupService {
+
+    private final UserModuleDailyStatsRepository dailyStatsRepository;
+
+    /**
+     * Adds a completed quiz to the rollup of its completion day. Runs in the caller's transaction,
+     * so the rollup commits together with the quiz status.
+     *
+     * @param quiz A quiz with status COMPLETED and a completion timestamp.
+     */
+    @Transactional
+    public void recordCompletedQuiz(Quiz quiz) {
+        int answered = quiz.getNumberOfQuestions();
+        if (answered == 0 || quiz.getCompletedAt() == null) {
+            // Quizzes without items never showed up in the statistics
+            return;
+        }
+        long correct = quiz.getNumberOfCorrectAnswers();
+        addQuiz(quiz.getUser().getId(), quiz.getModule().getId(), quiz.getCompletedAt().toLocalDate(),
+                correct, answered);
+    }
+
+    /**
+     * Adds one completed quiz with the given result to the rollup.
+     */
+    @Transactional
+    public void addQuiz(UUID userId, UUID moduleId, LocalDate day, long correct, long answered) {
+        double score = correct * 100.0 / answered;
+        int updated = dailyStatsRepository.addQuiz(userId, moduleId, day, correct, answered, score);
+        if (updated == 0) {
+            dailyStatsRepository.save(UserModuleDailyStats.builder()
+                    .userId(userId)
+                    .moduleId(moduleId)
+                    .day(day)
+                    .quizzes(1)
+                    .correctCount(correct)
+                    .answeredCount(answered)
+                    .scoreSum(score)
+                    .build());
+        }
+    }
+}
@@ -5,9 +5,11 @@ import com.iubh.quizbackend.api.dto.ModuleStatDto;
 import com.iubh.quizbackend.api.dto.OverallStatsDto;
 import com.iubh.quizbackend.api.dto.StatisticsDto;
 import com.iubh.quizbackend.entity.user.User;
-import com.iubh.quizbackend.repository.QuizRepository;
+import com.iubh.quizbackend.repository.UserModuleDailyStatsRepository;
+import com.iubh.quizbackend.repository.projection.DailyStatsRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -24,25 +26,28 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class StatisticsService {
 
-    private final QuizRepository quizRepository;
+    private final UserModuleDailyStatsRepository dailyStatsRepository;
 
+    /**
+     * Builds the statistics of a user from the daily rollups, so the work grows with the number of
+     * days/modules in the timeframe rather than with the number of answers.
+     */
+    @Transactional(readOnly = true)
     public StatisticsDto getStatisticsForUser(User currentUser, String timeframe) {
         LocalDateTime startDate = calculateStartDate(timeframe);
-        List<Object[]> rawData = quizRepository.findStatisticsByUserIdAndDate(currentUser.getId(), startDate);
+        List<DailyStatsRow> rows = dailyStatsRepository.findRowsByUserSince(currentUser.getId(), startDate.toLocalDate());
 
-        // --- Module and Overall stats logic (remains the same) ---
-        Map<UUID, List<Object[]>> groupedByModule = rawData.stream()
-                .collect(Collectors.groupingBy(row -> (UUID) row[0]));
+        Map<UUID, List<DailyStatsRow>> groupedByModule = rows.stream()
+                .collect(Collectors.groupingBy(DailyStatsRow::getModuleId));
 
         List<ModuleStatDto> moduleStats = groupedByModule.entrySet().stream().map(entry -> {
             UUID moduleId = entry.getKey();
-            String moduleTitle = (String) entry.getValue().get(0)[1];
-            int quizzesPlayed = entry.getValue().size();
-            long totalCorrect = entry.getValue().stream().mapToLong(row -> (long) row[3]).sum();
-            long totalAnswered = entry.getValue().stream().mapToLong(row -> ((Number) row[4]).longValue()).sum();
-            double avgScore = entry.getValue().stream()
-                    .mapToDouble(row -> ((long) row[3] * 100.0) / ((Number) row[4]).intValue())
-                    .average().orElse(0.0);
+            String moduleTitle = entry.getValue().get(0).getModuleTitle();
+            int quizzesPlayed = entry.getValue().stream().mapToInt(DailyStatsRow::getQuizzes).sum();
+            long totalCorrect = entry.getValue().stream().mapToLong(DailyStatsRow::getCorrectCount).sum();
+            long totalAnswered = entry.getValue().stream().mapToLong(DailyStatsRow::getAnsweredCount).sum();
+            double scoreSum = entry.getValue().stream().mapToDouble(DailyStatsRow::getScoreSum).sum();
+            double avgScore = quizzesPlayed > 0 ? scoreSum / quizzesPlayed : 0.0;
 
             return ModuleStatDto.builder()
                     .moduleId(moduleId).moduleTitle(moduleTitle).quizzesPlayed(quizzesPlayed)
@@ -50,7 +55,7 @@ public class StatisticsService {
                     .averageScore((int) Math.round(avgScore)).build();
         }).collect(Collectors.toList());
 
-        int totalQuizzes = rawData.size();
+        int totalQuizzes = moduleStats.stream().mapToInt(ModuleStatDto::getQuizzesPlayed).sum();
         long totalCorrectOverall = moduleStats.stream().mapToLong(ModuleStatDto::getCorrectAnswers).sum();
         long totalAnsweredOverall = moduleStats.stream().mapToLong(ModuleStatDto::getTotalAnswers).sum();
         double avgScoreOverall = moduleStats.stream().mapToDouble(ModuleStatDto::getAverageScore).average().orElse(0.0);
@@ -61,8 +66,7 @@ public class StatisticsService {
                 .correctAnswerRatio(totalAnsweredOverall > 0 ? (int) Math.round((double) totalCorrectOverall * 100 / totalAnsweredOverall) : 0)
                 .averageScore((int) Math.round(avgScoreOverall)).build();
 
-        // --- NEW: Activity Chart Data Calculation ---
-        List<ActivityDataPointDto> activityData = calculateActivity(rawData, timeframe);
+        List<ActivityDataPointDto> activityData = calculateActivity(rows, timeframe);
 
         return StatisticsDto.builder()
                 .overall(overallStats)
@@ -82,45 +86,44 @@ public class StatisticsService {
         }
     }
 
-    // --- REWRITTEN: calculateActivity with full logic ---
-    private List<ActivityDataPointDto> calculateActivity(List<Object[]> rawData, String timeframe) {
-        if (rawData.isEmpty()) {
+    // --- calculateActivity: groups the daily rollups into chart buckets ---
+    List<ActivityDataPointDto> calculateActivity(List<DailyStatsRow> rows, String timeframe) {
+        if (rows.isEmpty()) {
             return Collections.emptyList();
         }
 
         // Define how to group the data based on the timeframe
-        Function<LocalDateTime, String> grouper;
+        Function<LocalDate, String> grouper;
         Comparator<ActivityDataPointDto> sorter;
 
         switch (timeframe) {
             case "Letzte Woche":
-                grouper = dt -> dt.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.GERMAN);
+                grouper = day -> day.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.GERMAN);
                 sorter = Comparator.comparing(p -> DayOfWeek.from(DateTimeFormatter.ofPattern("E", Locale.GERMAN).parse(p.getDate())));
                 break;
             case "Letzter Monat":
                 WeekFields weekFields = WeekFields.of(Locale.GERMAN);
-                grouper = dt -> "Woche " + dt.get(weekFields.weekOfMonth());
+                grouper = day -> "Woche " + day.get(weekFields.weekOfMonth());
                 sorter = Comparator.comparing(ActivityDataPointDto::getDate);
                 break;
             default: // "Gesamt" or "Heute" (can be refined for hourly)
-                grouper = dt -> dt.format(DateTimeFormatter.ofPattern("MMM", Locale.GERMAN));
+                grouper = day -> day.format(DateTimeFormatter.ofPattern("MMM", Locale.GERMAN));
                 sorter = Comparator.comparing(p -> LocalDate.parse("01." + p.getDate() + ".2000", DateTimeFormatter.ofPattern("dd.MMM.yyyy", Locale.GERMAN)));
                 break;
         }
 
-        Map<String, List<Object[]>> groupedData = rawData.stream()
-                .collect(Collectors.groupingBy(row -> grouper.apply((LocalDateTime) row[2])));
+        Map<String, List<DailyStatsRow>> groupedData = rows.stream()
+                .collect(Collectors.groupingBy(row -> grouper.apply(row.getDay())));
 
         return groupedData.entrySet().stream()
                 .map(entry -> {
                     String dateLabel = entry.getKey();
-                    long quizzes = entry.getValue().size();
-                    double avgScore = entry.getValue().stream()
-                            .mapToDouble(row -> ((long) row[3] * 100.0) / ((Number) row[4]).intValue())
-                            .average().orElse(0.0);
+                    long quizzes = entry.getValue().stream().mapToLong(DailyStatsRow::getQuizzes).sum();
+                    double scoreSum = entry.getValue().stream().mapToDouble(DailyStatsRow::getScoreSum).sum();
+                    double avgScore = quizzes > 0 ? scoreSum / quizzes : 0.0;
                     return new ActivityDataPointDto(dateLabel, quizzes, Math.round(avgScore));
                 })
                 .sorted(sorter)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,116 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.entity.user.Profile;
+import com.iubh.quizbackend.entity.user.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Short-lived cache of the user principals resolved during request authentication
+ * ({@code JwtAuthenticationFilter}, {@code AuthChannelInterceptor}).
+ * <p>
+ * Without it every authenticated request loads the user by email from the database. Entries
+ * expire after {@code application.security.principal-cache.ttl-ms} and are evicted when the
+ * user's profile changes. Login still goes through the {@link UserDetailsService} directly,
+ * so password checks never see a cached user.
+ * <p>
+ * The cached instance is never handed out: every caller gets its own copy, so a request that
+ * modifies its principal (e.g. a profile update) cannot leak uncommitted changes into other requests.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserDetailsService userDetailsService;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    public UserPrincipalCache(UserDetailsService userDetailsService,
+                              @Value("${application.security.principal-cache.ttl-ms:30000}") long ttlMs,
+                              @Value("${application.security.principal-cache.max-entries:10000}") int maxEntries) {
+        this.userDetailsService = userDetailsService;
+        this.ttlNanos = ttlMs * 1_000_000L;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of the cached principal for the given email, loading it if missing or expired.
+     *
+     * @param email The username (email) from the verified token.
+     * @return The user details, owned by the caller.
+     */
+    public UserDetails loadUserByUsername(String email) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(email);
+            if (entry != null && now - entry.loadedAt() < ttlNanos) {
+                return copyOf(entry.user());
+            }
+        }
+        UserDetails user = userDetailsService.loadUserByUsername(email);
+        synchronized (entries) {
+            entries.put(email, new Entry(user, now));
+        }
+        return copyOf(user);
+    }
+
+    /**
+     * Copies the mutable state of a user. The lazy collections are shared: they are detached and
+     * uninitialized, so they cannot be read or changed through any copy.
+     */
+    private static UserDetails copyOf(UserDetails details) {
+        if (!(details instanceof User user)) {
+            return details;
+        }
+        Profile profile = user.getProfile();
+        return User.builder()
+                .id(user.getId())
+                .profile(profile == null ? null : Profile.builder()
+                        .firstName(profile.getFirstName())
+                        .name(profile.getName())
+                        .build())
+                .followedModules(user.getFollowedModules())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .role(user.getRole())
+                .quizzes(user.getQuizzes())
+                .build();
+    }
+
+    /**
+     * Evicts the principal of a user once the current transaction has completed, committed or not,
+     * so the next request reloads it. A principal cached by a concurrent request while the transaction
+     * was running is dropped as well.
+     */
+    public void evict(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(email);
+                }
+            });
+        } else {
+            remove(email);
+        }
+    }
+
+    private void remove(String email) {
+        synchronized (entries) {
+            entries.remove(email);
+        }
+    }
+
+    private record Entry(UserDetails user, long loadedAt) {}
+}
@@ -13,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * Updates the profile information for the currently authenticated user.
@@ -33,6 +34,10 @@ public class UserService {
         currentUser.setProfile(updatedProfile);
 
         // Save the user entity with the updated embedded profile
-        return userRepository.save(currentUser);
+        User savedUser = userRepository.save(currentUser);
+
+        // Make the next authenticated request pick up the new profile
+        userPrincipalCache.evict(currentUser.getEmail());
+        return savedUser;
     }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.iubh.quizbackend.service.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Leitet Antworten an den Node weiter, der die Live-Session besitzt ({@link LiveSessionOwnership}).
+ * <p>
+ * Der Aufruf ist nicht blockierend; Fehler des Besitzers werden auf dieselben Exceptions
+ * abgebildet, die er lokal geworfen hätte, so dass der Client dieselbe Antwort erhält wie
+ * bei einem Treffer auf dem Besitzer. Die Nodes authentifizieren sich untereinander über
+ * ein gemeinsames Secret ({@code application.live.cluster.forward-secret}).
+ */
+@Component
+public class LiveAnswerForwarder {
+
+    public static final String SECRET_HEADER = "X-Live-Cluster-Secret";
+    public static final String FORWARD_PATH = "/internal/live/sessions/%s/answers";
+
+    /** Nutzlast einer weitergeleiteten Antwort. */
+    public record ForwardedAnswer(UUID userId, int questionIndex, UUID answerId) {}
+
+    private final ObjectMapper objectMapper;
+    private final String secret;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    public LiveAnswerForwarder(ObjectMapper objectMapper,
+                               @Value("${application.live.cluster.forward-secret:}") String secret,
+                               @Value("${application.live.cluster.forward-timeout-ms:2000}") long timeoutMs) {
+        this.objectMapper = objectMapper;
+        this.secret = secret;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    public CompletableFuture<Void> forward(String ownerUrl, UUID sessionId, ForwardedAnswer answer) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(answer);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(ownerUrl + FORWARD_PATH.formatted(sessionId)))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header(SECRET_HEADER, secret)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (response.statusCode() / 100 != 2) {
+                        throw toException(response.statusCode(), message(response.body()));
+                    }
+                    return null;
+                });
+    }
+
+    /** Prüft das Secret einer eingehenden Weiterleitung (zeitkonstant). */
+    public boolean isTrusted(String presentedSecret) {
+        if (secret.isEmpty() || presentedSecret == null) return false;
+        return MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8),
+                presentedSecret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static RuntimeException toException(int status, String message) {
+        return switch (status) {
+            case 403 -> new SecurityException(message);
+            case 404 -> new EntityNotFoundException(message);
+            case 409 -> new IllegalStateException(message);
+            case 422 -> new IllegalArgumentException(message);
+            default -> new IllegalStateException("Forwarding answer to session owner failed (" + status + ").");
+        };
+    }
+
+    private String message(String body) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return node.path("message").asText(null);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.iubh.quizbackend.service.live;
+
+import com.iubh.quizbackend.service.QuestionMasteryService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-Behind-Journal für Live-Antworten.
+ * <p>
+ * {@link #append} legt eine bereits im Speicher validierte Antwort nur in den Puffer der Session –
+ * unter dem Session-Lock passiert also kein I/O mehr. Die Puffer werden periodisch, am Ende jeder
+ * Frage und synchron beim Beenden der Session als JDBC-Batch geschrieben.
+ * <p>
+ * Beide Statements sind idempotent: Antworten werden nur eingefügt, wenn es für
+ * (Teilnehmer, Frage) noch keine gibt, und der Score wird aus den gespeicherten korrekten Antworten
+ * neu berechnet statt inkrementiert. Schlägt ein Batch fehl, wandern die Einträge zurück in den
+ * Puffer und werden beim nächsten Flush erneut geschrieben.
+ * <p>
+ * Flushes einer Session laufen nacheinander unter dem Lock ihres Puffers: ein Flush am Fragenende
+ * oder {@link #close} wartet auf einen laufenden periodischen Batch, statt an einer leeren Queue
+ * vorbeizulaufen. Entfernt wird der Puffer nur unter diesem Lock und erst, wenn alles geschrieben ist.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveAnswerJournal {
+
+    private static final String INSERT_ANSWER = """
+            insert into participant_answers (id, session_id, participant_id, question_index, answer_id, is_correct, answered_at)
+            select ?, ?, ?, ?, ?, ?, ?
+             where not exists (select 1
+                                 from participant_answers
+                                where participant_id = ?
+                                  and question_index = ?)
+            """;
+
+    private static final String RECOMPUTE_SCORE = """
+            update live_quiz_participants
+               set score = (select count(*)
+                              from participant_answers a
+                             where a.participant_id = live_quiz_participants.id
+                               and a.is_correct = true)
+             where id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager txManager;
+    private final TaskScheduler taskScheduler;
+    private final QuestionMasteryService masteryService;
+
+    @Value("${application.live.journal.flush-interval-ms:250}")
+    private long flushIntervalMs;
+
+    private final Map<UUID, Buffer> buffers = new ConcurrentHashMap<>();
+
+    private TransactionTemplate txTemplate;
+    private ScheduledFuture<?> flushTask;
+
+    @PostConstruct
+    void start() {
+        txTemplate = new TransactionTemplate(txManager);
+        // eigene Transaktion: ein fehlgeschlagener Batch darf die aufrufende Transaktion nicht markieren
+        txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        flushTask = taskScheduler.scheduleAtFixedRate(this::flushAll, Duration.ofMillis(flushIntervalMs));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+        flushAll();
+    }
+
+    /** Reiht eine Antwort zur Persistierung ein (O(1), kein I/O). */
+    public void append(UUID sessionId, UUID participantId, UUID userId, UUID questionId,
+                       int questionIndex, UUID answerId, boolean correct) {
+        PendingAnswer answer = new PendingAnswer(UUID.randomUUID(), participantId, userId, questionId,
+                questionIndex, answerId, correct, Instant.now());
+        // atomar zum Entfernen in close(): die Antwort landet nie in einem bereits entfernten Puffer
+        buffers.compute(sessionId, (id, buffer) -> {
+            Buffer target = buffer != null ? buffer : new Buffer();
+            target.queue.add(answer);
+            return target;
+        });
+    }
+
+    /**
+     * Schreibt alle gepufferten Antworten der Session; wartet auf einen bereits laufenden Flush.
+     *
+     * @return false, wenn der Batch fehlgeschlagen ist (die Einträge bleiben gepuffert).
+     */
+    public boolean flush(UUID sessionId) {
+        Buffer buffer = buffers.get(sessionId);
+        if (buffer == null) return true;
+
+        buffer.lock.lock();
+        try {
+            return flush(sessionId, buffer);
+        } finally {
+            buffer.lock.unlock();
+        }
+    }
+
+    /**
+     * Flush beim Beenden der Session. Der Puffer wird entfernt, sobald alles geschrieben ist;
+     * sonst bleibt er für den periodischen Flush stehen.
+     */
+    public void close(UUID sessionId) {
+        Buffer buffer = buffers.get(sessionId);
+        if (buffer == null) return;
+
+        buffer.lock.lock();
+        try {
+            if (flush(sessionId, buffer)) {
+                buffers.computeIfPresent(sessionId, (id, current) -> current == buffer && current.queue.isEmpty() ? null : current);
+            } else {
+                log.error("Live answers of finished session {} not yet persisted; periodic flush keeps retrying.", sessionId);
+            }
+        } finally {
+            buffer.lock.unlock();
+        }
+    }
+
+    public int pendingCount() {
+        return buffers.values().stream().mapToInt(buffer -> buffer.queue.size()).sum();
+    }
+
+    void flushAll() {
+        for (UUID sessionId : buffers.keySet()) {
+            flush(sessionId);
+        }
+    }
+
+    /** Nur unter {@code buffer.lock}. */
+    private boolean flush(UUID sessionId, Buffer buffer) {
+        List<PendingAnswer> batch = new ArrayList<>();
+        PendingAnswer next;
+        while ((next = buffer.queue.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) return true;
+
+        try {
+            writeBatch(sessionId, batch);
+            return true;
+        } catch (RuntimeException e) {
+            buffer.queue.addAll(batch);
+            log.warn("Flushing {} live answers of session {} failed, will retry: {}", batch.size(), sessionId, e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeBatch(UUID sessionId, List<PendingAnswer> batch) {
+        List<Object[]> inserts = new ArrayList<>(batch.size());
+        Set<UUID> participants = new LinkedHashSet<>();
+        for (PendingAnswer a : batch) {
+            inserts.add(new Object[]{
+                    a.id(), sessionId, a.participantId(), a.questionIndex(), a.answerId(), a.correct(),
+                    LocalDateTime.ofInstant(a.answeredAt(), ZoneId.systemDefault()),
+                    a.participantId(), a.questionIndex()
+            });
+            if (a.correct()) {
+                participants.add(a.participantId());
+            }
+        }
+        List<Object[]> scoreUpdates = participants.stream()
+                .map(id -> new Object[]{id})
+                .toList();
+
+        int[] inserted = txTemplate.execute(status -> {
+            int[] counts = jdbcTemplate.batchUpdate(INSERT_ANSWER, inserts);
+            if (!scoreUpdates.isEmpty()) {
+                jdbcTemplate.batchUpdate(RECOMPUTE_SCORE, scoreUpdates);
+            }
+            return counts;
+        });
+
+        // Lernstand ist abgeleitet: recordAll läuft in eigener Transaktion und wirft nicht,
+        // die Antworten wandern also nie seinetwegen zurück in den Puffer
+        masteryService.recordAll(masteryEvents(batch, inserted));
+    }
+
+    /** Nur tatsächlich eingefügte Antworten zählen – ein wiederholter Batch darf die Box nicht doppelt verschieben. */
+    private static List<QuestionMasteryService.AnswerEvent> masteryEvents(List<PendingAnswer> batch, int[] inserted) {
+        List<QuestionMasteryService.AnswerEvent> events = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (inserted != null && i < inserted.length && inserted[i] == 0) continue;
+            PendingAnswer a = batch.get(i);
+            events.add(new QuestionMasteryService.AnswerEvent(a.userId(), a.questionId(), a.correct(), a.answeredAt()));
+        }
+        return events;
+    }
+
+    /** Puffer einer Session; ReentrantLock statt synchronized, damit virtuelle Threads während des Batches nicht gepinnt werden. */
+    private static final class Buffer {
+        private final Queue<PendingAnswer> queue = new ConcurrentLinkedQueue<>();
+        private final ReentrantLock lock = new ReentrantLock();
+    }
+
+    private record PendingAnswer(UUID id,
+                                 UUID participantId,
+                                 UUID userId,
+                                 UUID questionId,
+                                 int questionIndex,
+                                 UUID answerId,
+                                 boolean correct,
+                                 Instant answeredAt) {}
+}
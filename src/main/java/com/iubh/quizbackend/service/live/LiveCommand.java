@@ -0,0 +1,16 @@
+package com.iubh.quizbackend.service.live;
+
+/**
+ * Befehle, die über die Mailbox einer Live-Session abgearbeitet werden.
+ * Der Name dient zugleich als Tag der Mailbox-Metriken.
+ */
+public enum LiveCommand {
+    /** Antwort eines Teilnehmers. */
+    ANSWER,
+    /** Timer: nächste Frage anzeigen. */
+    TICK,
+    /** Timer oder Early-Advance: aktuelle Frage beenden. */
+    END,
+    /** Session abbrechen (z. B. Host getrennt). */
+    ABORT
+}
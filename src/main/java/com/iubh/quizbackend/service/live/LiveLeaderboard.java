@@ -0,0 +1,137 @@
+package com.iubh.quizbackend.service.live;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Inkrementelles Leaderboard einer Live-Session.
+ * <p>
+ * Punktestände sind kleine Ganzzahlen (0..Anzahl Fragen). Die Teilnehmer liegen daher in
+ * Score-Buckets (bei Gleichstand in der Reihenfolge, in der sie den Score erreicht haben);
+ * ein Fenwick-Baum über die Bucket-Größen liefert den Rang eines Teilnehmers in O(log S).
+ * Eine korrekte Antwort verschiebt den Teilnehmer lediglich in den nächsten Bucket – es wird nie
+ * die ganze Teilnehmerliste sortiert.
+ * <p>
+ * Rang = 1 + Anzahl Teilnehmer mit echt höherem Score (Gleichstand teilt sich den Rang).
+ * Für QUESTION_END merkt sich das Leaderboard den zuletzt gemeldeten Stand und liefert per
+ * {@link #drainChanges()} nur die Teilnehmer, deren Score oder Rang sich seitdem geändert hat.
+ */
+class LiveLeaderboard {
+
+    private final int size;
+    private final int maxScore;
+    private final int[] scores;
+    /** Fenwick-Baum über die Anzahl Teilnehmer je Score (1-basiert: Index score + 1). */
+    private final int[] tree;
+    private final List<LinkedHashSet<Integer>> buckets;
+
+    private final int[] reportedScores;
+    private final int[] reportedRanks;
+
+    LiveLeaderboard(int size, int maxScore) {
+        this.size = size;
+        this.maxScore = Math.max(0, maxScore);
+        this.scores = new int[size];
+        this.tree = new int[this.maxScore + 2];
+        this.buckets = new ArrayList<>(this.maxScore + 1);
+        for (int s = 0; s <= this.maxScore; s++) {
+            buckets.add(new LinkedHashSet<>());
+        }
+        for (int slot = 0; slot < size; slot++) {
+            buckets.get(0).add(slot);
+        }
+        add(0, size);
+
+        this.reportedScores = new int[size];
+        this.reportedRanks = new int[size];
+        Arrays.fill(reportedRanks, 1);
+    }
+
+    int score(int slot) {
+        return scores[slot];
+    }
+
+    /** Korrekte Antwort: Score + 1. */
+    void increment(int slot) {
+        setScore(slot, scores[slot] + 1);
+    }
+
+    void setScore(int slot, int score) {
+        int target = Math.min(Math.max(score, 0), maxScore);
+        int current = scores[slot];
+        if (target == current) return;
+
+        buckets.get(current).remove(slot);
+        add(current, -1);
+        buckets.get(target).add(slot);
+        add(target, 1);
+        scores[slot] = target;
+    }
+
+    /** Rang des Teilnehmers (1 = bester). */
+    int rank(int slot) {
+        return 1 + countAbove(scores[slot]);
+    }
+
+    /** Die ersten {@code n} Slots nach Score absteigend. */
+    List<Integer> top(int n) {
+        int limit = Math.min(n, size);
+        List<Integer> out = new ArrayList<>(limit);
+        for (int s = maxScore; s >= 0 && out.size() < limit; s--) {
+            for (int slot : buckets.get(s)) {
+                out.add(slot);
+                if (out.size() == limit) break;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Teilnehmer, deren Score oder Rang sich seit dem letzten Aufruf geändert hat.
+     * Der aktuelle Stand wird danach als „gemeldet“ gemerkt.
+     */
+    List<LiveSessionState.RankChange> drainChanges() {
+        List<LiveSessionState.RankChange> changes = new ArrayList<>();
+        for (int slot = 0; slot < size; slot++) {
+            int score = scores[slot];
+            int rank = rank(slot);
+            if (score != reportedScores[slot] || rank != reportedRanks[slot]) {
+                changes.add(new LiveSessionState.RankChange(slot, score, rank, reportedRanks[slot]));
+                reportedScores[slot] = score;
+                reportedRanks[slot] = rank;
+            }
+        }
+        return changes;
+    }
+
+    /** Übernimmt den aktuellen Stand als gemeldet (z. B. nach der Hydration). */
+    void markReported() {
+        for (int slot = 0; slot < size; slot++) {
+            reportedScores[slot] = scores[slot];
+            reportedRanks[slot] = rank(slot);
+        }
+    }
+
+    // ---------------------- Fenwick ----------------------
+
+    private void add(int score, int delta) {
+        for (int i = score + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /** Anzahl Teilnehmer mit Score ≤ {@code score}. */
+    private int countAtMost(int score) {
+        int sum = 0;
+        for (int i = score + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private int countAbove(int score) {
+        return size - countAtMost(score);
+    }
+}
@@ -0,0 +1,139 @@
+package com.iubh.quizbackend.service.live;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metriken des Live-Quiz-Ablaufs. Tags sind bewusst grob (Ergebnis, Ereignis, Operation) –
+ * niemals Session-, Lobby- oder User-IDs.
+ * <ul>
+ *     <li>{@code live.sessions.active} – Sessions im Speicher dieses Nodes</li>
+ *     <li>{@code live.sessions.started} / {@code live.sessions.ended} – Start und Ende ({@code outcome=finished|cancelled})</li>
+ *     <li>{@code live.answers} – Antworten je Ergebnis ({@code result=accepted|duplicate|rejected}); die Rate ergibt Antworten pro Sekunde</li>
+ *     <li>{@code live.answer.latency} – vom REST-Aufruf bis zur verarbeiteten Antwort, inkl. Wartezeit in der Mailbox</li>
+ *     <li>{@code live.question.reveal.skew} – geplanter Start einer Frage bis zum tatsächlichen QUESTION_SHOW</li>
+ *     <li>{@code live.question.end.lag} – {@code questionEndsAt} bis zum tatsächlichen QUESTION_END (nur Ende per Timer)</li>
+ *     <li>{@code live.tx} – Dauer der Transaktionen im {@code LiveQuizTxRunner} inkl. Commit</li>
+ *     <li>{@code live.broadcast} – Übergabe eines Events an den Broker (Serialisierung und Einreihen)</li>
+ * </ul>
+ * Geplante Timer und die Wartezeit je Session liefern bereits {@code live.timer.pending} und
+ * {@code live.mailbox.wait}.
+ */
+@Component
+public class LiveQuizMetrics {
+
+    public enum Outcome { FINISHED, CANCELLED }
+
+    public enum Operation { SHOW_QUESTION, END_QUESTION, ABORT }
+
+    public enum Event { QUESTION_SHOW, QUESTION_END, QUIZ_ENDED, QUIZ_ABORTED }
+
+    private final Counter sessionsStarted;
+    private final Map<Outcome, Counter> sessionsEnded = new EnumMap<>(Outcome.class);
+    private final Counter answersAccepted;
+    private final Counter answersDuplicate;
+    private final Counter answersRejected;
+    private final Timer answerLatency;
+    private final Timer revealSkew;
+    private final Timer endLag;
+    private final Map<Operation, Timer> txTimers = new EnumMap<>(Operation.class);
+    private final Map<Event, Timer> broadcastTimers = new EnumMap<>(Event.class);
+
+    public LiveQuizMetrics(MeterRegistry meterRegistry, LiveSessionEngine engine) {
+        Gauge.builder("live.sessions.active", engine, LiveSessionEngine::size)
+                .description("Live sessions held in memory on this node")
+                .register(meterRegistry);
+        sessionsStarted = Counter.builder("live.sessions.started")
+                .description("Live sessions started from a lobby")
+                .register(meterRegistry);
+        for (Outcome outcome : Outcome.values()) {
+            sessionsEnded.put(outcome, Counter.builder("live.sessions.ended")
+                    .description("Live sessions that reached a terminal state")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+
+        answersAccepted = answerCounter(meterRegistry, "accepted");
+        answersDuplicate = answerCounter(meterRegistry, "duplicate");
+        answersRejected = answerCounter(meterRegistry, "rejected");
+        answerLatency = Timer.builder("live.answer.latency")
+                .description("Time from an answer request to its processing in the session mailbox")
+                .register(meterRegistry);
+
+        revealSkew = Timer.builder("live.question.reveal.skew")
+                .description("Delay between the scheduled and the actual QUESTION_SHOW broadcast")
+                .register(meterRegistry);
+        endLag = Timer.builder("live.question.end.lag")
+                .description("Delay between questionEndsAt and the QUESTION_END broadcast")
+                .register(meterRegistry);
+
+        for (Operation operation : Operation.values()) {
+            txTimers.put(operation, Timer.builder("live.tx")
+                    .description("Duration of a live session transaction including commit")
+                    .tag("operation", operation.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        for (Event event : Event.values()) {
+            broadcastTimers.put(event, Timer.builder("live.broadcast")
+                    .description("Time to hand a live session event to the message broker")
+                    .tag("event", event.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    private static Counter answerCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("live.answers")
+                .description("Live answers by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public void sessionStarted() {
+        sessionsStarted.increment();
+    }
+
+    public void sessionEnded(Outcome outcome) {
+        sessionsEnded.get(outcome).increment();
+    }
+
+    public void answerAccepted() {
+        answersAccepted.increment();
+    }
+
+    public void answerDuplicate() {
+        answersDuplicate.increment();
+    }
+
+    /** Abschluss einer Antwort in der Mailbox; abgelehnte Antworten (Exception) werden zusätzlich gezählt. */
+    public void answerCompleted(long nanos, boolean rejected) {
+        answerLatency.record(nanos, TimeUnit.NANOSECONDS);
+        if (rejected) {
+            answersRejected.increment();
+        }
+    }
+
+    /** Verspätung gegenüber dem geplanten Zeitpunkt; negative Werte (Timer zu früh) werden verworfen. */
+    public void questionRevealed(Duration skew) {
+        revealSkew.record(skew);
+    }
+
+    public void questionEnded(Duration lag) {
+        endLag.record(lag);
+    }
+
+    public void txCompleted(Operation operation, long nanos) {
+        txTimers.get(operation).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void broadcastCompleted(Event event, long nanos) {
+        broadcastTimers.get(event).record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,270 @@
+package com.iubh.quizbackend.service.live;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed-Wheel-Timer für die Fristen der Live-Sessions (Frage-Ende, nächste Frage).
+ * <p>
+ * Statt pro Übergang ein {@code ScheduledFuture} im Heap des {@code TaskScheduler} anzulegen und
+ * wieder zu stornieren, landen Fristen in einem Rad aus {@code wheelSize} Buckets à {@code tick}.
+ * Planen und Stornieren sind O(1): neue Fristen werden über eine lock-freie Queue an den
+ * Timer-Thread übergeben, stornierte Fristen werden nur markiert und beim nächsten Durchlauf
+ * ihres Buckets verworfen.
+ * <p>
+ * Fristen sind über einen Schlüssel adressiert; erneutes Planen mit demselben Schlüssel ersetzt
+ * die vorherige Frist (idempotentes Re-Arming). Fällige Aufgaben laufen auf einem kleinen,
+ * begrenzten Dispatch-Pool – sie sollen nur einen Befehl in die Session-Mailbox legen.
+ * Die Auflösung ist {@code tick}: eine Aufgabe feuert frühestens zur Frist, spätestens einen Tick danach.
+ */
+@Slf4j
+@Component
+public class LiveQuizTimer {
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] wheel;
+
+    private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Map<Object, Timeout> byKey = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final ThreadPoolExecutor dispatcher;
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+
+    @Autowired
+    public LiveQuizTimer(@Value("${application.live.timer.tick-ms:50}") long tickMs,
+                         @Value("${application.live.timer.wheel-size:512}") int wheelSize,
+                         @Value("${application.live.timer.dispatch-threads:2}") int dispatchThreads,
+                         MeterRegistry meterRegistry) {
+        this(Duration.ofMillis(tickMs), wheelSize, dispatchThreads);
+        Gauge.builder("live.timer.pending", pending, AtomicInteger::get)
+                .description("Live session deadlines waiting in the timer wheel")
+                .register(meterRegistry);
+    }
+
+    public LiveQuizTimer(Duration tick, int wheelSize, int dispatchThreads) {
+        if (tick.toMillis() < 1) {
+            throw new IllegalArgumentException("tick must be at least 1ms");
+        }
+        if (wheelSize < 1) {
+            throw new IllegalArgumentException("wheelSize must be positive");
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = tick.toNanos();
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+
+        this.dispatcher = new ThreadPoolExecutor(
+                dispatchThreads, dispatchThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(10_000),
+                new CustomizableThreadFactory("live-timer-dispatch-"),
+                // Backpressure: läuft der Pool voll, dispatcht der Timer-Thread selbst
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.startNanos = System.nanoTime();
+        this.worker = new CustomizableThreadFactory("live-timer-").newThread(this::run);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // ---------------------- API ----------------------
+
+    /**
+     * Plant {@code task} zum Zeitpunkt {@code deadline}. Eine bereits geplante Frist mit demselben
+     * Schlüssel wird dabei storniert.
+     */
+    public void schedule(Object key, Instant deadline, Runnable task) {
+        long delayNanos = Duration.between(Instant.now(), deadline).toNanos();
+        Timeout timeout = new Timeout(key, System.nanoTime() + Math.max(0, delayNanos), task);
+
+        Timeout previous = byKey.put(key, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+        pending.incrementAndGet();
+        pendingAdds.add(timeout);
+    }
+
+    /** Storniert die Frist zum Schlüssel. @return false, wenn keine Frist (mehr) geplant war. */
+    public boolean cancel(Object key) {
+        Timeout timeout = byKey.remove(key);
+        return timeout != null && timeout.cancel();
+    }
+
+    public boolean isScheduled(Object key) {
+        return byKey.containsKey(key);
+    }
+
+    /** Anzahl geplanter, noch nicht gefeuerter (oder verworfener) Fristen. */
+    public int pendingTimeouts() {
+        return pending.get();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        worker.interrupt();
+        dispatcher.shutdown();
+    }
+
+    // ---------------------- Timer-Thread ----------------------
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long tickDeadline = startNanos + (tick + 1) * tickNanos;
+            long sleepNanos = tickDeadline - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) return;
+                }
+            }
+            transferPending(tick);
+            expire(wheel[(int) (tick & mask)], System.nanoTime());
+            tick++;
+        }
+    }
+
+    private void transferPending(long currentTick) {
+        // begrenzt, damit ein Ansturm neuer Fristen den aktuellen Tick nicht verzögert
+        for (int i = 0; i < 100_000; i++) {
+            Timeout timeout = pendingAdds.poll();
+            if (timeout == null) return;
+            if (timeout.isCancelled()) {
+                pending.decrementAndGet();
+                continue;
+            }
+            long ticks = Math.max(currentTick, (timeout.deadlineNanos - startNanos) / tickNanos);
+            timeout.remainingRounds = (ticks - currentTick) / wheel.length;
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Bucket bucket, long now) {
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.isCancelled()) {
+                bucket.remove(timeout);
+                pending.decrementAndGet();
+            } else if (timeout.remainingRounds <= 0 && timeout.deadlineNanos <= now + tickNanos) {
+                bucket.remove(timeout);
+                pending.decrementAndGet();
+                if (timeout.expire()) {
+                    byKey.remove(timeout.key, timeout);
+                    dispatch(timeout);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    private void dispatch(Timeout timeout) {
+        try {
+            dispatcher.execute(() -> {
+                try {
+                    timeout.task.run();
+                } catch (RuntimeException e) {
+                    log.error("Live timer task for {} failed", timeout.key, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Live timer task for {} dropped, timer is shutting down", timeout.key);
+        }
+    }
+
+    // ---------------------- Datenstrukturen ----------------------
+
+    private static final class Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final Object key;
+        private final long deadlineNanos;
+        private final Runnable task;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        // nur vom Timer-Thread benutzt
+        private long remainingRounds;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Object key, long deadlineNanos, Runnable task) {
+            this.key = key;
+            this.deadlineNanos = deadlineNanos;
+            this.task = task;
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(ST_INIT, ST_CANCELLED);
+        }
+
+        private boolean expire() {
+            return state.compareAndSet(ST_INIT, ST_EXPIRED);
+        }
+
+        private boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+    }
+
+    /** Doppelt verkettete Liste; gehört exklusiv dem Timer-Thread. */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.iubh.quizbackend.service.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iubh.quizbackend.entity.question.Answer;
+import com.iubh.quizbackend.entity.quiz.AnswerOrder;
+import com.iubh.quizbackend.entity.quiz.LiveQuizParticipant;
+import com.iubh.quizbackend.entity.quiz.LiveQuizSession;
+import com.iubh.quizbackend.entity.quiz.SessionQuestion;
+import com.iubh.quizbackend.entity.user.Profile;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.repository.LiveQuizParticipantRepository;
+import com.iubh.quizbackend.repository.LiveQuizSessionRepository;
+import com.iubh.quizbackend.repository.ParticipantAnswerRepository;
+import com.iubh.quizbackend.repository.SessionQuestionRepository;
+import com.iubh.quizbackend.repository.projection.AnsweredQuestionRow;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Node-lokale Registry der laufenden Live-Sessions.
+ * <p>
+ * Der {@link LiveSessionState} wird beim Start der Session registriert und ist danach die
+ * Quelle der Wahrheit für Validierung, Scores und Early-Advance – die Datenbank dient nur noch
+ * als Journal. Fehlt ein Zustand (z. B. nach einem Neustart), wird er einmalig aus der
+ * Datenbank rekonstruiert.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveSessionEngine {
+
+    private final LiveQuizSessionRepository sessionRepo;
+    private final SessionQuestionRepository sessionQuestionRepo;
+    private final LiveQuizParticipantRepository participantRepo;
+    private final ParticipantAnswerRepository answerRepo;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager txManager;
+
+    private final Map<UUID, LiveSessionState> sessions = new ConcurrentHashMap<>();
+
+    /** Registriert den Zustand einer frisch gestarteten Session. */
+    public void register(LiveSessionState state) {
+        sessions.put(state.getSessionId(), state);
+    }
+
+    /**
+     * Liefert den Zustand der Session; rekonstruiert ihn bei Bedarf aus der Datenbank.
+     * Beendete Sessions werden nicht (wieder) im Speicher gehalten.
+     */
+    public LiveSessionState get(UUID sessionId) {
+        LiveSessionState state = sessions.get(sessionId);
+        if (state != null) return state;
+
+        LiveSessionState loaded = hydrate(sessionId);
+        if (loaded.isTerminal()) return loaded;
+
+        LiveSessionState existing = sessions.putIfAbsent(sessionId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    public Optional<LiveSessionState> find(UUID sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    /**
+     * Liest den Zustand aus der Datenbank, ohne ihn zu registrieren – für Sessions, die einem
+     * anderen Node gehören. Antworten der laufenden Frage können dort noch im Journal stehen.
+     */
+    public LiveSessionState load(UUID sessionId) {
+        return hydrate(sessionId);
+    }
+
+    public void evict(UUID sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    // ---------------------- Aufbau ----------------------
+
+    /** Friert eine Frage mit der gegebenen Antwortreihenfolge ein. */
+    public static LiveSessionState.FrozenQuestion freeze(UUID questionId, String text, List<Answer> orderedAnswers) {
+        List<LiveSessionState.FrozenAnswer> answers = orderedAnswers.stream()
+                .map(a -> new LiveSessionState.FrozenAnswer(a.getId(), a.getText(), Boolean.TRUE.equals(a.getIsCorrect())))
+                .toList();
+        return new LiveSessionState.FrozenQuestion(questionId, text, answers);
+    }
+
+    public static LiveSessionState.Participant toParticipant(LiveQuizParticipant p) {
+        User u = p.getUser();
+        Profile profile = u.getProfile();
+        return new LiveSessionState.Participant(
+                p.getId(),
+                u.getId(),
+                profile != null ? profile.getFirstName() : null,
+                profile != null ? profile.getName() : null);
+    }
+
+    public static LiveSessionState newState(LiveQuizSession s,
+                                            List<LiveSessionState.FrozenQuestion> questions,
+                                            List<LiveSessionState.Participant> roster) {
+        LiveSessionState state = new LiveSessionState(
+                s.getId(),
+                s.getLobbyId(),
+                s.getTotalQuestions(),
+                s.getQuestionDurationSec(),
+                s.getBufferDurationSec(),
+                s.isEarlyAdvanceEnabled(),
+                s.getStartAt(),
+                questions,
+                roster);
+        state.setStatus(s.getStatus());
+        state.setCurrentIndex(s.getCurrentIndex());
+        state.setQuestionEndsAt(s.getQuestionEndsAt());
+        state.setQuestionClosed(s.isQuestionClosed());
+        return state;
+    }
+
+    // ---------------------- Hydration ----------------------
+
+    private LiveSessionState hydrate(UUID sessionId) {
+        TransactionTemplate template = new TransactionTemplate(txManager);
+        template.setReadOnly(true);
+        return template.execute(status -> {
+            LiveQuizSession s = sessionRepo.findById(sessionId)
+                    .orElseThrow(() -> new EntityNotFoundException("Session not found: " + sessionId));
+
+            List<LiveSessionState.FrozenQuestion> questions = sessionQuestionRepo.findAllWithQuestionAndAnswers(sessionId)
+                    .stream()
+                    .map(this::freezeStored)
+                    .toList();
+
+            List<LiveQuizParticipant> participants = participantRepo.findRosterBySessionId(sessionId);
+            List<LiveSessionState.Participant> roster = participants.stream()
+                    .map(LiveSessionEngine::toParticipant)
+                    .toList();
+
+            LiveSessionState state = newState(s, questions, roster);
+
+            Map<UUID, Integer> slotByParticipant = new HashMap<>();
+            for (int slot = 0; slot < participants.size(); slot++) {
+                slotByParticipant.put(participants.get(slot).getId(), slot);
+                state.restoreScore(slot, participants.get(slot).getScore());
+            }
+            for (AnsweredQuestionRow row : answerRepo.findAnsweredBySessionId(sessionId)) {
+                Integer slot = slotByParticipant.get(row.getParticipantId());
+                if (slot != null) {
+                    state.restoreAnswered(slot, row.getQuestionIndex());
+                }
+            }
+            state.markLeaderboardReported();
+
+            log.info("Live session {} hydrated from database ({} questions, {} participants).",
+                    sessionId, questions.size(), roster.size());
+            return state;
+        });
+    }
+
+    private LiveSessionState.FrozenQuestion freezeStored(SessionQuestion sq) {
+        Set<Answer> answers = sq.getQuestion().getAnswers();
+        List<Answer> ordered = sq.getAnswerOrder() != null
+                ? sq.getAnswerOrder().apply(answers)
+                : legacyOrder(sq, answers);
+
+        return freeze(sq.getQuestion().getId(), sq.getQuestion().getQuestionText(), ordered);
+    }
+
+    /** Noch nicht migrierte Zeile: Reihenfolge aus {@code answerOrderJson}. */
+    @SuppressWarnings("deprecation")
+    private List<Answer> legacyOrder(SessionQuestion sq, Set<Answer> answers) {
+        if (sq.getAnswerOrderJson() == null) {
+            return AnswerOrder.canonical(answers);
+        }
+        List<UUID> orderIds;
+        try {
+            orderIds = Arrays.asList(objectMapper.readValue(sq.getAnswerOrderJson(), UUID[].class));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("answerOrderJson malformed", e);
+        }
+
+        Map<UUID, Answer> answerMap = answers.stream()
+                .collect(Collectors.toMap(Answer::getId, Function.identity()));
+        return orderIds.stream()
+                .map(answerMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
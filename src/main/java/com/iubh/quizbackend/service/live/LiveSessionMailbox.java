@@ -0,0 +1,109 @@
+package com.iubh.quizbackend.service.live;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Serielle Befehlswarteschlange einer Live-Session.
+ * <p>
+ * Befehle werden in Eingangsreihenfolge und nie parallel ausgeführt; ein Drain-Lauf belegt
+ * höchstens einen Thread des gemeinsamen Executors und gibt ihn frei, sobald die Queue leer ist.
+ * Damit ersetzt die Mailbox den früheren Session-Monitor, ohne aufrufende Threads zu blockieren.
+ */
+class LiveSessionMailbox {
+
+    private final Executor executor;
+    private final MailboxListener listener;
+
+    private final Queue<Envelope<?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    LiveSessionMailbox(Executor executor, MailboxListener listener) {
+        this.executor = executor;
+        this.listener = listener;
+    }
+
+    <T> CompletableFuture<T> submit(LiveCommand command, Supplier<T> action) {
+        Envelope<T> envelope = new Envelope<>(command, action, System.nanoTime());
+        queue.add(envelope);
+        depth.incrementAndGet();
+        scheduleDrain();
+        return envelope.result;
+    }
+
+    int depth() {
+        return depth.get();
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) return;
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            failPending(e);
+        }
+    }
+
+    private void drain() {
+        try {
+            Envelope<?> next;
+            while ((next = queue.poll()) != null) {
+                depth.decrementAndGet();
+                next.run(listener);
+            }
+        } finally {
+            draining.set(false);
+            // zwischen poll() == null und draining=false eingetroffene Befehle nicht liegen lassen
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private void failPending(Throwable cause) {
+        Envelope<?> next;
+        while ((next = queue.poll()) != null) {
+            depth.decrementAndGet();
+            next.result.completeExceptionally(cause);
+        }
+    }
+
+    /** Rückmeldung für Metriken: Wartezeit in der Queue und Ausführungsdauer, jeweils in Nanosekunden. */
+    interface MailboxListener {
+        void processed(LiveCommand command, long waitNanos, long processingNanos, boolean failed);
+    }
+
+    private static final class Envelope<T> {
+        private final LiveCommand command;
+        private final Supplier<T> action;
+        private final long enqueuedAt;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Envelope(LiveCommand command, Supplier<T> action, long enqueuedAt) {
+            this.command = command;
+            this.action = action;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        private void run(MailboxListener listener) {
+            long startedAt = System.nanoTime();
+            boolean failed = false;
+            try {
+                result.complete(action.get());
+            } catch (Throwable t) {
+                failed = true;
+                result.completeExceptionally(t);
+            } finally {
+                listener.processed(command, startedAt - enqueuedAt, System.nanoTime() - startedAt, failed);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.iubh.quizbackend.service.live;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Registry der Mailboxen aller laufenden Live-Sessions.
+ * <p>
+ * Jede Session besitzt genau eine {@link LiveSessionMailbox}; alle Mailboxen teilen sich einen
+ * begrenzten Executor – mit {@code spring.threads.virtual.enabled} einen virtuellen Thread je Befehl
+ * (die Reihenfolge je Session sichert weiterhin die Mailbox). Sobald eine Session FINISHED/CANCELLED erreicht, wird ihre Mailbox per
+ * {@link #evict(UUID)} entfernt.
+ * <p>
+ * Metriken:
+ * <ul>
+ *     <li>{@code live.mailbox.sessions} – Anzahl aktiver Mailboxen</li>
+ *     <li>{@code live.mailbox.depth} – wartende Befehle über alle Sessions</li>
+ *     <li>{@code live.mailbox.wait} / {@code live.mailbox.processing} – Wartezeit und Ausführungsdauer je Befehl</li>
+ *     <li>{@code live.mailbox.failures} – mit Exception beendete Befehle</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class LiveSessionMailboxes {
+
+    private final Map<UUID, LiveSessionMailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    private final Map<LiveCommand, Timer> waitTimers = new EnumMap<>(LiveCommand.class);
+    private final Map<LiveCommand, Timer> processingTimers = new EnumMap<>(LiveCommand.class);
+    private final Map<LiveCommand, Counter> failureCounters = new EnumMap<>(LiveCommand.class);
+    private final LiveSessionMailbox.MailboxListener listener;
+
+    public LiveSessionMailboxes(MeterRegistry meterRegistry,
+                                @Value("${application.live.mailbox.threads:0}") int threads,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("live-mailbox-", 0).factory());
+        } else {
+            int poolSize = threads > 0 ? threads : Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+            this.executor = Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("live-mailbox-"));
+        }
+
+        for (LiveCommand command : LiveCommand.values()) {
+            waitTimers.put(command, Timer.builder("live.mailbox.wait")
+                    .description("Time a live session command waits in its mailbox")
+                    .tag("command", command.name().toLowerCase())
+                    .register(meterRegistry));
+            processingTimers.put(command, Timer.builder("live.mailbox.processing")
+                    .description("Time spent executing a live session command")
+                    .tag("command", command.name().toLowerCase())
+                    .register(meterRegistry));
+            failureCounters.put(command, Counter.builder("live.mailbox.failures")
+                    .description("Live session commands that completed exceptionally")
+                    .tag("command", command.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("live.mailbox.sessions", mailboxes, Map::size)
+                .description("Live sessions with an active mailbox")
+                .register(meterRegistry);
+        Gauge.builder("live.mailbox.depth", this, LiveSessionMailboxes::totalDepth)
+                .description("Commands waiting in live session mailboxes")
+                .register(meterRegistry);
+
+        this.listener = (command, waitNanos, processingNanos, failed) -> {
+            waitTimers.get(command).record(waitNanos, TimeUnit.NANOSECONDS);
+            processingTimers.get(command).record(processingNanos, TimeUnit.NANOSECONDS);
+            if (failed) {
+                failureCounters.get(command).increment();
+            }
+        };
+    }
+
+    /** Reiht einen Befehl in die Mailbox der Session ein; der aufrufende Thread wird nicht blockiert. */
+    public <T> CompletableFuture<T> submit(UUID sessionId, LiveCommand command, Supplier<T> action) {
+        return mailboxes.computeIfAbsent(sessionId, id -> new LiveSessionMailbox(executor, listener))
+                .submit(command, action);
+    }
+
+    public CompletableFuture<Void> execute(UUID sessionId, LiveCommand command, Runnable action) {
+        return submit(sessionId, command, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Entfernt die Mailbox einer beendeten Session. Bereits eingereihte Befehle laufen noch ab
+     * (und sehen dann den Endzustand der Session).
+     */
+    public void evict(UUID sessionId) {
+        mailboxes.remove(sessionId);
+    }
+
+    public int size() {
+        return mailboxes.size();
+    }
+
+    double totalDepth() {
+        int sum = 0;
+        for (LiveSessionMailbox mailbox : mailboxes.values()) {
+            sum += mailbox.depth();
+        }
+        return sum;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Live session mailboxes did not drain within 5s, forcing shutdown.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.iubh.quizbackend.service.live;
+
+import com.iubh.quizbackend.entity.quiz.LiveSessionLease;
+import com.iubh.quizbackend.entity.quiz.SessionStatus;
+import com.iubh.quizbackend.repository.LiveSessionLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Besitz von Live-Sessions im Cluster-Betrieb ({@code application.live.cluster.enabled=true}).
+ * <p>
+ * Jede aktive Session ist per Lease in {@code live_session_leases} genau einem Node zugeordnet;
+ * nur dieser Node hält den {@link LiveSessionState}, die Mailbox und die Timer der Session, so
+ * dass Fragen-Timer nie doppelt feuern. Der Besitzer verlängert seine Leases periodisch
+ * ({@link #renewAll()}); läuft eine Lease ab, kann ein anderer Node die Session übernehmen
+ * ({@link #claimOrphans()}).
+ * <p>
+ * Ein Node, der länger als {@code lease-ms} hängt (GC-Pause, DB-Ausfall), darf nach einer Übernahme
+ * nicht weiterarbeiten: ohne erfolgreiche Verlängerung endet der Besitz lokal mit Ablauf der Lease
+ * ({@link #isOwner}), und jede schreibende Transaktion prüft die Lease per {@link #fence} in der
+ * Datenbank, bevor sie Fortschritt schreibt oder Events sendet.
+ * <p>
+ * Ohne Cluster-Betrieb besitzt der (einzige) Node jede Session, die Datenbank wird nicht berührt.
+ * Alle Lease-Operationen laufen in einer eigenen Transaktion, damit ein Konflikt beim Anlegen
+ * nicht die umgebende Transaktion (z. B. den Session-Start) verwirft.
+ */
+@Slf4j
+@Component
+public class LiveSessionOwnership {
+
+    private static final List<SessionStatus> ACTIVE = List.of(SessionStatus.COUNTDOWN, SessionStatus.RUNNING);
+
+    private final LiveSessionLeaseRepository leaseRepo;
+    private final TransactionTemplate tx;
+
+    @Getter
+    private final boolean clustered;
+    @Getter
+    private final String nodeId;
+    @Getter
+    private final String advertisedUrl;
+    @Getter
+    private final Duration leaseDuration;
+
+    /** Eigene Sessions mit dem lokalen Ablauf ihrer Lease (Zeitpunkt vor der letzten Verlängerung + Dauer). */
+    private final Map<UUID, Instant> owned = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LiveSessionOwnership(LiveSessionLeaseRepository leaseRepo,
+                                PlatformTransactionManager txManager,
+                                @Value("${application.live.cluster.enabled:false}") boolean clustered,
+                                @Value("${application.live.cluster.node-id:}") String nodeId,
+                                @Value("${application.live.cluster.advertised-url:http://localhost:${server.port:8080}}") String advertisedUrl,
+                                @Value("${application.live.cluster.lease-ms:15000}") long leaseMs) {
+        this.leaseRepo = leaseRepo;
+        this.tx = new TransactionTemplate(txManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clustered = clustered;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.advertisedUrl = advertisedUrl;
+        this.leaseDuration = Duration.ofMillis(leaseMs);
+        if (clustered) {
+            log.info("Live sessions run clustered as node {} ({}).", this.nodeId, advertisedUrl);
+        }
+    }
+
+    /**
+     * Übernimmt die Session für diesen Node, sofern sie keinem anderen Node mit gültiger Lease gehört.
+     *
+     * @return true, wenn dieser Node die Session jetzt besitzt.
+     */
+    public boolean claim(UUID sessionId) {
+        if (!clustered) return true;
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(leaseDuration);
+        Integer updated = tx.execute(status -> leaseRepo.claim(sessionId, nodeId, advertisedUrl, now, expiresAt));
+        boolean claimed = updated != null && updated > 0;
+        if (!claimed) {
+            try {
+                tx.executeWithoutResult(status -> leaseRepo.insert(sessionId, nodeId, advertisedUrl, expiresAt));
+                claimed = true;
+            } catch (DataIntegrityViolationException e) {
+                // Lease existiert und gehört (noch) einem anderen Node
+                claimed = false;
+            }
+        }
+        if (claimed) {
+            owned.put(sessionId, expiresAt);
+        }
+        return claimed;
+    }
+
+    /** true, solange dieser Node die Session besitzt und ihre Lease lokal noch nicht abgelaufen ist. */
+    public boolean isOwner(UUID sessionId) {
+        if (!clustered) return true;
+        Instant deadline = owned.get(sessionId);
+        return deadline != null && Instant.now().isBefore(deadline);
+    }
+
+    /**
+     * Fencing: prüft in der laufenden (schreibenden) Transaktion, dass die Lease noch diesem Node
+     * gehört und gültig ist, und sperrt sie bis zum Commit.
+     *
+     * @throws IllegalStateException wenn die Lease verloren ist – die Transaktion wird zurückgerollt.
+     */
+    public void fence(UUID sessionId) {
+        if (!clustered) return;
+        if (leaseRepo.lockIfHeld(sessionId, nodeId, Instant.now()) == 0) {
+            owned.remove(sessionId);
+            throw new IllegalStateException("Live session " + sessionId + " is no longer owned by this node.");
+        }
+    }
+
+    /** Basis-URL des Nodes, der die Session aktuell besitzt – leer, wenn niemand (gültig) besitzt. */
+    public Optional<String> ownerUrl(UUID sessionId) {
+        if (!clustered) return Optional.empty();
+        return leaseRepo.findBySessionIdAndExpiresAtAfter(sessionId, Instant.now())
+                .filter(lease -> !nodeId.equals(lease.getOwnerNode()))
+                .map(LiveSessionLease::getOwnerUrl);
+    }
+
+    /** Gibt die Session frei (beendet oder an einen anderen Node verloren). */
+    public void release(UUID sessionId) {
+        if (!clustered || owned.remove(sessionId) == null) return;
+        try {
+            tx.executeWithoutResult(status -> leaseRepo.release(sessionId, nodeId));
+        } catch (RuntimeException e) {
+            // läuft ohnehin ab
+            log.warn("Releasing lease of live session {} failed: {}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * Verlängert alle Leases dieses Nodes.
+     *
+     * @return Sessions, deren Lease inzwischen einem anderen Node gehört oder lokal abgelaufen ist.
+     */
+    public Set<UUID> renewAll() {
+        if (!clustered || owned.isEmpty()) return Set.of();
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(leaseDuration);
+        Set<UUID> lost = new HashSet<>();
+        for (Map.Entry<UUID, Instant> entry : owned.entrySet()) {
+            UUID sessionId = entry.getKey();
+            if (!now.isBefore(entry.getValue())) {
+                // ohne rechtzeitige Verlängerung kann ein anderer Node die Session bereits übernommen haben
+                owned.remove(sessionId);
+                lost.add(sessionId);
+                continue;
+            }
+            try {
+                Integer renewed = tx.execute(status -> leaseRepo.renew(sessionId, nodeId, expiresAt));
+                if (renewed == null || renewed == 0) {
+                    owned.remove(sessionId);
+                    lost.add(sessionId);
+                } else {
+                    owned.replace(sessionId, expiresAt);
+                }
+            } catch (RuntimeException e) {
+                // beim nächsten Durchlauf erneut versuchen; bis zum lokalen Ablauf bleibt die Session hier
+                log.warn("Renewing lease of live session {} failed: {}", sessionId, e.getMessage());
+            }
+        }
+        return lost;
+    }
+
+    /**
+     * Übernimmt aktive Sessions ohne gültige Lease.
+     *
+     * @return die von diesem Node übernommenen Sessions.
+     */
+    public List<UUID> claimOrphans() {
+        if (!clustered) return List.of();
+        List<UUID> orphans;
+        try {
+            orphans = leaseRepo.findOrphanedSessionIds(ACTIVE, Instant.now());
+        } catch (RuntimeException e) {
+            log.warn("Looking up orphaned live sessions failed: {}", e.getMessage());
+            return List.of();
+        }
+        List<UUID> claimed = new ArrayList<>();
+        for (UUID sessionId : orphans) {
+            if (claim(sessionId)) {
+                claimed.add(sessionId);
+            }
+        }
+        return claimed;
+    }
+
+    /** Beim Herunterfahren: Leases freigeben, damit andere Nodes sofort übernehmen können. */
+    @PreDestroy
+    void releaseAll() {
+        for (UUID sessionId : List.copyOf(owned.keySet())) {
+            release(sessionId);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.iubh.quizbackend.service.live;
+
+import com.iubh.quizbackend.entity.quiz.SessionStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * In-Memory-Zustand einer laufenden Live-Session (Quelle der Wahrheit auf diesem Node).
+ * <p>
+ * Hält die eingefrorenen Fragen inkl. Antwortreihenfolge und korrekter Antworten,
+ * die Teilnehmerliste, Punktestände und pro Frage ein Bitset der Teilnehmer, die bereits
+ * geantwortet haben. Teilnehmer werden über einen festen Slot (0..n-1) adressiert.
+ * <p>
+ * Mutationen erfolgen ausschließlich in der Mailbox der Session ({@link LiveSessionMailboxes});
+ * lesende Zugriffe (z. B. Reconnect-Snapshot) sehen dank volatile-Feldern einen aktuellen Stand.
+ */
+@Getter
+public class LiveSessionState {
+
+    private final UUID sessionId;
+    private final UUID lobbyId;
+    private final int totalQuestions;
+    private final int questionDurationSec;
+    private final int bufferDurationSec;
+    private final boolean earlyAdvanceEnabled;
+    private final Instant startAt;
+
+    private final List<FrozenQuestion> questions;
+    private final List<Participant> participants;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, Integer> slotByUserId;
+    @Getter(AccessLevel.NONE)
+    private final LiveLeaderboard leaderboard;
+    @Getter(AccessLevel.NONE)
+    private final BitSet[] answered;
+    @Getter(AccessLevel.NONE)
+    private final int[] answeredCounts;
+
+    @Setter
+    private volatile SessionStatus status;
+    @Setter
+    private volatile int currentIndex;
+    @Setter
+    private volatile Instant questionEndsAt;
+    /** true, sobald die aktuelle Frage beendet wurde (Buffer-Phase) – späte Antworten werden abgelehnt. */
+    @Setter
+    private volatile boolean questionClosed;
+
+    public LiveSessionState(UUID sessionId,
+                            UUID lobbyId,
+                            int totalQuestions,
+                            int questionDurationSec,
+                            int bufferDurationSec,
+                            boolean earlyAdvanceEnabled,
+                            Instant startAt,
+                            List<FrozenQuestion> questions,
+                            List<Participant> participants) {
+        this.sessionId = sessionId;
+        this.lobbyId = lobbyId;
+        // ältere Sessions speichern 10, auch wenn der Pool weniger Fragen geliefert hat
+        this.totalQuestions = Math.min(totalQuestions, questions.size());
+        this.questionDurationSec = questionDurationSec;
+        this.bufferDurationSec = bufferDurationSec;
+        this.earlyAdvanceEnabled = earlyAdvanceEnabled;
+        this.startAt = startAt;
+        this.questions = List.copyOf(questions);
+        this.participants = List.copyOf(participants);
+
+        this.slotByUserId = new HashMap<>(participants.size() * 2);
+        for (int slot = 0; slot < participants.size(); slot++) {
+            slotByUserId.put(participants.get(slot).userId(), slot);
+        }
+        this.leaderboard = new LiveLeaderboard(participants.size(), questions.size());
+        this.answered = new BitSet[questions.size()];
+        for (int i = 0; i < answered.length; i++) {
+            answered[i] = new BitSet(participants.size());
+        }
+        this.answeredCounts = new int[questions.size()];
+        this.currentIndex = -1;
+    }
+
+    // ---------------------- Teilnehmer ----------------------
+
+    /** Slot des Users oder {@code -1}, falls er kein Teilnehmer ist. */
+    public int slotOf(UUID userId) {
+        Integer slot = slotByUserId.get(userId);
+        return slot != null ? slot : -1;
+    }
+
+    public Participant participant(int slot) {
+        return participants.get(slot);
+    }
+
+    public int participantCount() {
+        return participants.size();
+    }
+
+    public int scoreOf(int slot) {
+        return leaderboard.score(slot);
+    }
+
+    /** Rang des Teilnehmers (1 = bester, Gleichstand teilt sich den Rang). */
+    public int rankOf(int slot) {
+        return leaderboard.rank(slot);
+    }
+
+    // ---------------------- Fragen & Antworten ----------------------
+
+    public FrozenQuestion question(int index) {
+        return questions.get(index);
+    }
+
+    public boolean hasAnswered(int slot, int questionIndex) {
+        if (questionIndex < 0 || questionIndex >= answered.length) return false;
+        return answered[questionIndex].get(slot);
+    }
+
+    /**
+     * Vermerkt die Antwort eines Teilnehmers und erhöht ggf. seinen Score.
+     *
+     * @return false, wenn der Teilnehmer diese Frage bereits beantwortet hatte (idempotent).
+     */
+    public boolean recordAnswer(int slot, int questionIndex, boolean correct) {
+        BitSet bits = answered[questionIndex];
+        if (bits.get(slot)) return false;
+        bits.set(slot);
+        answeredCounts[questionIndex]++;
+        if (correct) {
+            leaderboard.increment(slot);
+        }
+        return true;
+    }
+
+    public boolean allAnswered(int questionIndex) {
+        return answeredCounts[questionIndex] >= participants.size();
+    }
+
+    // ---------------------- Status ----------------------
+
+    public boolean isTerminal() {
+        return status == SessionStatus.FINISHED || status == SessionStatus.CANCELLED;
+    }
+
+    public boolean hasMoreQuestions() {
+        return currentIndex + 1 < totalQuestions;
+    }
+
+    /** Teilnehmer-Slots sortiert nach Score (absteigend), bei Gleichstand in der Reihenfolge des Erreichens. */
+    public List<Integer> slotsByScore() {
+        return leaderboard.top(participants.size());
+    }
+
+    /** Die besten {@code n} Teilnehmer-Slots. */
+    public List<Integer> topSlots(int n) {
+        return leaderboard.top(n);
+    }
+
+    /** Score-/Rangänderungen seit dem letzten Aufruf (für QUESTION_END). */
+    public List<RankChange> drainRankChanges() {
+        return leaderboard.drainChanges();
+    }
+
+    // ---------------------- Hydration ----------------------
+
+    /** Nur für den Wiederaufbau aus der Datenbank: übernimmt persistierten Score und Antwort-Bits. */
+    void restoreScore(int slot, int score) {
+        leaderboard.setScore(slot, score);
+    }
+
+    /** Nach der Hydration: der wiederhergestellte Stand gilt als bereits gemeldet. */
+    void markLeaderboardReported() {
+        leaderboard.markReported();
+    }
+
+    void restoreAnswered(int slot, int questionIndex) {
+        if (questionIndex < 0 || questionIndex >= answered.length) return;
+        if (!answered[questionIndex].get(slot)) {
+            answered[questionIndex].set(slot);
+            answeredCounts[questionIndex]++;
+        }
+    }
+
+    // ---------------------- Werte-Typen ----------------------
+
+    /** Eine eingefrorene Frage inkl. Antworten in Session-Reihenfolge. */
+    public record FrozenQuestion(UUID questionId, String text, List<FrozenAnswer> answers) {
+
+        public FrozenQuestion {
+            answers = List.copyOf(answers);
+        }
+
+        /** Antwort mit der gegebenen ID oder {@code null}, falls sie nicht zu dieser Frage gehört. */
+        public FrozenAnswer answer(UUID answerId) {
+            for (FrozenAnswer a : answers) {
+                if (a.id().equals(answerId)) return a;
+            }
+            return null;
+        }
+
+        /** Die (erste) korrekte Antwort – für QUESTION_END. */
+        public UUID correctAnswerId() {
+            for (FrozenAnswer a : answers) {
+                if (a.correct()) return a.id();
+            }
+            throw new IllegalStateException("Question without correct answer");
+        }
+    }
+
+    public record FrozenAnswer(UUID id, String text, boolean correct) {}
+
+    public record Participant(UUID participantId, UUID userId, String firstName, String name) {}
+
+    /** Änderung eines Teilnehmers; {@code previousRank - rank > 0} heißt: aufgestiegen. */
+    public record RankChange(int slot, int score, int rank, int previousRank) {}
+}
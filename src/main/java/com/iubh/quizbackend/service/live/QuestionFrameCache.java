@@ -0,0 +1,127 @@
+package com.iubh.quizbackend.service.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iubh.quizbackend.api.dto.live.LiveEvents;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Vorab serialisierte QUESTION_SHOW-Frames pro (Session, Fragenindex).
+ * <p>
+ * Beim Start einer Session werden alle Fragen einmalig zu JSON serialisiert. Da {@code endsAt}
+ * erst beim Anzeigen feststeht, besteht ein Frame aus Kopf und Rumpf um dieses Feld herum;
+ * {@link QuestionFrame#render(byte[])} fügt die drei Teile per {@code arraycopy} zusammen.
+ * Derselbe Frage-JSON-Block wird auch für den Reconnect-Snapshot verwendet.
+ * <p>
+ * Der Cache ist LRU-begrenzt; fehlt ein Eintrag (verdrängt oder nach einem Neustart),
+ * wird er aus dem {@link LiveSessionState} neu aufgebaut.
+ */
+@Component
+public class QuestionFrameCache {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Key, QuestionFrame> frames;
+
+    public QuestionFrameCache(ObjectMapper objectMapper,
+                              @Value("${application.live.frame-cache.max-entries:10000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.frames = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, QuestionFrame> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /** Serialisiert alle Fragen der Session vor. */
+    public void precompute(UUID sessionId, Iterable<LiveSessionState.FrozenQuestion> questions) {
+        int index = 0;
+        for (LiveSessionState.FrozenQuestion q : questions) {
+            QuestionFrame frame = build(sessionId, index, q);
+            synchronized (frames) {
+                frames.put(new Key(sessionId, index), frame);
+            }
+            index++;
+        }
+    }
+
+    /** Frame der Frage; wird bei Bedarf aus dem Session-Zustand neu erzeugt. */
+    public QuestionFrame get(LiveSessionState s, int index) {
+        Key key = new Key(s.getSessionId(), index);
+        synchronized (frames) {
+            QuestionFrame frame = frames.get(key);
+            if (frame != null) return frame;
+        }
+        QuestionFrame frame = build(s.getSessionId(), index, s.question(index));
+        synchronized (frames) {
+            frames.put(key, frame);
+        }
+        return frame;
+    }
+
+    public void evict(UUID sessionId, int questionCount) {
+        synchronized (frames) {
+            for (int index = 0; index < questionCount; index++) {
+                frames.remove(new Key(sessionId, index));
+            }
+        }
+    }
+
+    public byte[] serializeInstant(Instant instant) {
+        return write(instant);
+    }
+
+    private QuestionFrame build(UUID sessionId, int index, LiveSessionState.FrozenQuestion q) {
+        var qPayload = LiveEvents.QuestionShow.QuestionPayload.builder()
+                .id(q.questionId())
+                .text(q.text())
+                .answers(q.answers().stream()
+                        .map(a -> new LiveEvents.QuestionShow.AnswerPayload(a.id(), a.text()))
+                        .toList())
+                .build();
+        byte[] questionJson = write(qPayload);
+
+        // entspricht LiveEvents.QuestionShow, nur mit endsAt als Lücke
+        ByteArrayOutputStream head = new ByteArrayOutputStream(96);
+        head.writeBytes("{\"type\":\"QUESTION_SHOW\",\"sessionId\":".getBytes(StandardCharsets.UTF_8));
+        head.writeBytes(write(sessionId));
+        head.writeBytes((",\"index\":" + index + ",\"endsAt\":").getBytes(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream tail = new ByteArrayOutputStream(questionJson.length + 16);
+        tail.writeBytes(",\"question\":".getBytes(StandardCharsets.UTF_8));
+        tail.writeBytes(questionJson);
+        tail.write('}');
+
+        return new QuestionFrame(head.toByteArray(), tail.toByteArray(), new String(questionJson, StandardCharsets.UTF_8));
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize question frame.", e);
+        }
+    }
+
+    private record Key(UUID sessionId, int index) {}
+
+    /** Vorab serialisierte Frage: {@code head + endsAt + tail}. */
+    public record QuestionFrame(byte[] head, byte[] tail, String questionJson) {
+
+        public byte[] render(byte[] endsAtJson) {
+            byte[] out = new byte[head.length + endsAtJson.length + tail.length];
+            System.arraycopy(head, 0, out, 0, head.length);
+            System.arraycopy(endsAtJson, 0, out, head.length, endsAtJson.length);
+            System.arraycopy(tail, 0, out, head.length + endsAtJson.length, tail.length);
+            return out;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.iubh.quizbackend.config.migration;
+
+import com.iubh.quizbackend.service.QuestionSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionSearchIndexMigrationTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private QuestionSearchService questionSearchService;
+
+    @InjectMocks
+    private QuestionSearchIndexMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(migration, "fullTextEnabled", true);
+    }
+
+    @Test
+    void run_OnPostgres_ShouldCreateIndexAndEnableFullText() {
+        // Given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(questionSearchService.indexMissing()).thenReturn(3);
+
+        // When
+        migration.run();
+
+        // Then
+        verify(jdbcTemplate).execute(startsWith("ALTER TABLE choice_questions"));
+        verify(jdbcTemplate).execute(startsWith("CREATE INDEX IF NOT EXISTS ix_choice_questions_search"));
+        verify(questionSearchService).enableFullText();
+    }
+
+    @Test
+    void run_OnH2_ShouldLeaveSchemaAndSearchAlone() {
+        // Given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        // When
+        migration.run();
+
+        // Then
+        verify(jdbcTemplate, never()).execute(anyString());
+        verifyNoInteractions(questionSearchService);
+    }
+
+    @Test
+    void run_WhenSetupFails_ShouldKeepSubstringSearch() {
+        // Given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        doThrow(new DataAccessResourceFailureException("permission denied")).when(jdbcTemplate).execute(startsWith("CREATE INDEX"));
+
+        // When
+        migration.run();
+
+        // Then
+        verify(questionSearchService, never()).enableFullText();
+    }
+
+    @Test
+    void run_WhenDisabled_ShouldNotTouchDatabase() {
+        // Given
+        ReflectionTestUtils.setField(migration, "fullTextEnabled", false);
+
+        // When
+        migration.run();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate, questionSearchService);
+    }
+}
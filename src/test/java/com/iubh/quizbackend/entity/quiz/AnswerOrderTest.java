@@ -0,0 +1,74 @@
+package com.iubh.quizbackend.entity.quiz;
+
+import com.iubh.quizbackend.entity.question.Answer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnswerOrderTest {
+
+    private final AnswerOrderConverter converter = new AnswerOrderConverter();
+
+    @Test
+    void of_ThroughConverter_ShouldRestoreShuffledOrder() {
+        // Given
+        List<Answer> shuffled = answers(4);
+        AnswerOrder order = AnswerOrder.of(shuffled);
+
+        // When
+        byte[] stored = converter.convertToDatabaseColumn(order);
+        AnswerOrder read = converter.convertToEntityAttribute(stored);
+
+        // Then
+        assertThat(stored).hasSize(4);
+        assertThat(read).isEqualTo(order);
+        assertThat(read.apply(new HashSet<>(shuffled))).containsExactlyElementsOf(shuffled);
+    }
+
+    @Test
+    void converter_ShouldKeepNull() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void ofIds_FromLegacyJsonOrder_ShouldIgnoreUnknownIdsAndAppendMissingAnswers() {
+        // Given
+        List<Answer> answers = answers(3);
+        Answer first = answers.get(2);
+        List<UUID> legacyOrder = List.of(first.getId(), UUID.randomUUID(), first.getId());
+
+        // When
+        AnswerOrder order = AnswerOrder.ofIds(legacyOrder, answers.stream().map(Answer::getId).toList());
+        List<Answer> applied = order.apply(answers);
+
+        // Then
+        assertThat(applied).hasSize(3).doesNotHaveDuplicates();
+        assertThat(applied.getFirst()).isEqualTo(first);
+        assertThat(applied.subList(1, 3)).containsExactlyElementsOf(AnswerOrder.canonical(answers.subList(0, 2)));
+    }
+
+    @Test
+    void apply_WhenAnswersChanged_ShouldFallBackToCanonicalOrder() {
+        // Given
+        List<Answer> shuffled = answers(4);
+        AnswerOrder order = AnswerOrder.of(shuffled);
+        List<Answer> remaining = new ArrayList<>(shuffled.subList(0, 3));
+
+        // When / Then
+        assertThat(order.apply(remaining)).containsExactlyElementsOf(AnswerOrder.canonical(remaining));
+    }
+
+    private static List<Answer> answers(int count) {
+        List<Answer> answers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            answers.add(Answer.builder().id(UUID.randomUUID()).text("Answer " + i).isCorrect(i == 0).build());
+        }
+        return answers;
+    }
+}
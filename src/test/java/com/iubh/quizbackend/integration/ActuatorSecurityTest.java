@@ -0,0 +1,48 @@
+package com.iubh.quizbackend.integration;
+
+import com.iubh.quizbackend.entity.user.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Only the health endpoint is public; metrics need an admin.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void health_ShouldBePublic() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    void prometheus_WithoutAdmin_ShouldBeForbidden() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").with(user("student@test.com").authorities(() -> Role.STUDENT.name())))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void prometheus_AsAdmin_ShouldBeServed() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(user("admin@test.com").authorities(() -> Role.ADMIN.name())))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("quiz_started_total")));
+    }
+}
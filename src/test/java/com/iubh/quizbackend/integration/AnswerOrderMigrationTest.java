@@ -0,0 +1,155 @@
+package com.iubh.quizbackend.integration;
+
+import com.iubh.quizbackend.config.migration.AnswerOrderMigration;
+import com.iubh.quizbackend.entity.module.Module;
+import com.iubh.quizbackend.entity.question.Answer;
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.quiz.*;
+import com.iubh.quizbackend.entity.user.Profile;
+import com.iubh.quizbackend.entity.user.Role;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the legacy answer order conversion on H2 against a mix of legacy, converted and malformed rows.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AnswerOrderMigrationTest {
+
+    @Autowired
+    private AnswerOrderMigration migration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ModuleRepository moduleRepository;
+
+    @Autowired
+    private ChoiceQuestionRepository choiceQuestionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private LiveQuizSessionRepository sessionRepository;
+
+    @Autowired
+    private SessionQuestionRepository sessionQuestionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ChoiceQuestion question;
+    private List<Answer> shuffled;
+
+    @BeforeEach
+    void setUp() {
+        Module module = moduleRepository.save(Module.builder().title("Migration Module").description("Migration test").build());
+        ChoiceQuestion q = ChoiceQuestion.builder().questionText("Question").active(true).module(module).build();
+        q.addAnswer(Answer.builder().text("A").isCorrect(true).build());
+        q.addAnswer(Answer.builder().text("B").isCorrect(false).build());
+        q.addAnswer(Answer.builder().text("C").isCorrect(false).build());
+        question = choiceQuestionRepository.save(q);
+        entityManager.flush();
+        shuffled = AnswerOrder.canonical(question.getAnswers()).reversed();
+    }
+
+    @Test
+    void run_WithMixedRows_ShouldConvertOnlyLegacyValues() {
+        // Given
+        User user = userRepository.save(User.builder()
+                .email("migration@test.com")
+                .password("password")
+                .role(Role.STUDENT)
+                .profile(Profile.builder().firstName("Test").name("Migration").build())
+                .build());
+        Quiz quiz = Quiz.builder().user(user).module(question.getModule()).status(QuizStatus.IN_PROGRESS).build();
+        for (int i = 0; i < 3; i++) {
+            quiz.getQuizItems().add(QuizItem.builder().quiz(quiz).question(question).questionOrder(i).build());
+        }
+        quiz = quizRepository.save(quiz);
+
+        LiveQuizSession session = sessionRepository.save(LiveQuizSession.builder()
+                .lobbyId(UUID.randomUUID())
+                .module(question.getModule())
+                .status(SessionStatus.FINISHED)
+                .totalQuestions(2)
+                .startAt(Instant.now())
+                .build());
+        SessionQuestion legacySessionQuestion = sessionQuestionRepository.save(
+                SessionQuestion.builder().session(session).indexInSession(0).question(question).build());
+        SessionQuestion convertedSessionQuestion = sessionQuestionRepository.save(
+                SessionQuestion.builder().session(session).indexInSession(1).question(question)
+                        .answerOrder(AnswerOrder.of(AnswerOrder.canonical(question.getAnswers())))
+                        .build());
+        entityManager.flush();
+
+        List<UUID> itemIds = quiz.getQuizItems().stream().sorted((a, b) -> a.getQuestionOrder() - b.getQuestionOrder())
+                .map(QuizItem::getId).toList();
+        setLegacy("quiz_items", "shuffled_answer_order", itemIds.get(0), legacyJson());
+        setLegacy("quiz_items", "shuffled_answer_order", itemIds.get(1), "not json");
+        setLegacy("session_questions", "answer_order_json", legacySessionQuestion.getId(), legacyJson());
+        entityManager.clear();
+
+        // When
+        migration.run(null);
+
+        // Then
+        byte[] expected = AnswerOrder.of(shuffled).toBytes();
+        assertConverted("quiz_items", "shuffled_answer_order", itemIds.get(0), expected);
+        assertConverted("quiz_items", "shuffled_answer_order", itemIds.get(1),
+                AnswerOrder.of(AnswerOrder.canonical(question.getAnswers())).toBytes());
+        assertConverted("session_questions", "answer_order_json", legacySessionQuestion.getId(), expected);
+        assertThat(row("quiz_items", itemIds.get(2)).get("answer_order")).isNull();
+        assertThat((byte[]) row("session_questions", convertedSessionQuestion.getId()).get("answer_order"))
+                .isEqualTo(AnswerOrder.of(AnswerOrder.canonical(question.getAnswers())).toBytes());
+
+        // Loaded through the entity the converted order is the legacy one
+        List<Answer> applied = sessionQuestionRepository.findById(legacySessionQuestion.getId()).orElseThrow()
+                .getAnswerOrder().apply(question.getAnswers());
+        assertThat(applied).extracting(Answer::getId).containsExactlyElementsOf(shuffled.stream().map(Answer::getId).toList());
+    }
+
+    private String legacyJson() {
+        return shuffled.stream().map(a -> "\"" + a.getId() + "\"").toList().toString().replace(" ", "");
+    }
+
+    private void setLegacy(String table, String column, UUID id, String json) {
+        jdbcTemplate.update("update " + table + " set answer_order = null, " + column + " = ? where id = ?", json, id);
+    }
+
+    private void assertConverted(String table, String legacyColumn, UUID id, byte[] expected) {
+        Map<String, Object> row = row(table, id);
+        assertThat((byte[]) row.get("answer_order")).isEqualTo(expected);
+        assertThat(row.get(legacyColumn)).isNull();
+    }
+
+    private Map<String, Object> row(String table, UUID id) {
+        Map<String, Object> row = jdbcTemplate.queryForMap("select * from " + table + " where id = ?", id);
+        Map<String, Object> lowerCase = new HashMap<>();
+        row.forEach((key, value) -> lowerCase.put(key.toLowerCase(), value));
+        return lowerCase;
+    }
+}
@@ -0,0 +1,182 @@
+package com.iubh.quizbackend.integration;
+
+import com.iubh.quizbackend.api.dto.ChoiceQuestionDto;
+import com.iubh.quizbackend.api.dto.changeRequest.QuestionChangeRequestDto;
+import com.iubh.quizbackend.entity.change.*;
+import com.iubh.quizbackend.entity.module.Module;
+import com.iubh.quizbackend.entity.question.Answer;
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.user.Profile;
+import com.iubh.quizbackend.entity.user.Role;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
+import com.iubh.quizbackend.repository.ModuleRepository;
+import com.iubh.quizbackend.repository.QuestionChangeRequestRepository;
+import com.iubh.quizbackend.repository.UserRepository;
+import com.iubh.quizbackend.service.QuestionChangeService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that loading a page of the change request feed issues the same number of SQL statements
+ * regardless of the page size (no N+1 over votes, questions, answers or duplicate targets).
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class ChangeRequestFeedQueryCountTest {
+
+    private static final int REQUESTS = 24;
+    // The first four requests in this order cover all four request types
+    private static final Sort BY_JUSTIFICATION = Sort.by("justification");
+
+    @Autowired
+    private QuestionChangeService questionChangeService;
+
+    @Autowired
+    private QuestionChangeRequestRepository changeRequestRepository;
+
+    @Autowired
+    private ChoiceQuestionRepository choiceQuestionRepository;
+
+    @Autowired
+    private ModuleRepository moduleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Module module;
+    private User viewer;
+
+    @BeforeEach
+    void setUp() {
+        module = moduleRepository.save(Module.builder().title("Feed Module").description("Feed test").build());
+        viewer = userRepository.save(user("viewer@feed.com"));
+        List<User> voters = List.of(user("voter1@feed.com"), user("voter2@feed.com"), user("voter3@feed.com"));
+        voters = userRepository.saveAll(voters);
+
+        List<ChoiceQuestion> questions = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            ChoiceQuestion question = ChoiceQuestion.builder().questionText("Question " + i).active(true).module(module).build();
+            question.addAnswer(Answer.builder().text("Right " + i).isCorrect(true).build());
+            question.addAnswer(Answer.builder().text("Wrong " + i).isCorrect(false).build());
+            questions.add(choiceQuestionRepository.save(question));
+        }
+
+        for (int i = 0; i < REQUESTS; i++) {
+            ChoiceQuestion question = questions.get(i);
+            QuestionChangeRequest request = switch (i % 4) {
+                case 0 -> {
+                    IncorrectQuestionTextRequest r = new IncorrectQuestionTextRequest();
+                    r.setProposedText("Better question " + i);
+                    yield r;
+                }
+                case 1 -> {
+                    IncorrectAnswerRequest r = new IncorrectAnswerRequest();
+                    r.addProposedAnswer(ProposedAnswer.builder().text("Proposed " + i).isCorrect(true).build());
+                    yield r;
+                }
+                case 2 -> {
+                    DuplicateQuestionRequest r = new DuplicateQuestionRequest();
+                    r.setDuplicateOfQuestionId(questions.get((i + 1) % REQUESTS).getId());
+                    yield r;
+                }
+                default -> new SuggestDeletionRequest();
+            };
+            request.setQuestion(question);
+            request.setRequester(voters.get(i % voters.size()));
+            request.setJustification("Justification " + i);
+            request.setStatus(ChangeRequestStatus.PENDING);
+            for (User voter : voters.subList(0, 1 + i % voters.size())) {
+                ChangeRequestVote vote = new ChangeRequestVote();
+                vote.setVoter(voter);
+                vote.setVoteType(i % 2 == 0 ? VoteType.APPROVE : VoteType.REJECT);
+                request.addVote(vote);
+            }
+            changeRequestRepository.save(request);
+        }
+        entityManager.flush();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(viewer, null, viewer.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void moduleFeed_ShouldUseConstantNumberOfStatementsForAnyPageSize() {
+        long smallPage = statementsForPage(4);
+        long largePage = statementsForPage(REQUESTS);
+
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void moduleFeed_ShouldTallyVotesAndResolveDuplicates() {
+        entityManager.clear();
+        Page<QuestionChangeRequestDto> page = questionChangeService.getChangeRequestsByModule(module.getId(), PageRequest.of(0, REQUESTS, BY_JUSTIFICATION));
+
+        assertThat(page.getContent()).hasSize(REQUESTS);
+        assertThat(page.getContent()).allSatisfy(dto -> {
+            assertThat(dto.getPositiveVotes() + dto.getNegativeVotes()).isBetween(1L, 3L);
+            assertThat(dto.isCurrentUserHasVoted()).isFalse();
+            assertThat(dto.getQuestion().getAnswers()).hasSize(2);
+            assertThat(dto.getQuestion().getChangeRequestCounts()).isNotNull();
+        });
+        assertThat(page.getContent())
+                .filteredOn(dto -> dto instanceof QuestionChangeRequestDto.DuplicateQuestionRequestDto)
+                .allSatisfy(dto -> {
+                    ChoiceQuestionDto duplicateOf = ((QuestionChangeRequestDto.DuplicateQuestionRequestDto) dto).getDuplicateOfQuestion();
+                    assertThat(duplicateOf).isNotNull();
+                    assertThat(duplicateOf.getChangeRequestCounts()).isNotNull();
+                });
+    }
+
+    private long statementsForPage(int size) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<QuestionChangeRequestDto> page = questionChangeService.getChangeRequestsByModule(module.getId(), PageRequest.of(0, size, BY_JUSTIFICATION));
+
+        assertThat(page.getContent()).hasSize(size);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("password123")
+                .role(Role.STUDENT)
+                .profile(Profile.builder().firstName("Feed").name(email).build())
+                .build();
+    }
+}
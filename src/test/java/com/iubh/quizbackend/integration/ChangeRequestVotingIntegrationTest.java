@@ -0,0 +1,144 @@
+package com.iubh.quizbackend.integration;
+
+import com.iubh.quizbackend.api.dto.changeRequest.VoteDto;
+import com.iubh.quizbackend.entity.change.*;
+import com.iubh.quizbackend.entity.module.Module;
+import com.iubh.quizbackend.entity.question.Answer;
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.user.Profile;
+import com.iubh.quizbackend.entity.user.Role;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
+import com.iubh.quizbackend.repository.ModuleRepository;
+import com.iubh.quizbackend.repository.QuestionChangeRequestRepository;
+import com.iubh.quizbackend.repository.UserRepository;
+import com.iubh.quizbackend.service.QuestionChangeService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the vote counter updates and the conditional approve/reject updates against the database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ChangeRequestVotingIntegrationTest {
+
+    @Autowired
+    private QuestionChangeService questionChangeService;
+
+    @Autowired
+    private QuestionChangeRequestRepository changeRequestRepository;
+
+    @Autowired
+    private ChoiceQuestionRepository choiceQuestionRepository;
+
+    @Autowired
+    private ModuleRepository moduleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ChoiceQuestion question;
+    private QuestionChangeRequest changeRequest;
+    private List<User> voters;
+
+    @BeforeEach
+    void setUp() {
+        Module module = moduleRepository.save(Module.builder().title("Voting Module").description("Voting test").build());
+        ChoiceQuestion q = ChoiceQuestion.builder().questionText("Question to delete").active(true).module(module).build();
+        q.addAnswer(Answer.builder().text("Right").isCorrect(true).build());
+        q.addAnswer(Answer.builder().text("Wrong").isCorrect(false).build());
+        question = choiceQuestionRepository.save(q);
+
+        User requester = userRepository.save(user("requester@vote.com"));
+        voters = userRepository.saveAll(List.of(user("voter1@vote.com"), user("voter2@vote.com"), user("voter3@vote.com")));
+
+        SuggestDeletionRequest request = new SuggestDeletionRequest();
+        request.setQuestion(question);
+        request.setRequester(requester);
+        request.setJustification("Outdated");
+        request.setStatus(ChangeRequestStatus.PENDING);
+        changeRequest = changeRequestRepository.save(request);
+        entityManager.flush();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void voteForChangeRequest_ReachingApproveThreshold_ShouldApproveAndDeactivateQuestion() {
+        vote(voters.get(0), VoteType.APPROVE);
+        vote(voters.get(1), VoteType.APPROVE);
+        assertThat(reload().getStatus()).isEqualTo(ChangeRequestStatus.PENDING);
+
+        vote(voters.get(2), VoteType.APPROVE);
+
+        QuestionChangeRequest resolved = reload();
+        assertThat(resolved.getApproveCount()).isEqualTo(3);
+        assertThat(resolved.getRejectCount()).isZero();
+        assertThat(resolved.getStatus()).isEqualTo(ChangeRequestStatus.APPROVED);
+        assertThat(resolved.getResolvedAt()).isNotNull();
+        assertThat(choiceQuestionRepository.findById(question.getId()).orElseThrow().getActive()).isFalse();
+    }
+
+    @Test
+    void voteForChangeRequest_ReachingRejectThreshold_ShouldReject() {
+        vote(voters.get(0), VoteType.REJECT);
+        vote(voters.get(1), VoteType.APPROVE);
+        vote(voters.get(2), VoteType.REJECT);
+
+        QuestionChangeRequest pending = reload();
+        assertThat(pending.getApproveCount()).isEqualTo(1);
+        assertThat(pending.getRejectCount()).isEqualTo(2);
+        assertThat(pending.getStatus()).isEqualTo(ChangeRequestStatus.PENDING);
+
+        assertThat(changeRequestRepository.addVote(changeRequest.getId(), 0, 1)).isEqualTo(1);
+        assertThat(changeRequestRepository.rejectIfThresholdReached(changeRequest.getId(), 3, LocalDateTime.now())).isEqualTo(1);
+        // Only the first caller resolves the request
+        assertThat(changeRequestRepository.rejectIfThresholdReached(changeRequest.getId(), 3, LocalDateTime.now())).isZero();
+        assertThat(changeRequestRepository.approveIfThresholdReached(changeRequest.getId(), 1, LocalDateTime.now())).isZero();
+        assertThat(reload().getStatus()).isEqualTo(ChangeRequestStatus.REJECTED);
+    }
+
+    private void vote(User voter, VoteType voteType) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(voter, null, voter.getAuthorities()));
+        VoteDto dto = new VoteDto();
+        dto.setVoteType(voteType);
+        questionChangeService.voteForChangeRequest(changeRequest.getId(), dto);
+        entityManager.flush();
+    }
+
+    private QuestionChangeRequest reload() {
+        entityManager.clear();
+        return changeRequestRepository.findById(changeRequest.getId()).orElseThrow();
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("password")
+                .role(Role.STUDENT)
+                .profile(Profile.builder().firstName("Test").name(email).build())
+                .build();
+    }
+}
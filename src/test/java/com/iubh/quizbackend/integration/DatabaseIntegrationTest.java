@@ -3,20 +3,27 @@ package com.iubh.quizbackend.integration;
 import com.iubh.quizbackend.entity.module.Module;
 import com.iubh.quizbackend.entity.question.Answer;
 import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.question.QuestionMastery;
 import com.iubh.quizbackend.entity.user.Role;
 import com.iubh.quizbackend.entity.user.User;
 import com.iubh.quizbackend.entity.user.Profile;
 import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
 import com.iubh.quizbackend.repository.ModuleRepository;
+import com.iubh.quizbackend.repository.QuestionMasteryRepository;
 import com.iubh.quizbackend.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -34,6 +41,9 @@ class DatabaseIntegrationTest {
     @Autowired
     private ChoiceQuestionRepository questionRepository;
 
+    @Autowired
+    private QuestionMasteryRepository masteryRepository;
+
     @Test
     void database_ShouldSupportBasicOperations() {
         // Database should be empty initially but functional
@@ -204,4 +214,51 @@ class DatabaseIntegrationTest {
         assertThat(secondPage.getContent()).hasSize(2);
         assertThat(secondPage.getTotalElements()).isEqualTo(5);
     }
-}
\ No newline at end of file
+
+    @Test
+    void masteryRepository_ShouldReturnDueActiveQuestionsWeakestFirst() {
+        Module module = moduleRepository.save(Module.builder()
+                .title("Mastery Module")
+                .description("Module for mastery testing")
+                .build());
+        ChoiceQuestion weak = question(module, "Weak", true);
+        ChoiceQuestion strong = question(module, "Strong", true);
+        ChoiceQuestion deactivated = question(module, "Deactivated", false);
+        ChoiceQuestion upcoming = question(module, "Upcoming", true);
+
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.now();
+        masteryRepository.saveAll(List.of(
+                mastery(userId, strong, module, 3, now.minus(Duration.ofDays(2))),
+                mastery(userId, weak, module, 0, now.minus(Duration.ofHours(1))),
+                mastery(userId, deactivated, module, 0, now.minus(Duration.ofDays(5))),
+                mastery(userId, upcoming, module, 2, now.plus(Duration.ofDays(1)))));
+
+        assertThat(masteryRepository.findDueQuestionIds(userId, module.getId(), now, PageRequest.of(0, 10)))
+                .containsExactly(weak.getId(), strong.getId());
+        assertThat(masteryRepository.findDueQuestionIds(userId, module.getId(), now, PageRequest.of(0, 1)))
+                .containsExactly(weak.getId());
+        assertThat(masteryRepository.findUpcomingQuestionIds(userId, module.getId(), now, PageRequest.of(0, 10)))
+                .containsExactly(upcoming.getId());
+        assertThat(masteryRepository.findAnsweredQuestionIds(userId, List.of(weak.getId(), UUID.randomUUID())))
+                .containsExactly(weak.getId());
+    }
+
+    private ChoiceQuestion question(Module module, String text, boolean active) {
+        return questionRepository.save(ChoiceQuestion.builder()
+                .questionText(text)
+                .module(module)
+                .active(active)
+                .build());
+    }
+
+    private static QuestionMastery mastery(UUID userId, ChoiceQuestion question, Module module, int box, Instant dueAt) {
+        return QuestionMastery.builder()
+                .userId(userId)
+                .questionId(question.getId())
+                .moduleId(module.getId())
+                .box((short) box)
+                .dueAt(dueAt)
+                .build();
+    }
+}
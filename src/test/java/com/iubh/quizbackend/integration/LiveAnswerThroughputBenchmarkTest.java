@@ -0,0 +1,160 @@
+package com.iubh.quizbackend.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iubh.quizbackend.QuizBackendApplication;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.service.JwtService;
+import com.iubh.quizbackend.service.LiveQuizService;
+import com.iubh.quizbackend.support.LiveQuizFixture;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput and latency of {@code POST /api/v1/sessions/{id}/answers} with platform threads and with
+ * {@code spring.threads.virtual.enabled=true}.
+ * <p>
+ * Each mode starts the application on a random port, runs one live session and lets every player post
+ * answers in a closed loop for a fixed time. Repeated answers are idempotent, and one silent player keeps
+ * the question from advancing early, so all requests take the full path through the session mailbox.
+ * <p>
+ * Not part of the normal test run: {@code mvn test -Pbenchmark}
+ */
+@Tag("benchmark")
+class LiveAnswerThroughputBenchmarkTest {
+
+    private static final int PLAYERS = 400;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void comparePlatformWithVirtualThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.println("=== Live answer benchmark (" + PLAYERS + " players, " + MEASUREMENT.toSeconds() + "s) ===");
+        System.out.println(platform);
+        System.out.println(virtual);
+
+        assertThat(platform.failed).isZero();
+        assertThat(virtual.failed).isZero();
+        assertThat(platform.latenciesNanos).isNotEmpty();
+        assertThat(virtual.latenciesNanos).isNotEmpty();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QuizBackendApplication.class)
+                .profiles("test")
+                .properties("server.port=0", "spring.threads.virtual.enabled=" + virtualThreads)
+                .run()) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            // The last player never answers, so the question stays open
+            LiveQuizFixture.Lobby lobby = LiveQuizFixture.seed(context, "bench", 10, 1, PLAYERS + 1).getFirst();
+            List<User> players = lobby.players().subList(0, PLAYERS);
+            User silent = lobby.players().get(PLAYERS);
+
+            LiveQuizService liveQuizService = context.getBean(LiveQuizService.class);
+            UUID sessionId = liveQuizService.startSession(lobby.host(), lobby.id()).getId();
+            UUID answerId = awaitFirstQuestion(liveQuizService, sessionId, silent);
+
+            URI uri = URI.create("http://localhost:" + port + "/api/v1/sessions/" + sessionId + "/answers");
+            String body = "{\"questionIndex\":0,\"answerId\":\"" + answerId + "\"}";
+            JwtService jwtService = context.getBean(JwtService.class);
+            List<String> tokens = players.stream().map(jwtService::generateToken).toList();
+
+            load(uri, body, tokens, WARMUP);
+            return new Result(virtualThreads ? "virtual threads" : "platform threads", load(uri, body, tokens, MEASUREMENT));
+        }
+    }
+
+    /** Every player posts answers back to back until the duration is over. */
+    private List<Sample> load(URI uri, String body, List<String> tokens, Duration duration) throws Exception {
+        long end = System.nanoTime() + duration.toNanos();
+        try (ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<Sample>>> futures = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                        .header("Authorization", "Bearer " + token)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+                futures.add(players.submit(() -> {
+                    List<Sample> samples = new ArrayList<>();
+                    while (System.nanoTime() < end) {
+                        long start = System.nanoTime();
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        samples.add(new Sample(System.nanoTime() - start, status));
+                    }
+                    return samples;
+                }));
+            }
+            List<Sample> all = new ArrayList<>();
+            for (Future<List<Sample>> future : futures) {
+                all.addAll(future.get());
+            }
+            return all;
+        }
+    }
+
+    /** Waits for the countdown and returns an answer of the first question. */
+    private UUID awaitFirstQuestion(LiveQuizService liveQuizService, UUID sessionId, User silent) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (System.nanoTime() < deadline) {
+            Map<String, Object> state = liveQuizService.getSessionState(sessionId, silent);
+            if ("RUNNING".equals(state.get("status")) && state.get("question") != null) {
+                JsonNode answers = objectMapper.readTree((String) state.get("question")).findPath("answers");
+                return UUID.fromString(answers.get(0).get("id").asText());
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("Live session did not show its first question.");
+    }
+
+    private record Sample(long nanos, int status) {}
+
+    private static final class Result {
+        private final String name;
+        private final long[] latenciesNanos;
+        private final long failed;
+
+        private Result(String name, List<Sample> samples) {
+            this.name = name;
+            this.latenciesNanos = samples.stream().mapToLong(Sample::nanos).sorted().toArray();
+            this.failed = samples.stream().filter(s -> s.status() != 204).count();
+        }
+
+        private double percentileMillis(double p) {
+            int index = Math.min(latenciesNanos.length - 1, (int) Math.ceil(p * latenciesNanos.length) - 1);
+            return latenciesNanos[Math.max(0, index)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%-17s %,d requests (%,.0f req/s) | failed: %,d | p50=%.1fms p99=%.1fms max=%.1fms",
+                    name, latenciesNanos.length, latenciesNanos.length / (double) MEASUREMENT.toSeconds(), failed,
+                    percentileMillis(0.50), percentileMillis(0.99), percentileMillis(1.0));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.iubh.quizbackend.integration;
+
+import com.iubh.quizbackend.entity.quiz.LiveSessionLease;
+import com.iubh.quizbackend.repository.LiveSessionLeaseRepository;
+import com.iubh.quizbackend.service.live.LiveSessionOwnership;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Two nodes competing for live sessions through the lease table: a session is owned by exactly one
+ * node until its lease expires, then the other node can take it over and the previous owner is fenced off.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LiveSessionLeaseIntegrationTest {
+
+    @Autowired
+    private LiveSessionLeaseRepository leaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private LiveSessionOwnership nodeA;
+    private LiveSessionOwnership nodeB;
+    private UUID sessionId;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = node("node-a");
+        nodeB = node("node-b");
+        sessionId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaseRepository.deleteAll();
+    }
+
+    @Test
+    void claim_WhenLeaseHeldByOtherNode_ShouldFailAndPointToOwner() {
+        // When
+        boolean claimedByA = nodeA.claim(sessionId);
+        boolean claimedByB = nodeB.claim(sessionId);
+
+        // Then
+        assertThat(claimedByA).isTrue();
+        assertThat(claimedByB).isFalse();
+        assertThat(nodeA.isOwner(sessionId)).isTrue();
+        assertThat(nodeB.isOwner(sessionId)).isFalse();
+        assertThat(nodeB.ownerUrl(sessionId)).contains("http://node-a");
+        assertThat(nodeA.ownerUrl(sessionId)).isEmpty();
+    }
+
+    @Test
+    void claim_WhenLeaseExpired_ShouldTakeOverAndPreviousOwnerLosesItOnRenewal() {
+        // Given
+        nodeA.claim(sessionId);
+        expire(sessionId);
+
+        // When
+        boolean claimedByB = nodeB.claim(sessionId);
+
+        // Then
+        assertThat(claimedByB).isTrue();
+        assertThat(nodeA.renewAll()).containsExactly(sessionId);
+        assertThat(nodeA.isOwner(sessionId)).isFalse();
+        assertThat(nodeB.renewAll()).isEmpty();
+    }
+
+    @Test
+    void release_ShouldLetOtherNodeClaimImmediately() {
+        // Given
+        nodeA.claim(sessionId);
+
+        // When
+        nodeA.release(sessionId);
+
+        // Then
+        assertThat(nodeB.claim(sessionId)).isTrue();
+    }
+
+    @Test
+    void fence_AfterTakeOver_ShouldRejectWritesOfPreviousOwner() {
+        // Given
+        nodeA.claim(sessionId);
+        expire(sessionId);
+        nodeB.claim(sessionId);
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+
+        // When / Then
+        assertThatThrownBy(() -> tx.executeWithoutResult(status -> nodeA.fence(sessionId)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(nodeA.isOwner(sessionId)).isFalse();
+        tx.executeWithoutResult(status -> nodeB.fence(sessionId));
+        assertThat(nodeB.isOwner(sessionId)).isTrue();
+    }
+
+    @Test
+    void isOwner_WhenLeaseRunsOutWithoutRenewal_ShouldStopOwningLocally() throws InterruptedException {
+        // Given
+        LiveSessionOwnership shortLease = node("node-c", 200);
+        shortLease.claim(sessionId);
+        assertThat(shortLease.isOwner(sessionId)).isTrue();
+
+        // When
+        Thread.sleep(300);
+
+        // Then
+        assertThat(shortLease.isOwner(sessionId)).isFalse();
+        assertThat(shortLease.renewAll()).containsExactly(sessionId);
+        assertThat(nodeB.claim(sessionId)).isTrue();
+    }
+
+    private LiveSessionOwnership node(String nodeId) {
+        return node(nodeId, 15000);
+    }
+
+    private LiveSessionOwnership node(String nodeId, long leaseMs) {
+        return new LiveSessionOwnership(leaseRepository, txManager, true, nodeId, "http://" + nodeId, leaseMs);
+    }
+
+    private void expire(UUID sessionId) {
+        LiveSessionLease lease = leaseRepository.findById(sessionId).orElseThrow();
+        lease.setExpiresAt(Instant.now().minusSeconds(1));
+        leaseRepository.save(lease);
+    }
+}
@@ -0,0 +1,99 @@
+package com.iubh.quizbackend.integration;
+
+import com.iubh.quizbackend.entity.module.Module;
+import com.iubh.quizbackend.entity.question.Answer;
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.question.QuestionMastery;
+import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
+import com.iubh.quizbackend.repository.ModuleRepository;
+import com.iubh.quizbackend.repository.QuestionMasteryRepository;
+import com.iubh.quizbackend.service.QuestionMasteryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent first answers of one user to the same question on H2: every answer ends up in the
+ * single mastery row, none is lost to the unique key or to a concurrent update.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QuestionMasteryIntegrationTest {
+
+    private static final int ANSWERS = 6;
+
+    @Autowired
+    private QuestionMasteryService masteryService;
+
+    @Autowired
+    private QuestionMasteryRepository masteryRepository;
+
+    @Autowired
+    private ChoiceQuestionRepository choiceQuestionRepository;
+
+    @Autowired
+    private ModuleRepository moduleRepository;
+
+    private Module module;
+    private ChoiceQuestion question;
+
+    @BeforeEach
+    void setUp() {
+        module = moduleRepository.save(Module.builder().title("Mastery Module").description("Mastery test").build());
+        ChoiceQuestion q = ChoiceQuestion.builder().questionText("Question").active(true).module(module).build();
+        q.addAnswer(Answer.builder().text("A").isCorrect(true).build());
+        question = choiceQuestionRepository.save(q);
+    }
+
+    @AfterEach
+    void tearDown() {
+        masteryRepository.deleteAll();
+        choiceQuestionRepository.delete(question);
+        moduleRepository.delete(module);
+    }
+
+    @Test
+    void recordAll_WithConcurrentAnswersOfSameUser_ShouldCountEveryAnswer() throws Exception {
+        // Given
+        UUID userId = UUID.randomUUID();
+        ExecutorService executor = Executors.newFixedThreadPool(ANSWERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < ANSWERS; i++) {
+                boolean correct = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    masteryService.record(new QuestionMasteryService.AnswerEvent(userId, question.getId(), correct, Instant.now()));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        List<QuestionMastery> rows = masteryRepository.findAll();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.getFirst().getModuleId()).isEqualTo(module.getId());
+        assertThat(rows.getFirst().getCorrectCount()).isEqualTo(ANSWERS / 2);
+        assertThat(rows.getFirst().getIncorrectCount()).isEqualTo(ANSWERS / 2);
+    }
+}
@@ -2,6 +2,7 @@ package com.iubh.quizbackend.integration;
 
 import com.iubh.quizbackend.api.dto.AnswerRequestDto;
 import com.iubh.quizbackend.api.dto.CreateQuestionRequestDto;
+import com.iubh.quizbackend.api.dto.question.QuestionSummaryDto;
 import com.iubh.quizbackend.entity.module.Module;
 import com.iubh.quizbackend.entity.question.ChoiceQuestion;
 import com.iubh.quizbackend.entity.user.Role;
@@ -10,6 +11,7 @@ import com.iubh.quizbackend.entity.user.Profile;
 import com.iubh.quizbackend.repository.ModuleRepository;
 import com.iubh.quizbackend.repository.UserRepository;
 import com.iubh.quizbackend.service.ModuleService;
+import com.iubh.quizbackend.service.QuestionSearchService;
 import com.iubh.quizbackend.service.QuestionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +37,9 @@ class ServiceIntegrationTest {
     @Autowired
     private ModuleService moduleService;
 
+    @Autowired
+    private QuestionSearchService questionSearchService;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -158,6 +163,25 @@ class ServiceIntegrationTest {
         });
     }
 
+    @Test
+    void questionService_OnH2_ShouldFallBackToSubstringSearch() {
+        // Given
+        for (String text : List.of("Welche Hauptstadt hat Frankreich?", "Was ist Java?")) {
+            questionService.createQuestion(testModule1.getId(), CreateQuestionRequestDto.builder()
+                    .questionText(text)
+                    .answers(List.of(createAnswerRequest("Yes", true), createAnswerRequest("No", false)))
+                    .build());
+        }
+
+        // When: a match inside a word is only found by the substring query
+        var questionsPage = questionService.searchQuestions(testModule1.getId(), "PTSTAD", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(questionSearchService.isFullTextAvailable()).isFalse();
+        assertThat(questionsPage.getContent()).extracting(QuestionSummaryDto::getQuestionText)
+                .containsExactly("Welche Hauptstadt hat Frankreich?");
+    }
+
     @Test
     void moduleService_ShouldHandleUserFollowingWorkflow() {
         // Use pre-created test data
@@ -0,0 +1,219 @@
+package com.iubh.quizbackend.integration;
+
+import com.iubh.quizbackend.config.migration.StatisticsRollupBackfill;
+import com.iubh.quizbackend.entity.module.Module;
+import com.iubh.quizbackend.entity.question.Answer;
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.quiz.*;
+import com.iubh.quizbackend.entity.user.Profile;
+import com.iubh.quizbackend.entity.user.Role;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the daily statistics backfill on H2 against completed quizzes, an existing rollup row and
+ * a second node that has claimed the backfill first.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StatisticsRollupBackfillTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 3, 3, 10, 0);
+    private static final LocalDateTime TUESDAY = MONDAY.plusDays(1);
+
+    @Autowired
+    private StatisticsRollupBackfill backfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ModuleRepository moduleRepository;
+
+    @Autowired
+    private ChoiceQuestionRepository choiceQuestionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private UserModuleDailyStatsRepository dailyStatsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private User user;
+    private Module module;
+    private ChoiceQuestion question;
+
+    @BeforeEach
+    void setUp() {
+        // The marker written at startup would make the backfill skip
+        jdbcTemplate.update("delete from applied_migrations");
+
+        module = moduleRepository.save(Module.builder().title("Backfill Module").description("Backfill test").build());
+        ChoiceQuestion q = ChoiceQuestion.builder().questionText("Question").active(true).module(module).build();
+        q.addAnswer(Answer.builder().text("A").isCorrect(true).build());
+        question = choiceQuestionRepository.save(q);
+        user = userRepository.save(User.builder()
+                .email("backfill@test.com")
+                .password("password")
+                .role(Role.STUDENT)
+                .profile(Profile.builder().firstName("Test").name("Backfill").build())
+                .build());
+    }
+
+    @Test
+    void backfill_ShouldAggregateCompletedQuizzesPerDay() {
+        // Given
+        completedQuiz(MONDAY, true, true, false, false);
+        completedQuiz(MONDAY.plusHours(2), true, true, true, true);
+        completedQuiz(TUESDAY, false, false, false, true);
+        Quiz running = quiz(true, true);
+        running.setStatus(QuizStatus.IN_PROGRESS);
+        quizRepository.save(running);
+        entityManager.flush();
+
+        // When
+        backfill.afterSingletonsInstantiated();
+
+        // Then
+        Map<LocalDate, UserModuleDailyStats> rows = rows();
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(MONDAY.toLocalDate()).getQuizzes()).isEqualTo(2);
+        assertThat(rows.get(MONDAY.toLocalDate()).getCorrectCount()).isEqualTo(6);
+        assertThat(rows.get(MONDAY.toLocalDate()).getAnsweredCount()).isEqualTo(8);
+        assertThat(rows.get(MONDAY.toLocalDate()).getScoreSum()).isEqualTo(150.0);
+        assertThat(rows.get(TUESDAY.toLocalDate()).getQuizzes()).isEqualTo(1);
+        assertThat(rows.get(TUESDAY.toLocalDate()).getScoreSum()).isEqualTo(25.0);
+    }
+
+    @Test
+    void backfill_WithExistingRollupRow_ShouldMergeInsteadOfInsert() {
+        // Given
+        completedQuiz(MONDAY, true, false);
+        dailyStatsRepository.save(UserModuleDailyStats.builder()
+                .userId(user.getId()).moduleId(module.getId()).day(MONDAY.toLocalDate())
+                .quizzes(1).correctCount(2).answeredCount(2).scoreSum(100.0)
+                .build());
+        entityManager.flush();
+
+        // When
+        backfill.afterSingletonsInstantiated();
+
+        // Then
+        UserModuleDailyStats monday = rows().get(MONDAY.toLocalDate());
+        assertThat(monday.getQuizzes()).isEqualTo(2);
+        assertThat(monday.getCorrectCount()).isEqualTo(3);
+        assertThat(monday.getAnsweredCount()).isEqualTo(4);
+        assertThat(monday.getScoreSum()).isEqualTo(150.0);
+    }
+
+    @Test
+    void backfill_WhenAlreadyApplied_ShouldNotCountQuizzesTwice() {
+        // Given
+        completedQuiz(MONDAY, true, false);
+        entityManager.flush();
+        backfill.afterSingletonsInstantiated();
+
+        // When
+        backfill.afterSingletonsInstantiated();
+
+        // Then
+        assertThat(rows().get(MONDAY.toLocalDate()).getQuizzes()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from applied_migrations", Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void backfill_WhileOtherNodeHoldsTheMarker_ShouldWaitAndSkip() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Given: another node has claimed the backfill and is still running it
+            completedQuiz(MONDAY, true, false);
+            CountDownLatch claimed = new CountDownLatch(1);
+            CountDownLatch finish = new CountDownLatch(1);
+            Future<?> otherNode = executor.submit(() -> new TransactionTemplate(txManager).executeWithoutResult(status -> {
+                jdbcTemplate.update("insert into applied_migrations (name, applied_at) values ('statistics-rollup-backfill', ?)",
+                        LocalDateTime.now());
+                claimed.countDown();
+                await(finish);
+            }));
+            assertThat(claimed.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            Future<?> thisNode = executor.submit(backfill::afterSingletonsInstantiated);
+            Thread.sleep(200);
+            assertThat(thisNode.isDone()).isFalse();
+            finish.countDown();
+            otherNode.get(5, TimeUnit.SECONDS);
+            thisNode.get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(dailyStatsRepository.count()).isZero();
+        } finally {
+            executor.shutdownNow();
+            quizRepository.deleteAll();
+            choiceQuestionRepository.delete(question);
+            moduleRepository.delete(module);
+            userRepository.delete(user);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void completedQuiz(LocalDateTime completedAt, Boolean... correct) {
+        Quiz quiz = quiz(correct);
+        quiz.setStatus(QuizStatus.COMPLETED);
+        quiz.setCompletedAt(completedAt);
+        quizRepository.save(quiz);
+    }
+
+    private Quiz quiz(Boolean... correct) {
+        Quiz quiz = Quiz.builder().user(user).module(module).status(QuizStatus.IN_PROGRESS).build();
+        for (int i = 0; i < correct.length; i++) {
+            quiz.getQuizItems().add(QuizItem.builder().quiz(quiz).question(question).questionOrder(i).isCorrect(correct[i]).build());
+        }
+        return quiz;
+    }
+
+    private Map<LocalDate, UserModuleDailyStats> rows() {
+        entityManager.clear();
+        List<UserModuleDailyStats> rows = dailyStatsRepository.findAll();
+        return rows.stream().collect(Collectors.toMap(UserModuleDailyStats::getDay, Function.identity()));
+    }
+}
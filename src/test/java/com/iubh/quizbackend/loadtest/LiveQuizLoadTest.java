@@ -0,0 +1,129 @@
+package com.iubh.quizbackend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iubh.quizbackend.QuizBackendApplication;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.service.JwtService;
+import com.iubh.quizbackend.service.LiveQuizService;
+import com.iubh.quizbackend.support.LiveQuizFixture;
+import com.iubh.quizbackend.support.LiveQuizFixture.Lobby;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load simulation of live quizzes: N lobbies with M players each, every player a real STOMP client on
+ * {@code /ws-connect} that answers over the REST endpoint after a log-normal think time.
+ * <p>
+ * Records into HDR histograms how long a revealed question takes to reach the players and how long an
+ * answer takes to be acknowledged, and counts missed deadlines. The percentile distributions are written
+ * to {@code target/loadtest/}, so runs before and after a change to {@code LiveQuizService} can be compared.
+ * <p>
+ * Runs on the in-memory H2 database of the test profile; pass {@code -Dspring.datasource.url=...} (and
+ * credentials) to run against Postgres. Not part of the normal test run:
+ * <pre>
+ * mvn test -Ploadtest -Dloadtest.lobbies=100 -Dloadtest.players=30
+ * </pre>
+ * Further knobs: {@code loadtest.questions} (1 to 10; the module gets exactly that many questions, so the
+ * sessions end after them), {@code loadtest.think-median-ms}, {@code loadtest.think-sigma},
+ * {@code loadtest.skip-rate} (players not answering keep a question open for its full duration) and
+ * {@code loadtest.ramp-ms} (sessions start spread over this time).
+ */
+@Tag("loadtest")
+class LiveQuizLoadTest {
+
+    private static final int LOBBIES = Integer.getInteger("loadtest.lobbies", 50);
+    private static final int PLAYERS = Integer.getInteger("loadtest.players", 20);
+    private static final int QUESTIONS = Integer.getInteger("loadtest.questions", 3);
+    private static final SyntheticPlayer.ThinkTime THINK_TIME = new SyntheticPlayer.ThinkTime(
+            Long.getLong("loadtest.think-median-ms", 3000),
+            Double.parseDouble(System.getProperty("loadtest.think-sigma", "0.6")),
+            Double.parseDouble(System.getProperty("loadtest.skip-rate", "0")));
+    private static final long RAMP_MS = Long.getLong("loadtest.ramp-ms", 5000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void simulateLiveQuizzes() throws Exception {
+        // A live session picks at most 10 questions; more would leave the players waiting
+        assertThat(QUESTIONS).as("loadtest.questions").isBetween(1, 10);
+
+        LoadMetrics metrics = new LoadMetrics();
+        CountDownLatch subscribed = new CountDownLatch(LOBBIES * PLAYERS);
+        CountDownLatch finished = new CountDownLatch(LOBBIES * PLAYERS);
+        List<StompSession> sessions = new ArrayList<>(LOBBIES * PLAYERS);
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QuizBackendApplication.class)
+                .profiles("test")
+                .properties("server.port=0")
+                .run()) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            String baseUrl = "http://localhost:" + port;
+            String wsUrl = "ws://localhost:" + port + "/ws-connect/websocket";
+            List<Lobby> lobbies = LiveQuizFixture.seed(context, "load", QUESTIONS, LOBBIES, PLAYERS);
+            JwtService jwtService = context.getBean(JwtService.class);
+
+            // Connect all players
+            List<CompletableFuture<StompSession>> connecting = new ArrayList<>(LOBBIES * PLAYERS);
+            for (Lobby lobby : lobbies) {
+                for (User user : lobby.players()) {
+                    SyntheticPlayer player = new SyntheticPlayer(lobby.id(), jwtService.generateToken(user), baseUrl,
+                            QUESTIONS, THINK_TIME, metrics, http, scheduler, objectMapper, subscribed, finished);
+                    connecting.add(stompClient.connectAsync(wsUrl, new WebSocketHttpHeaders(), player.connectHeaders(), player));
+                }
+            }
+            for (CompletableFuture<StompSession> future : connecting) {
+                sessions.add(future.get(60, TimeUnit.SECONDS));
+            }
+            assertThat(subscribed.await(60, TimeUnit.SECONDS)).as("all players subscribed").isTrue();
+
+            // Start the sessions spread over the ramp
+            LiveQuizService liveQuizService = context.getBean(LiveQuizService.class);
+            List<ScheduledFuture<?>> starts = new ArrayList<>(LOBBIES);
+            for (int i = 0; i < lobbies.size(); i++) {
+                Lobby lobby = lobbies.get(i);
+                long delay = RAMP_MS * i / lobbies.size();
+                starts.add(scheduler.schedule(() -> liveQuizService.startSession(lobby.host(), lobby.id()), delay, TimeUnit.MILLISECONDS));
+            }
+            for (ScheduledFuture<?> start : starts) {
+                start.get();
+            }
+
+            // Countdown, then per question at most its duration plus the buffer
+            long timeoutSec = 5 + QUESTIONS * 32L + 60;
+            boolean allFinished = finished.await(timeoutSec, TimeUnit.SECONDS);
+
+            metrics.print(System.out, String.format("Live quiz load simulation: %d lobbies x %d players, %d questions",
+                    LOBBIES, PLAYERS, QUESTIONS));
+            metrics.write(Path.of("target", "loadtest"));
+
+            assertThat(allFinished).as("all players finished their questions").isTrue();
+            assertThat(metrics.stompErrors.sum()).isZero();
+            assertThat(metrics.questionsReceived.sum()).isEqualTo((long) LOBBIES * PLAYERS * QUESTIONS);
+        } finally {
+            // Closing the application has usually dropped the connections already
+            sessions.stream().filter(StompSession::isConnected).forEach(StompSession::disconnect);
+            stompClient.stop();
+            scheduler.shutdownNow();
+        }
+    }
+}
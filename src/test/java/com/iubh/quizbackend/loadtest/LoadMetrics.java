@@ -0,0 +1,77 @@
+package com.iubh.quizbackend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measurements of one load simulation, recorded by all synthetic players concurrently.
+ * Latencies are kept in microseconds with three significant digits.
+ */
+final class LoadMetrics {
+
+    /** From the moment the server revealed a question until a player received QUESTION_SHOW. */
+    final Histogram revealToReceive = new ConcurrentHistogram(3);
+    /** From sending an answer until its HTTP response arrived. */
+    final Histogram answerAck = new ConcurrentHistogram(3);
+
+    final LongAdder questionsReceived = new LongAdder();
+    final LongAdder answersSent = new LongAdder();
+    final LongAdder answersAccepted = new LongAdder();
+    final LongAdder answersRejected = new LongAdder();
+    final LongAdder answersSkipped = new LongAdder();
+    /**
+     * Answers that were sent in time but were rejected or acknowledged after the question ended,
+     * plus questions that arrived only after their end.
+     */
+    final LongAdder missedDeadlines = new LongAdder();
+    final LongAdder stompErrors = new LongAdder();
+
+    static void record(Histogram histogram, long nanos) {
+        histogram.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    void print(PrintStream out, String title) {
+        out.println("=== " + title + " ===");
+        out.println(summary("reveal-to-receive", revealToReceive));
+        out.println(summary("answer ack", answerAck));
+        out.printf(Locale.ROOT,
+                "questions received: %,d | answers sent: %,d accepted: %,d rejected: %,d skipped: %,d | missed deadlines: %,d | stomp errors: %,d%n",
+                questionsReceived.sum(), answersSent.sum(), answersAccepted.sum(), answersRejected.sum(),
+                answersSkipped.sum(), missedDeadlines.sum(), stompErrors.sum());
+    }
+
+    /**
+     * Writes the full percentile distributions (in milliseconds) for comparison between runs,
+     * e.g. with the HdrHistogram plotter.
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        writeDistribution(directory.resolve("reveal-to-receive.hgrm"), revealToReceive);
+        writeDistribution(directory.resolve("answer-ack.hgrm"), answerAck);
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static String summary(String name, Histogram histogram) {
+        return String.format(Locale.ROOT,
+                "%-18s n=%,d p50=%.1fms p90=%.1fms p99=%.1fms p99.9=%.1fms max=%.1fms",
+                name, histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,187 @@
+package com.iubh.quizbackend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One player of a live quiz: subscribes to the lobby topic over STOMP and answers every question after a
+ * random think time through {@code POST /api/v1/sessions/{id}/answers}, like the frontend does.
+ * Leaves after the configured number of questions.
+ */
+final class SyntheticPlayer extends StompSessionHandlerAdapter {
+
+    /** Log-normal think time: most players answer around the median, a few take much longer. */
+    record ThinkTime(long medianMs, double sigma, double skipRate) {
+
+        /** @return The think time in milliseconds, or -1 if the player does not answer. */
+        long sample() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < skipRate) {
+                return -1;
+            }
+            return Math.round(medianMs * Math.exp(sigma * random.nextGaussian()));
+        }
+    }
+
+    private final UUID lobbyId;
+    private final String token;
+    private final String baseUrl;
+    private final int questionsToPlay;
+    private final ThinkTime thinkTime;
+    private final LoadMetrics metrics;
+    private final HttpClient http;
+    private final ScheduledExecutorService scheduler;
+    private final ObjectMapper objectMapper;
+    private final CountDownLatch subscribed;
+    private final CountDownLatch finished;
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    private volatile int questionDurationSec = 30;
+
+    SyntheticPlayer(UUID lobbyId, String token, String baseUrl, int questionsToPlay, ThinkTime thinkTime,
+                    LoadMetrics metrics, HttpClient http, ScheduledExecutorService scheduler,
+                    ObjectMapper objectMapper, CountDownLatch subscribed, CountDownLatch finished) {
+        this.lobbyId = lobbyId;
+        this.token = token;
+        this.baseUrl = baseUrl;
+        this.questionsToPlay = questionsToPlay;
+        this.thinkTime = thinkTime;
+        this.metrics = metrics;
+        this.http = http;
+        this.scheduler = scheduler;
+        this.objectMapper = objectMapper;
+        this.subscribed = subscribed;
+        this.finished = finished;
+    }
+
+    StompHeaders connectHeaders() {
+        StompHeaders headers = new StompHeaders();
+        headers.add("Authorization", "Bearer " + token);
+        return headers;
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        // the first question follows QUIZ_STARTED after a countdown, so the subscription has time to settle
+        session.subscribe("/topic/lobby/" + lobbyId, this);
+        subscribed.countDown();
+    }
+
+    @Override
+    public Type getPayloadType(StompHeaders headers) {
+        return byte[].class;
+    }
+
+    @Override
+    public void handleFrame(StompHeaders headers, Object payload) {
+        Instant receivedAt = Instant.now();
+        JsonNode event;
+        try {
+            event = objectMapper.readTree((byte[]) payload);
+        } catch (IOException e) {
+            metrics.stompErrors.increment();
+            return;
+        }
+        switch (event.path("type").asText()) {
+            case "QUIZ_STARTED" -> questionDurationSec = event.path("questionDurationSec").asInt(questionDurationSec);
+            case "QUESTION_SHOW" -> questionShown(event, receivedAt);
+            case "QUESTION_END" -> {
+                if (event.path("index").asInt() >= questionsToPlay - 1) finish();
+            }
+            case "QUIZ_ENDED", "QUIZ_ABORTED" -> finish();
+            default -> { }
+        }
+    }
+
+    private void questionShown(JsonNode event, Instant receivedAt) {
+        int index = event.path("index").asInt();
+        if (index >= questionsToPlay) {
+            finish();
+            return;
+        }
+        metrics.questionsReceived.increment();
+        Instant endsAt = instant(event.path("endsAt"));
+        Instant revealedAt = endsAt.minusSeconds(questionDurationSec);
+        LoadMetrics.record(metrics.revealToReceive, Duration.between(revealedAt, receivedAt).toNanos());
+        if (!receivedAt.isBefore(endsAt)) {
+            metrics.missedDeadlines.increment();
+            return;
+        }
+
+        long think = thinkTime.sample();
+        if (think < 0 || receivedAt.plusMillis(think).isAfter(endsAt)) {
+            metrics.answersSkipped.increment();
+            return;
+        }
+        JsonNode answers = event.path("question").path("answers");
+        String answerId = answers.get(ThreadLocalRandom.current().nextInt(answers.size())).path("id").asText();
+        String sessionId = event.path("sessionId").asText();
+        scheduler.schedule(() -> answer(sessionId, index, answerId, endsAt), think, TimeUnit.MILLISECONDS);
+    }
+
+    private void answer(String sessionId, int index, String answerId, Instant endsAt) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/sessions/" + sessionId + "/answers"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"questionIndex\":" + index + ",\"answerId\":\"" + answerId + "\"}"))
+                .build();
+        metrics.answersSent.increment();
+        long sent = System.nanoTime();
+        http.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, ex) -> {
+            LoadMetrics.record(metrics.answerAck, System.nanoTime() - sent);
+            if (ex == null && response.statusCode() == 204) {
+                metrics.answersAccepted.increment();
+                if (Instant.now().isAfter(endsAt)) metrics.missedDeadlines.increment();
+            } else {
+                metrics.answersRejected.increment();
+                metrics.missedDeadlines.increment();
+            }
+        });
+    }
+
+    private void finish() {
+        if (done.compareAndSet(false, true)) {
+            finished.countDown();
+        }
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+        metrics.stompErrors.increment();
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        metrics.stompErrors.increment();
+    }
+
+    /** Instants are written as ISO strings, or as decimal epoch seconds if timestamps are enabled. */
+    private static Instant instant(JsonNode node) {
+        if (node.isNumber()) {
+            BigDecimal seconds = node.decimalValue();
+            return Instant.ofEpochSecond(seconds.longValue(), seconds.remainder(BigDecimal.ONE).movePointRight(9).longValue());
+        }
+        return Instant.parse(node.asText());
+    }
+}
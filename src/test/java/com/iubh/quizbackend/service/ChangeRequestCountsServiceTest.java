@@ -0,0 +1,79 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.api.dto.ChangeRequestCountsDto;
+import com.iubh.quizbackend.entity.change.ChangeRequestType;
+import com.iubh.quizbackend.entity.change.QuestionChangeCounts;
+import com.iubh.quizbackend.repository.QuestionChangeCountsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeRequestCountsServiceTest {
+
+    @Mock
+    private QuestionChangeCountsRepository countsRepository;
+
+    @InjectMocks
+    private ChangeRequestCountsService changeRequestCountsService;
+
+    @Test
+    void requestAdded_WithExistingRow_ShouldIncrementMatchingType() {
+        // Given
+        UUID questionId = UUID.randomUUID();
+        when(countsRepository.addRequest(questionId, 0, 1, 0, 0)).thenReturn(1);
+
+        // When
+        changeRequestCountsService.requestAdded(questionId, ChangeRequestType.INCORRECT_ANSWER);
+
+        // Then
+        verify(countsRepository, never()).save(any());
+    }
+
+    @Test
+    void requestAdded_WithoutRow_ShouldCreateIt() {
+        // Given
+        UUID questionId = UUID.randomUUID();
+        when(countsRepository.addRequest(questionId, 0, 0, 0, 1)).thenReturn(0);
+
+        // When
+        changeRequestCountsService.requestAdded(questionId, ChangeRequestType.SUGGEST_DELETION);
+
+        // Then
+        ArgumentCaptor<QuestionChangeCounts> captor = ArgumentCaptor.forClass(QuestionChangeCounts.class);
+        verify(countsRepository).save(captor.capture());
+        assertThat(captor.getValue().getQuestionId()).isEqualTo(questionId);
+        assertThat(captor.getValue().getTotal()).isEqualTo(1);
+        assertThat(captor.getValue().getDeletionRequest()).isEqualTo(1);
+        assertThat(captor.getValue().getAnswerChange()).isZero();
+        assertThat(captor.getValue().getPending()).isEqualTo(1);
+    }
+
+    @Test
+    void countsFor_ShouldReturnZeroCountsForQuestionsWithoutRequests() {
+        // Given
+        UUID withRequests = UUID.randomUUID();
+        UUID withoutRequests = UUID.randomUUID();
+        when(countsRepository.findAllById(List.of(withRequests, withoutRequests))).thenReturn(List.of(
+                QuestionChangeCounts.builder().questionId(withRequests).total(2).questionTextChange(2).pending(1).build()));
+
+        // When
+        Map<UUID, ChangeRequestCountsDto> counts = changeRequestCountsService.countsFor(List.of(withRequests, withoutRequests));
+
+        // Then
+        assertThat(counts.get(withRequests).getTotal()).isEqualTo(2);
+        assertThat(counts.get(withRequests).getQuestionTextChange()).isEqualTo(2);
+        assertThat(counts.get(withoutRequests).getTotal()).isZero();
+    }
+}
@@ -0,0 +1,132 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.api.dto.question.DuplicateCandidateDto;
+import com.iubh.quizbackend.entity.module.Module;
+import com.iubh.quizbackend.entity.question.Answer;
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
+import com.iubh.quizbackend.repository.projection.QuestionTextRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DuplicateDetectionServiceTest {
+
+    @Mock
+    private ChoiceQuestionRepository choiceQuestionRepository;
+
+    @InjectMocks
+    private DuplicateDetectionService duplicateDetectionService;
+
+    private UUID moduleId;
+    private UUID capital;
+    private UUID capitalReworded;
+    private UUID otherCapital;
+    private UUID sky;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(duplicateDetectionService, "similarityThreshold", 0.8);
+        moduleId = UUID.randomUUID();
+        capital = UUID.randomUUID();
+        capitalReworded = UUID.randomUUID();
+        otherCapital = UUID.randomUUID();
+        sky = UUID.randomUUID();
+
+        List<QuestionTextRow> rows = new ArrayList<>();
+        rows.addAll(rows(capital, "Was ist die Hauptstadt von Deutschland?", "Berlin", "München", "Hamburg"));
+        rows.addAll(rows(capitalReworded, "was ist die Hauptstadt von Deutschland", "Hamburg", "Berlin", "München"));
+        rows.addAll(rows(otherCapital, "Was ist die Hauptstadt von Frankreich?", "Paris", "Lyon", "Marseille"));
+        rows.addAll(rows(sky, "Welche Farbe hat der Himmel an einem klaren Tag?", "Blau", "Grün", "Rot"));
+        when(choiceQuestionRepository.findActiveTextsByModuleId(moduleId)).thenReturn(rows);
+    }
+
+    @Test
+    void scanModule_ShouldReportEachNearDuplicatePairOnce() {
+        // When
+        List<DuplicateCandidateDto> pairs = duplicateDetectionService.scanModule(moduleId);
+
+        // Then
+        assertThat(pairs).hasSize(1);
+        assertThat(List.of(pairs.get(0).getQuestionId(), pairs.get(0).getDuplicateOfQuestionId()))
+                .containsExactlyInAnyOrder(capital, capitalReworded);
+        assertThat(pairs.get(0).getSimilarity()).isEqualTo(1.0);
+    }
+
+    @Test
+    void findNearDuplicates_ShouldMatchSlightlyChangedQuestionOnly() {
+        // Given
+        ChoiceQuestion question = question("Was ist die Hauptstadt von Deutschland heute?", "Berlin", "München", "Hamburg");
+
+        // When
+        List<DuplicateCandidateDto> matches = duplicateDetectionService.findNearDuplicates(question);
+
+        // Then
+        assertThat(matches).extracting(DuplicateCandidateDto::getDuplicateOfQuestionId)
+                .containsExactlyInAnyOrder(capital, capitalReworded);
+    }
+
+    @Test
+    void questionActivated_ShouldAddToLoadedIndexWithoutReloading() {
+        // Given
+        duplicateDetectionService.scanModule(moduleId);
+        ChoiceQuestion question = question("Welche Farbe hat der Himmel an einem klaren Tag?", "Rot", "Blau", "Grün");
+        ChoiceQuestion laterQuestion = question("Welche Farbe hat der Himmel an einem klaren Tag", "Blau", "Grün", "Rot");
+
+        // When
+        duplicateDetectionService.questionActivated(question);
+        List<DuplicateCandidateDto> matches = duplicateDetectionService.findNearDuplicates(laterQuestion);
+
+        // Then
+        assertThat(matches).extracting(DuplicateCandidateDto::getDuplicateOfQuestionId)
+                .containsExactlyInAnyOrder(sky, question.getId());
+        verify(choiceQuestionRepository, times(1)).findActiveTextsByModuleId(moduleId);
+    }
+
+    private ChoiceQuestion question(String text, String... answers) {
+        ChoiceQuestion question = ChoiceQuestion.builder()
+                .id(UUID.randomUUID())
+                .questionText(text)
+                .module(Module.builder().id(moduleId).build())
+                .build();
+        for (String answer : answers) {
+            question.addAnswer(Answer.builder().text(answer).isCorrect(false).build());
+        }
+        return question;
+    }
+
+    private static List<QuestionTextRow> rows(UUID questionId, String questionText, String... answers) {
+        List<QuestionTextRow> rows = new ArrayList<>();
+        for (String answer : answers) {
+            rows.add(new QuestionTextRow() {
+                @Override
+                public UUID getQuestionId() {
+                    return questionId;
+                }
+
+                @Override
+                public String getQuestionText() {
+                    return questionText;
+                }
+
+                @Override
+                public String getAnswerText() {
+                    return answer;
+                }
+            });
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,104 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.entity.quiz.SessionStatus;
+import com.iubh.quizbackend.repository.LiveQuizSessionRepository;
+import com.iubh.quizbackend.service.live.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiveQuizTxRunnerTest {
+
+    @Mock
+    private LiveQuizSessionRepository sessionRepo;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private LiveSessionEngine engine;
+
+    @Mock
+    private LiveAnswerJournal journal;
+
+    @Mock
+    private QuestionFrameCache frames;
+
+    @Mock
+    private LiveQuizMetrics metrics;
+
+    @Mock
+    private LiveSessionOwnership ownership;
+
+    @InjectMocks
+    private LiveQuizTxRunner txRunner;
+
+    private LiveSessionState state;
+
+    @BeforeEach
+    void setUp() {
+        var question = new LiveSessionState.FrozenQuestion(UUID.randomUUID(), "Question",
+                List.of(new LiveSessionState.FrozenAnswer(UUID.randomUUID(), "Answer", true)));
+        state = new LiveSessionState(UUID.randomUUID(), UUID.randomUUID(), 1, 30, 2, true,
+                Instant.now(), List.of(question), List.of());
+        state.setStatus(SessionStatus.COUNTDOWN);
+        when(engine.get(state.getSessionId())).thenReturn(state);
+    }
+
+    @Test
+    void showQuestion_WhenFrameFails_ShouldLeaveStateUntouched() {
+        // Given
+        when(frames.get(state, 0)).thenThrow(new IndexOutOfBoundsException("Index 0 out of bounds"));
+
+        // When
+        assertThatThrownBy(() -> txRunner.showQuestion(state.getSessionId(), 0)).isInstanceOf(IndexOutOfBoundsException.class);
+
+        // Then
+        assertThat(state.getStatus()).isEqualTo(SessionStatus.COUNTDOWN);
+        assertThat(state.getCurrentIndex()).isEqualTo(-1);
+        verify(sessionRepo, never()).updateProgress(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void showQuestion_WhenUpdateFails_ShouldLeaveStateUntouched() {
+        // Given
+        when(frames.get(state, 0)).thenReturn(new QuestionFrameCache.QuestionFrame(new byte[0], new byte[0], "{}"));
+        when(frames.serializeInstant(any())).thenReturn(new byte[0]);
+        when(sessionRepo.updateProgress(eq(state.getSessionId()), eq(SessionStatus.RUNNING), eq(0), any()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        assertThatThrownBy(() -> txRunner.showQuestion(state.getSessionId(), 0)).isInstanceOf(QueryTimeoutException.class);
+
+        // Then
+        assertThat(state.getStatus()).isEqualTo(SessionStatus.COUNTDOWN);
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void showQuestion_AfterLastQuestion_ShouldFinishSession() {
+        // When
+        txRunner.showQuestion(state.getSessionId(), 1);
+
+        // Then
+        assertThat(state.getStatus()).isEqualTo(SessionStatus.FINISHED);
+        verify(journal).close(state.getSessionId());
+        verify(sessionRepo).updateStatus(state.getSessionId(), SessionStatus.FINISHED);
+        verify(sessionRepo, never()).updateProgress(any(), any(), anyInt(), any());
+    }
+}
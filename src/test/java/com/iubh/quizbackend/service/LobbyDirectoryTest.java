@@ -0,0 +1,185 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.api.dto.NotificationDto;
+import com.iubh.quizbackend.api.dto.quiz.LobbyDeltaDto;
+import com.iubh.quizbackend.api.dto.quiz.LobbySnapshotDto;
+import com.iubh.quizbackend.api.dto.quiz.QuizLobbyDto;
+import com.iubh.quizbackend.entity.quiz.QuizLobby;
+import com.iubh.quizbackend.entity.quiz.QuizLobbyStatus;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.mapper.QuizLobbyMapper;
+import com.iubh.quizbackend.repository.QuizLobbyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LobbyDirectoryTest {
+
+    @Mock
+    private QuizLobbyRepository quizLobbyRepository;
+
+    @Mock
+    private QuizLobbyMapper quizLobbyMapper;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private PlatformTransactionManager txManager;
+
+    @InjectMocks
+    private LobbyDirectory lobbyDirectory;
+
+    private User host;
+    private QuizLobby existing;
+
+    @BeforeEach
+    void setUp() {
+        host = User.builder().id(UUID.randomUUID()).email("host@test.com").build();
+        existing = lobby(QuizLobbyStatus.WAITING);
+        when(quizLobbyRepository.findByStatus(QuizLobbyStatus.WAITING)).thenReturn(List.of(existing));
+        when(quizLobbyMapper.toDto(any(QuizLobby.class))).thenAnswer(invocation -> {
+            QuizLobby lobby = invocation.getArgument(0);
+            QuizLobbyDto dto = new QuizLobbyDto();
+            dto.setId(lobby.getId());
+            dto.setStatus(lobby.getStatus());
+            return dto;
+        });
+    }
+
+    @Test
+    void burstOfChanges_ShouldBePublishedAsOneVersionedDelta() {
+        // Given
+        QuizLobby created = lobby(QuizLobbyStatus.WAITING);
+        QuizLobby createdAndCancelled = lobby(QuizLobbyStatus.WAITING);
+
+        // When
+        lobbyDirectory.lobbyChanged(created);
+        lobbyDirectory.lobbyChanged(createdAndCancelled);
+        lobbyDirectory.lobbyChanged(existing);
+        createdAndCancelled.setStatus(QuizLobbyStatus.CANCELLED);
+        lobbyDirectory.lobbyChanged(createdAndCancelled);
+        publishScheduled(1);
+
+        // Then
+        LobbyDeltaDto delta = sentDelta();
+        assertThat(delta.getVersion()).isEqualTo(1);
+        assertThat(delta.getAdded()).extracting(QuizLobbyDto::getId).containsExactly(created.getId());
+        assertThat(delta.getUpdated()).extracting(QuizLobbyDto::getId).containsExactly(existing.getId());
+        assertThat(delta.getRemoved()).isEmpty();
+    }
+
+    @Test
+    void snapshot_ShouldMatchLastPublishedVersion() {
+        // Given
+        existing.setStatus(QuizLobbyStatus.IN_PROGRESS);
+        lobbyDirectory.lobbyChanged(existing);
+
+        // When
+        LobbySnapshotDto beforePublish = lobbyDirectory.snapshot();
+        publishScheduled(1);
+        LobbySnapshotDto afterPublish = lobbyDirectory.snapshot();
+
+        // Then
+        assertThat(beforePublish.getVersion()).isZero();
+        assertThat(beforePublish.getLobbies()).extracting(QuizLobbyDto::getId).containsExactly(existing.getId());
+        assertThat(afterPublish.getVersion()).isEqualTo(1);
+        assertThat(afterPublish.getLobbies()).isEmpty();
+        assertThat(sentDelta().getRemoved()).containsExactly(existing.getId());
+        verify(quizLobbyRepository, times(1)).findByStatus(QuizLobbyStatus.WAITING);
+    }
+
+    @Test
+    void lobbiesCancelled_ShouldRemoveLobbies() {
+        // When
+        lobbyDirectory.lobbiesCancelled(List.of(existing.getId()));
+        publishScheduled(1);
+
+        // Then
+        assertThat(sentDelta().getRemoved()).containsExactly(existing.getId());
+        assertThat(lobbyDirectory.snapshot().getLobbies()).isEmpty();
+    }
+
+    @Test
+    void publish_ShouldAlsoSendFullListToLegacyTopic() {
+        // Given
+        QuizLobby created = lobby(QuizLobbyStatus.WAITING);
+
+        // When
+        lobbyDirectory.lobbyChanged(created);
+        publishScheduled(1);
+
+        // Then
+        assertThat(sentFullList()).extracting(QuizLobbyDto::getId).containsExactly(existing.getId(), created.getId());
+    }
+
+    @Test
+    void clustered_ShouldServeSnapshotAndFullListFromDatabase() {
+        // Given
+        ReflectionTestUtils.setField(lobbyDirectory, "clustered", true);
+        QuizLobby createdElsewhere = lobby(QuizLobbyStatus.WAITING);
+        QuizLobby created = lobby(QuizLobbyStatus.WAITING);
+        when(quizLobbyRepository.findByStatus(QuizLobbyStatus.WAITING))
+                .thenReturn(List.of(existing, createdElsewhere))
+                .thenReturn(List.of(existing, createdElsewhere, created));
+
+        // When
+        LobbySnapshotDto snapshot = lobbyDirectory.snapshot();
+        lobbyDirectory.lobbyChanged(created);
+        publishScheduled(1);
+
+        // Then
+        assertThat(snapshot.getVersion()).isZero();
+        assertThat(snapshot.getLobbies()).extracting(QuizLobbyDto::getId).containsExactly(existing.getId(), createdElsewhere.getId());
+        LobbyDeltaDto delta = sentDelta();
+        assertThat(delta.getVersion()).isZero();
+        assertThat(delta.getUpdated()).extracting(QuizLobbyDto::getId).containsExactly(created.getId());
+        assertThat(sentFullList()).hasSize(3);
+    }
+
+    private void publishScheduled(int expected) {
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(expected)).schedule(tasks.capture(), any(Instant.class));
+        tasks.getAllValues().forEach(Runnable::run);
+    }
+
+    private LobbyDeltaDto sentDelta() {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/lobbies/delta"), payload.capture());
+        return (LobbyDeltaDto) payload.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<QuizLobbyDto> sentFullList() {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/lobbies"), payload.capture());
+        NotificationDto<List<QuizLobbyDto>> notification = (NotificationDto<List<QuizLobbyDto>>) payload.getValue();
+        assertThat(notification.getType()).isEqualTo(NotificationDto.NotificationType.LOBBY_UPDATE);
+        return notification.getPayload();
+    }
+
+    private QuizLobby lobby(QuizLobbyStatus status) {
+        return QuizLobby.builder().id(UUID.randomUUID()).host(host).status(status).build();
+    }
+}
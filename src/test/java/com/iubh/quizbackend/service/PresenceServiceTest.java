@@ -0,0 +1,172 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.api.dto.ActiveUsersDeltaDto;
+import com.iubh.quizbackend.api.dto.UserDto;
+import com.iubh.quizbackend.entity.user.Profile;
+import com.iubh.quizbackend.entity.user.Role;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.repository.ModuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceServiceTest {
+
+    @Mock
+    private ModuleRepository moduleRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private QuizMetrics metrics;
+
+    @InjectMocks
+    private PresenceService presenceService;
+
+    private UUID moduleId;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        moduleId = UUID.randomUUID();
+        alice = user("alice@test.com");
+        bob = user("bob@test.com");
+        lenient().when(moduleRepository.findFollowedModuleIdsByUserId(any())).thenReturn(List.of(moduleId));
+    }
+
+    @Test
+    void connected_ManyUsers_ShouldPublishOneCoalescedDeltaPerModule() {
+        // When
+        presenceService.connected("s1", alice);
+        presenceService.connected("s2", bob);
+        publishScheduled(1);
+
+        // Then
+        ActiveUsersDeltaDto delta = sentDelta();
+        assertThat(delta.getJoined()).extracting(UserDto::getEmail)
+                .containsExactlyInAnyOrder("alice@test.com", "bob@test.com");
+        assertThat(delta.getLeft()).isEmpty();
+        assertThat(delta.getOnlineCount()).isEqualTo(2);
+        assertThat(presenceService.onlineFollowers(moduleId)).hasSize(2);
+    }
+
+    @Test
+    void connectAndDisconnect_WithinWindow_ShouldPublishNothing() {
+        // When
+        presenceService.connected("s1", alice);
+        UUID removed = presenceService.disconnected("s1");
+        publishScheduled(1);
+
+        // Then
+        assertThat(removed).isEqualTo(alice.getId());
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void secondSession_ShouldNotReloadFollowedModulesNorMarkUserOffline() {
+        // Given
+        presenceService.connected("s1", alice);
+        publishScheduled(1);
+        reset(messagingTemplate);
+
+        // When
+        presenceService.connected("s2", alice);
+        presenceService.disconnected("s1");
+
+        // Then
+        verify(moduleRepository, times(1)).findFollowedModuleIdsByUserId(alice.getId());
+        assertThat(presenceService.onlineFollowers(moduleId)).hasSize(1);
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void followChanged_ForOnlineUser_ShouldUpdateIndexWithoutQuery() {
+        // Given
+        UUID otherModule = UUID.randomUUID();
+        presenceService.connected("s1", alice);
+
+        // When
+        presenceService.followChanged(alice.getId(), otherModule, true);
+        presenceService.followChanged(alice.getId(), moduleId, false);
+
+        // Then
+        assertThat(presenceService.onlineFollowers(otherModule)).extracting(UserDto::getEmail).containsExactly("alice@test.com");
+        assertThat(presenceService.onlineFollowers(moduleId)).isEmpty();
+        verify(moduleRepository, times(1)).findFollowedModuleIdsByUserId(alice.getId());
+    }
+
+    @Test
+    void connected_WhenSessionDisconnectsDuringLoad_ShouldNotKeepUserOnline() {
+        // Given
+        doAnswer(invocation -> {
+            assertThat(presenceService.disconnected("s1")).isEqualTo(alice.getId());
+            return List.of(moduleId);
+        }).when(moduleRepository).findFollowedModuleIdsByUserId(alice.getId());
+
+        // When
+        presenceService.connected("s1", alice);
+
+        // Then
+        assertThat(presenceService.onlineFollowers(moduleId)).isEmpty();
+        assertThat(presenceService.disconnected("s1")).isNull();
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    void followChanged_DuringLoad_ShouldBeAppliedAfterLoad() {
+        // Given
+        UUID otherModule = UUID.randomUUID();
+        doAnswer(invocation -> {
+            presenceService.followChanged(alice.getId(), otherModule, true);
+            presenceService.followChanged(alice.getId(), moduleId, false);
+            return List.of(moduleId); // read before the toggles committed
+        }).when(moduleRepository).findFollowedModuleIdsByUserId(alice.getId());
+
+        // When
+        presenceService.connected("s1", alice);
+
+        // Then
+        assertThat(presenceService.onlineFollowers(otherModule)).extracting(UserDto::getEmail).containsExactly("alice@test.com");
+        assertThat(presenceService.onlineFollowers(moduleId)).isEmpty();
+    }
+
+    private void publishScheduled(int expected) {
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(expected)).schedule(tasks.capture(), any(Instant.class));
+        tasks.getAllValues().forEach(Runnable::run);
+    }
+
+    private ActiveUsersDeltaDto sentDelta() {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/activeUsers/" + moduleId + "/delta"), payload.capture());
+        return (ActiveUsersDeltaDto) payload.getValue();
+    }
+
+    private static User user(String email) {
+        Profile profile = new Profile();
+        profile.setFirstName(email.substring(0, email.indexOf('@')));
+        profile.setName("Test");
+        return User.builder().id(UUID.randomUUID()).email(email).role(Role.STUDENT).profile(profile).build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.api.dto.changeRequest.VoteDto;
+import com.iubh.quizbackend.entity.change.ChangeRequestStatus;
+import com.iubh.quizbackend.entity.change.ChangeRequestVote;
+import com.iubh.quizbackend.entity.change.SuggestDeletionRequest;
+import com.iubh.quizbackend.entity.change.VoteType;
+import com.iubh.quizbackend.entity.module.Module;
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.user.Role;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.mapper.ChoiceQuestionMapper;
+import com.iubh.quizbackend.mapper.ProposedAnswerMapper;
+import com.iubh.quizbackend.repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionChangeServiceTest {
+
+    @Mock
+    private QuestionChangeRequestRepository changeRequestRepository;
+
+    @Mock
+    private ChoiceQuestionRepository choiceQuestionRepository;
+
+    @Mock
+    private ModuleRepository moduleRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ChoiceQuestionMapper choiceQuestionMapper;
+
+    @Mock
+    private ProposedAnswerMapper proposedAnswerMapper;
+
+    @Mock
+    private QuestionPoolService questionPoolService;
+
+    @Mock
+    private ChangeRequestCountsService changeRequestCountsService;
+
+    @Mock
+    private ChangeRequestVoteRepository voteRepository;
+
+    @Mock
+    private QuestionSearchService questionSearchService;
+
+    @Mock
+    private DuplicateDetectionService duplicateDetectionService;
+
+    @InjectMocks
+    private QuestionChangeService questionChangeService;
+
+    private User voter;
+    private ChoiceQuestion question;
+    private SuggestDeletionRequest changeRequest;
+
+    @BeforeEach
+    void setUp() {
+        voter = User.builder().id(UUID.randomUUID()).email("voter@test.com").role(Role.STUDENT).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(voter, null, voter.getAuthorities()));
+
+        Module module = Module.builder().id(UUID.randomUUID()).title("Module").build();
+        question = ChoiceQuestion.builder().id(UUID.randomUUID()).questionText("Question?").active(true).module(module).build();
+        changeRequest = new SuggestDeletionRequest();
+        changeRequest.setId(UUID.randomUUID());
+        changeRequest.setQuestion(question);
+        changeRequest.setStatus(ChangeRequestStatus.PENDING);
+        when(changeRequestRepository.findById(changeRequest.getId())).thenReturn(Optional.of(changeRequest));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void voteForChangeRequest_WhenAlreadyVoted_ShouldThrowException() {
+        // Given
+        when(voteRepository.existsByChangeRequest_IdAndVoter_Id(changeRequest.getId(), voter.getId())).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> questionChangeService.voteForChangeRequest(changeRequest.getId(), vote(VoteType.APPROVE)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(changeRequestRepository, never()).addVote(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void voteForChangeRequest_WhenConcurrentDoubleVoteHitsConstraint_ShouldThrowException() {
+        // Given
+        when(voteRepository.saveAndFlush(any(ChangeRequestVote.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // When & Then
+        assertThatThrownBy(() -> questionChangeService.voteForChangeRequest(changeRequest.getId(), vote(VoteType.REJECT)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(changeRequestRepository, never()).addVote(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void voteForChangeRequest_BelowThreshold_ShouldOnlyCountVote() {
+        // Given
+        when(changeRequestRepository.approveIfThresholdReached(eq(changeRequest.getId()), anyInt(), any())).thenReturn(0);
+
+        // When
+        questionChangeService.voteForChangeRequest(changeRequest.getId(), vote(VoteType.APPROVE));
+
+        // Then
+        verify(changeRequestRepository).addVote(changeRequest.getId(), 1, 0);
+        assertThat(changeRequest.getStatus()).isEqualTo(ChangeRequestStatus.PENDING);
+        assertThat(question.getActive()).isTrue();
+        verifyNoInteractions(changeRequestCountsService);
+    }
+
+    @Test
+    void voteForChangeRequest_ReachingApproveThreshold_ShouldApplyChange() {
+        // Given
+        when(changeRequestRepository.approveIfThresholdReached(eq(changeRequest.getId()), anyInt(), any())).thenReturn(1);
+
+        // When
+        questionChangeService.voteForChangeRequest(changeRequest.getId(), vote(VoteType.APPROVE));
+
+        // Then
+        assertThat(changeRequest.getStatus()).isEqualTo(ChangeRequestStatus.APPROVED);
+        assertThat(question.getActive()).isFalse();
+        verify(moduleRepository).adjustQuestionCount(question.getModule().getId(), -1);
+        verify(changeRequestCountsService).requestResolved(question.getId());
+    }
+
+    @Test
+    void voteForChangeRequest_ReachingRejectThreshold_ShouldRejectWithoutChangingQuestion() {
+        // Given
+        when(changeRequestRepository.rejectIfThresholdReached(eq(changeRequest.getId()), anyInt(), any())).thenReturn(1);
+
+        // When
+        questionChangeService.voteForChangeRequest(changeRequest.getId(), vote(VoteType.REJECT));
+
+        // Then
+        verify(changeRequestRepository).addVote(changeRequest.getId(), 0, 1);
+        assertThat(changeRequest.getStatus()).isEqualTo(ChangeRequestStatus.REJECTED);
+        assertThat(question.getActive()).isTrue();
+        verify(changeRequestCountsService).requestResolved(question.getId());
+    }
+
+    private static VoteDto vote(VoteType voteType) {
+        VoteDto dto = new VoteDto();
+        dto.setVoteType(voteType);
+        return dto;
+    }
+}
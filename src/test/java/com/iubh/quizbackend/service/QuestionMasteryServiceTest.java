@@ -0,0 +1,210 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.question.QuestionMastery;
+import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
+import com.iubh.quizbackend.repository.QuestionMasteryRepository;
+import com.iubh.quizbackend.repository.projection.QuestionModuleRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionMasteryServiceTest {
+
+    @Mock
+    private QuestionMasteryRepository masteryRepository;
+
+    @Mock
+    private ChoiceQuestionRepository choiceQuestionRepository;
+
+    @Mock
+    private QuestionPoolService questionPoolService;
+
+    @Mock
+    private PlatformTransactionManager txManager;
+
+    @InjectMocks
+    private QuestionMasteryService questionMasteryService;
+
+    private UUID userId;
+    private UUID moduleId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        moduleId = UUID.randomUUID();
+    }
+
+    @Test
+    void selectForQuiz_ShouldPreferDueQuestionsThenUnseenOnes() {
+        // Given
+        UUID dueWeak = UUID.randomUUID();
+        UUID dueStrong = UUID.randomUUID();
+        UUID notDue = UUID.randomUUID();
+        UUID unseen = UUID.randomUUID();
+        when(masteryRepository.findDueQuestionIds(eq(userId), eq(moduleId), any(), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(dueWeak, dueStrong));
+        when(questionPoolService.sampleIds(eq(moduleId), eq(2), anySet())).thenReturn(List.of(notDue, unseen));
+        when(masteryRepository.findAnsweredQuestionIds(userId, List.of(notDue, unseen))).thenReturn(Set.of(notDue));
+        when(questionPoolService.load(eq(moduleId), anyList())).thenAnswer(invocation -> questions(invocation.getArgument(1)));
+
+        // When
+        List<ChoiceQuestion> picked = questionMasteryService.selectForQuiz(userId, moduleId, 3);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UUID>> idsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(questionPoolService).load(eq(moduleId), idsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactly(dueWeak, dueStrong, unseen);
+        assertThat(picked).extracting(ChoiceQuestion::getId).containsExactlyInAnyOrder(dueWeak, dueStrong, unseen);
+        verify(masteryRepository, never()).findUpcomingQuestionIds(any(), any(), any(), any());
+    }
+
+    @Test
+    void selectForQuiz_WhenEverythingIsMastered_ShouldRepeatQuestionsDueNext() {
+        // Given
+        UUID soon = UUID.randomUUID();
+        UUID later = UUID.randomUUID();
+        when(masteryRepository.findDueQuestionIds(eq(userId), eq(moduleId), any(), any())).thenReturn(List.of());
+        when(questionPoolService.sampleIds(eq(moduleId), eq(4), anySet())).thenReturn(List.of(soon, later));
+        when(masteryRepository.findAnsweredQuestionIds(eq(userId), anyCollection())).thenReturn(Set.of(soon, later));
+        when(masteryRepository.findUpcomingQuestionIds(eq(userId), eq(moduleId), any(), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(soon, later));
+        when(questionPoolService.load(eq(moduleId), anyList())).thenAnswer(invocation -> questions(invocation.getArgument(1)));
+
+        // When
+        List<ChoiceQuestion> picked = questionMasteryService.selectForQuiz(userId, moduleId, 2);
+
+        // Then
+        assertThat(picked).extracting(ChoiceQuestion::getId).containsExactlyInAnyOrder(soon, later);
+    }
+
+    @Test
+    void recordAll_ShouldCreateMissingRowsAndPromoteExistingOnes() {
+        // Given
+        UUID knownQuestion = UUID.randomUUID();
+        UUID newQuestion = UUID.randomUUID();
+        QuestionMastery existing = QuestionMastery.builder()
+                .userId(userId).questionId(knownQuestion).moduleId(moduleId)
+                .box((short) 1).dueAt(Instant.now())
+                .build();
+        when(masteryRepository.findForUpdate(anyCollection(), anyCollection())).thenReturn(List.of(existing));
+        when(choiceQuestionRepository.findModuleIdsByIdIn(anyCollection())).thenReturn(List.of(moduleRow(newQuestion, moduleId)));
+        Instant answeredAt = Instant.now();
+
+        // When
+        questionMasteryService.recordAll(List.of(
+                new QuestionMasteryService.AnswerEvent(userId, knownQuestion, true, answeredAt),
+                new QuestionMasteryService.AnswerEvent(userId, newQuestion, false, answeredAt)));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<QuestionMastery>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(masteryRepository).saveAll(captor.capture());
+        Map<UUID, QuestionMastery> saved = new HashMap<>();
+        captor.getValue().forEach(m -> saved.put(m.getQuestionId(), m));
+
+        assertThat(saved.get(knownQuestion).getBox()).isEqualTo((short) 2);
+        assertThat(saved.get(knownQuestion).getCorrectCount()).isEqualTo(1);
+        assertThat(saved.get(knownQuestion).getDueAt()).isEqualTo(answeredAt.plus(Duration.ofDays(3)));
+
+        assertThat(saved.get(newQuestion).getModuleId()).isEqualTo(moduleId);
+        assertThat(saved.get(newQuestion).getBox()).isZero();
+        assertThat(saved.get(newQuestion).getIncorrectCount()).isEqualTo(1);
+        assertThat(saved.get(newQuestion).getDueAt()).isEqualTo(answeredAt);
+    }
+
+    @Test
+    void recordAll_WithOnlyKnownQuestions_ShouldNotResolveModules() {
+        // Given
+        UUID questionId = UUID.randomUUID();
+        QuestionMastery existing = QuestionMastery.builder()
+                .userId(userId).questionId(questionId).moduleId(moduleId)
+                .box((short) QuestionMastery.MAX_BOX).dueAt(Instant.now())
+                .build();
+        when(masteryRepository.findForUpdate(anyCollection(), anyCollection())).thenReturn(List.of(existing));
+
+        // When
+        questionMasteryService.recordAll(List.of(new QuestionMasteryService.AnswerEvent(userId, questionId, true, Instant.now())));
+
+        // Then
+        assertThat(existing.getBox()).isEqualTo((short) QuestionMastery.MAX_BOX);
+        verify(choiceQuestionRepository, never()).findModuleIdsByIdIn(any());
+    }
+
+    @Test
+    void recordAll_WhenConcurrentInsertWins_ShouldRetryAgainstTheNewRow() {
+        // Given
+        UUID questionId = UUID.randomUUID();
+        QuestionMastery concurrent = QuestionMastery.builder()
+                .userId(userId).questionId(questionId).moduleId(moduleId)
+                .box((short) 1).correctCount(1).dueAt(Instant.now())
+                .build();
+        when(masteryRepository.findForUpdate(anyCollection(), anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(concurrent));
+        when(choiceQuestionRepository.findModuleIdsByIdIn(anyCollection())).thenReturn(List.of(moduleRow(questionId, moduleId)));
+        when(masteryRepository.saveAll(anyCollection()))
+                .thenThrow(new DataIntegrityViolationException("uq_question_mastery_user_question"))
+                .thenReturn(List.of());
+
+        // When
+        questionMasteryService.record(new QuestionMasteryService.AnswerEvent(userId, questionId, true, Instant.now()));
+
+        // Then
+        assertThat(concurrent.getBox()).isEqualTo((short) 2);
+        assertThat(concurrent.getCorrectCount()).isEqualTo(2);
+        verify(txManager).rollback(any());
+        verify(txManager, atLeastOnce()).commit(any());
+    }
+
+    @Test
+    void recordAll_WhenEveryAttemptFails_ShouldNotThrow() {
+        // Given
+        when(masteryRepository.findForUpdate(anyCollection(), anyCollection()))
+                .thenThrow(new DataIntegrityViolationException("uq_question_mastery_user_question"));
+
+        // When
+        questionMasteryService.record(new QuestionMasteryService.AnswerEvent(userId, UUID.randomUUID(), true, Instant.now()));
+
+        // Then
+        verify(masteryRepository, times(3)).findForUpdate(anyCollection(), anyCollection());
+        verify(masteryRepository, never()).saveAll(any());
+    }
+
+    private static List<ChoiceQuestion> questions(List<UUID> ids) {
+        return ids.stream()
+                .map(id -> ChoiceQuestion.builder().id(id).questionText("Q " + id).active(true).build())
+                .toList();
+    }
+
+    private static QuestionModuleRow moduleRow(UUID questionId, UUID moduleId) {
+        return new QuestionModuleRow() {
+            @Override
+            public UUID getQuestionId() {
+                return questionId;
+            }
+
+            @Override
+            public UUID getModuleId() {
+                return moduleId;
+            }
+        };
+    }
+}
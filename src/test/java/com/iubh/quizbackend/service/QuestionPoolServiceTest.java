@@ -0,0 +1,132 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionPoolServiceTest {
+
+    @Mock
+    private ChoiceQuestionRepository choiceQuestionRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @InjectMocks
+    private QuestionPoolService questionPoolService;
+
+    private UUID moduleId;
+    private List<UUID> questionIds;
+
+    @BeforeEach
+    void setUp() {
+        moduleId = UUID.randomUUID();
+        questionIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            questionIds.add(UUID.randomUUID());
+        }
+    }
+
+    @Test
+    void pickRandom_ShouldReturnDistinctQuestionsFromSingleBatchedQuery() {
+        // Given
+        when(choiceQuestionRepository.findActiveIdsByModuleId(moduleId)).thenReturn(questionIds);
+        when(choiceQuestionRepository.findActiveWithAnswersByIdIn(anyCollection())).thenAnswer(invocation -> questions(invocation.getArgument(0)));
+
+        // When
+        List<ChoiceQuestion> picked = questionPoolService.pickRandom(moduleId, 10);
+
+        // Then
+        assertThat(picked).hasSize(10);
+        assertThat(picked.stream().map(ChoiceQuestion::getId).collect(Collectors.toSet()))
+                .hasSize(10)
+                .allMatch(questionIds::contains);
+        verify(choiceQuestionRepository, times(1)).findActiveWithAnswersByIdIn(anyCollection());
+    }
+
+    @Test
+    void pickRandom_ShouldLoadPoolOnlyOnce() {
+        // Given
+        when(choiceQuestionRepository.findActiveIdsByModuleId(moduleId)).thenReturn(questionIds);
+        when(choiceQuestionRepository.findActiveWithAnswersByIdIn(anyCollection())).thenAnswer(invocation -> questions(invocation.getArgument(0)));
+
+        // When
+        questionPoolService.pickRandom(moduleId, 5);
+        questionPoolService.pickRandom(moduleId, 5);
+
+        // Then
+        verify(choiceQuestionRepository, times(1)).findActiveIdsByModuleId(moduleId);
+    }
+
+    @Test
+    void pickRandom_WithFewerQuestionsThanRequested_ShouldReturnAll() {
+        // Given
+        List<UUID> few = questionIds.subList(0, 3);
+        when(choiceQuestionRepository.findActiveIdsByModuleId(moduleId)).thenReturn(few);
+        when(choiceQuestionRepository.findActiveWithAnswersByIdIn(anyCollection())).thenAnswer(invocation -> questions(invocation.getArgument(0)));
+
+        // When
+        List<ChoiceQuestion> picked = questionPoolService.pickRandom(moduleId, 10);
+
+        // Then
+        assertThat(picked).extracting(ChoiceQuestion::getId).containsExactlyInAnyOrderElementsOf(few);
+    }
+
+    @Test
+    void questionDeactivated_ShouldNoLongerBePicked() {
+        // Given
+        List<UUID> two = questionIds.subList(0, 2);
+        when(choiceQuestionRepository.findActiveIdsByModuleId(moduleId)).thenReturn(two);
+        when(choiceQuestionRepository.findActiveWithAnswersByIdIn(anyCollection())).thenAnswer(invocation -> questions(invocation.getArgument(0)));
+        questionPoolService.pickRandom(moduleId, 1);
+
+        // When
+        questionPoolService.questionDeactivated(moduleId, two.get(0));
+        questionPoolService.questionActivated(moduleId, questionIds.get(5));
+        List<ChoiceQuestion> picked = questionPoolService.pickRandom(moduleId, 10);
+
+        // Then
+        assertThat(picked).extracting(ChoiceQuestion::getId)
+                .containsExactlyInAnyOrder(two.get(1), questionIds.get(5));
+    }
+
+    @Test
+    void pickRandom_WithStaleId_ShouldDropItFromPool() {
+        // Given: the repository no longer returns the first question (deactivated elsewhere)
+        List<UUID> three = questionIds.subList(0, 3);
+        UUID stale = three.get(0);
+        when(choiceQuestionRepository.findActiveIdsByModuleId(moduleId)).thenReturn(three);
+        when(choiceQuestionRepository.findActiveWithAnswersByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return questions(ids.stream().filter(id -> !id.equals(stale)).toList());
+        });
+
+        // When
+        List<ChoiceQuestion> first = questionPoolService.pickRandom(moduleId, 3);
+        List<ChoiceQuestion> second = questionPoolService.pickRandom(moduleId, 3);
+
+        // Then
+        assertThat(first).hasSize(2);
+        assertThat(second).extracting(ChoiceQuestion::getId).containsExactlyInAnyOrder(three.get(1), three.get(2));
+    }
+
+    private static List<ChoiceQuestion> questions(Collection<UUID> ids) {
+        return ids.stream()
+                .map(id -> ChoiceQuestion.builder().id(id).questionText("Q " + id).active(true).build())
+                .toList();
+    }
+}
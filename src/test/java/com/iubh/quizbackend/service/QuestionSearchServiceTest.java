@@ -0,0 +1,25 @@
+package com.iubh.quizbackend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionSearchServiceTest {
+
+    @Test
+    void toPrefixQuery_ShouldCombineWordsAsPrefixes() {
+        assertThat(QuestionSearchService.toPrefixQuery("Haupt Stadt")).isEqualTo("haupt:* & stadt:*");
+    }
+
+    @Test
+    void toPrefixQuery_ShouldDropTsQuerySyntax() {
+        assertThat(QuestionSearchService.toPrefixQuery("java & !(spring | boot):*")).isEqualTo("java:* & spring:* & boot:*");
+        assertThat(QuestionSearchService.toPrefixQuery("Größe")).isEqualTo("größe:*");
+    }
+
+    @Test
+    void toPrefixQuery_WithoutWords_ShouldReturnNull() {
+        assertThat(QuestionSearchService.toPrefixQuery("?! -")).isNull();
+        assertThat(QuestionSearchService.toPrefixQuery(null)).isNull();
+    }
+}
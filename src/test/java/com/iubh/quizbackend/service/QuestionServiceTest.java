@@ -46,6 +46,15 @@ class QuestionServiceTest {
     @Mock
     private ChoiceQuestionMapper choiceQuestionMapper;
 
+    @Mock
+    private QuestionPoolService questionPoolService;
+
+    @Mock
+    private QuestionSearchService questionSearchService;
+
+    @Mock
+    private DuplicateDetectionService duplicateDetectionService;
+
     @InjectMocks
     private QuestionService questionService;
 
@@ -102,6 +111,8 @@ class QuestionServiceTest {
 
         // Verify repository interactions
         verify(moduleRepository).findById(moduleId);
+        verify(questionPoolService).questionActivated(moduleId, testQuestion.getId());
+        verify(moduleRepository).adjustQuestionCount(moduleId, 1);
         
         ArgumentCaptor<ChoiceQuestion> questionCaptor = ArgumentCaptor.forClass(ChoiceQuestion.class);
         verify(choiceQuestionRepository).save(questionCaptor.capture());
@@ -221,6 +232,26 @@ class QuestionServiceTest {
         verify(choiceQuestionMapper).toSummaryDto(testQuestion);
     }
 
+    @Test
+    void searchQuestions_WithFullTextAvailable_ShouldUseFullTextSearch() {
+        // Given
+        String searchTerm = "math";
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<ChoiceQuestion> questionPage = new PageImpl<>(List.of(testQuestion), pageable, 1);
+
+        when(questionSearchService.isFullTextAvailable()).thenReturn(true);
+        when(questionSearchService.search(moduleId, searchTerm, pageable)).thenReturn(questionPage);
+        when(choiceQuestionMapper.toSummaryDto(testQuestion)).thenReturn(QuestionSummaryDto.builder().id(testQuestion.getId()).build());
+
+        // When
+        Page<QuestionSummaryDto> result = questionService.searchQuestions(moduleId, searchTerm, pageable);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        verify(choiceQuestionRepository, never())
+                .findByModule_IdAndQuestionTextContainingIgnoreCaseAndActiveTrue(any(), any(), any());
+    }
+
     @Test
     void searchQuestions_WithEmptyResults_ShouldReturnEmptyPage() {
         // Given
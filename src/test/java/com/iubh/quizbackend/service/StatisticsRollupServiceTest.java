@@ -0,0 +1,92 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.entity.module.Module;
+import com.iubh.quizbackend.entity.quiz.Quiz;
+import com.iubh.quizbackend.entity.quiz.QuizItem;
+import com.iubh.quizbackend.entity.quiz.QuizStatus;
+import com.iubh.quizbackend.entity.quiz.UserModuleDailyStats;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.repository.UserModuleDailyStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsRollupServiceTest {
+
+    @Mock
+    private UserModuleDailyStatsRepository dailyStatsRepository;
+
+    @InjectMocks
+    private StatisticsRollupService statisticsRollupService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID moduleId = UUID.randomUUID();
+    private final LocalDateTime completedAt = LocalDateTime.of(2025, 3, 3, 10, 0);
+
+    @Test
+    void recordCompletedQuiz_WithExistingRow_ShouldAddToIt() {
+        // Given
+        when(dailyStatsRepository.addQuiz(userId, moduleId, completedAt.toLocalDate(), 3, 4, 75.0)).thenReturn(1);
+
+        // When
+        statisticsRollupService.recordCompletedQuiz(quiz(true, true, true, false));
+
+        // Then
+        verify(dailyStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void recordCompletedQuiz_WithoutRowForTheDay_ShouldCreateIt() {
+        // Given
+        when(dailyStatsRepository.addQuiz(any(), any(), any(), anyLong(), anyLong(), anyDouble())).thenReturn(0);
+
+        // When
+        statisticsRollupService.recordCompletedQuiz(quiz(true, false));
+
+        // Then
+        ArgumentCaptor<UserModuleDailyStats> captor = ArgumentCaptor.forClass(UserModuleDailyStats.class);
+        verify(dailyStatsRepository).save(captor.capture());
+        UserModuleDailyStats row = captor.getValue();
+        assertThat(row.getUserId()).isEqualTo(userId);
+        assertThat(row.getModuleId()).isEqualTo(moduleId);
+        assertThat(row.getDay()).isEqualTo(LocalDate.of(2025, 3, 3));
+        assertThat(row.getQuizzes()).isEqualTo(1);
+        assertThat(row.getCorrectCount()).isEqualTo(1);
+        assertThat(row.getAnsweredCount()).isEqualTo(2);
+        assertThat(row.getScoreSum()).isEqualTo(50.0);
+    }
+
+    @Test
+    void recordCompletedQuiz_WithoutItems_ShouldNotTouchRollup() {
+        // When
+        statisticsRollupService.recordCompletedQuiz(quiz());
+
+        // Then
+        verifyNoInteractions(dailyStatsRepository);
+    }
+
+    private Quiz quiz(Boolean... correct) {
+        Quiz quiz = Quiz.builder()
+                .user(User.builder().id(userId).build())
+                .module(Module.builder().id(moduleId).build())
+                .status(QuizStatus.COMPLETED)
+                .completedAt(completedAt)
+                .build();
+        for (Boolean c : correct) {
+            quiz.getQuizItems().add(QuizItem.builder().id(UUID.randomUUID()).quiz(quiz).isCorrect(c).build());
+        }
+        return quiz;
+    }
+}
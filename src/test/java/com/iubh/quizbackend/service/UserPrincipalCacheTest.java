@@ -0,0 +1,84 @@
+package com.iubh.quizbackend.service;
+
+import com.iubh.quizbackend.entity.user.Profile;
+import com.iubh.quizbackend.entity.user.Role;
+import com.iubh.quizbackend.entity.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    private static final String EMAIL = "student@test.com";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private UserPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserPrincipalCache(userDetailsService, 60_000, 100);
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenAnswer(invocation -> User.builder()
+                .id(UUID.randomUUID())
+                .email(EMAIL)
+                .password("password")
+                .role(Role.STUDENT)
+                .profile(Profile.builder().firstName("Max").name("Mustermann").build())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadUserByUsername_ShouldHandOutIndependentCopies() {
+        // Given
+        User first = (User) cache.loadUserByUsername(EMAIL);
+
+        // When
+        first.setProfile(Profile.builder().firstName("Changed").name("Uncommitted").build());
+        first.getProfile().setFirstName("Changed again");
+        User second = (User) cache.loadUserByUsername(EMAIL);
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getProfile().getFirstName()).isEqualTo("Max");
+        assertThat(second.getId()).isEqualTo(first.getId());
+        verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    void evict_ShouldDropEntryEvenWhenTransactionRollsBack() {
+        // Given
+        cache.loadUserByUsername(EMAIL);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        cache.evict(EMAIL);
+        cache.loadUserByUsername(EMAIL); // cached again by a concurrent request before completion
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        cache.loadUserByUsername(EMAIL);
+
+        // Then
+        verify(userDetailsService, times(2)).loadUserByUsername(EMAIL);
+    }
+}
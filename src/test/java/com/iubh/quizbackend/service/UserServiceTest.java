@@ -24,6 +24,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -69,6 +72,7 @@ class UserServiceTest {
         assertThat(result.getProfile().getName()).isEqualTo("Smith");
 
         verify(userRepository).save(testUser);
+        verify(userPrincipalCache).evict("john.doe@test.com");
     }
 
     @Test
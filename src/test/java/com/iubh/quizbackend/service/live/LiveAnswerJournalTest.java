@@ -0,0 +1,148 @@
+package com.iubh.quizbackend.service.live;
+
+import com.iubh.quizbackend.service.QuestionMasteryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiveAnswerJournalTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager txManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private QuestionMasteryService masteryService;
+
+    @InjectMocks
+    private LiveAnswerJournal journal;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private UUID sessionId;
+
+    @BeforeEach
+    void setUp() {
+        journal.start();
+        sessionId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void close_ShouldWriteBufferedAnswersAndDropBuffer() {
+        // Given
+        when(jdbcTemplate.batchUpdate(startsWith("insert"), anyList())).thenReturn(new int[]{1, 1});
+        append(true);
+        append(false);
+
+        // When
+        journal.close(sessionId);
+
+        // Then
+        assertThat(insertedRows()).hasSize(2);
+        verify(jdbcTemplate).batchUpdate(startsWith("update"), anyList());
+        assertThat(journal.pendingCount()).isZero();
+        assertThat(journal.flush(sessionId)).isTrue();
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void flush_WhenBatchFails_ShouldKeepAnswersForRetry() {
+        // Given
+        when(jdbcTemplate.batchUpdate(startsWith("insert"), anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(new int[]{1});
+        append(false);
+
+        // When / Then
+        assertThat(journal.flush(sessionId)).isFalse();
+        assertThat(journal.pendingCount()).isEqualTo(1);
+        assertThat(journal.flush(sessionId)).isTrue();
+        assertThat(journal.pendingCount()).isZero();
+    }
+
+    @Test
+    void close_WhilePeriodicBatchFails_ShouldWaitAndWriteTheAnswersItself() throws Exception {
+        // Given
+        CountDownLatch batchStarted = new CountDownLatch(1);
+        CountDownLatch failBatch = new CountDownLatch(1);
+        when(jdbcTemplate.batchUpdate(startsWith("insert"), anyList()))
+                .thenAnswer(invocation -> {
+                    batchStarted.countDown();
+                    failBatch.await(5, TimeUnit.SECONDS);
+                    throw new QueryTimeoutException("timeout");
+                })
+                .thenReturn(new int[]{1});
+        append(true);
+
+        // When: the periodic flush has polled the batch, then the session finishes
+        Future<?> periodic = executor.submit(journal::flushAll);
+        assertThat(batchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> close = executor.submit(() -> journal.close(sessionId));
+
+        // Then: close waits for the batch in flight instead of seeing an empty queue
+        Thread.sleep(100);
+        assertThat(close.isDone()).isFalse();
+
+        failBatch.countDown();
+        periodic.get(5, TimeUnit.SECONDS);
+        close.get(5, TimeUnit.SECONDS);
+
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("insert"), anyList());
+        verify(jdbcTemplate).batchUpdate(startsWith("update"), anyList());
+        assertThat(journal.pendingCount()).isZero();
+    }
+
+    @Test
+    void append_AfterClose_ShouldStartNewBuffer() {
+        // Given
+        when(jdbcTemplate.batchUpdate(startsWith("insert"), anyList())).thenReturn(new int[]{1});
+        append(false);
+        journal.close(sessionId);
+
+        // When
+        append(false);
+
+        // Then
+        assertThat(journal.pendingCount()).isEqualTo(1);
+        assertThat(journal.flush(sessionId)).isTrue();
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("insert"), anyList());
+    }
+
+    private void append(boolean correct) {
+        journal.append(sessionId, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 0, UUID.randomUUID(), correct);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> insertedRows() {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("insert"), rows.capture());
+        return rows.getValue();
+    }
+}
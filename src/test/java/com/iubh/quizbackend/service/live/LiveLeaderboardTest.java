@@ -0,0 +1,77 @@
+package com.iubh.quizbackend.service.live;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveLeaderboardTest {
+
+    @Test
+    void rank_ShouldShareRankOnTiesAndCountOnlyHigherScores() {
+        // Given
+        LiveLeaderboard leaderboard = new LiveLeaderboard(4, 10);
+
+        // When
+        leaderboard.increment(2);
+        leaderboard.increment(2);
+        leaderboard.increment(0);
+        leaderboard.increment(3);
+
+        // Then
+        assertThat(leaderboard.rank(2)).isEqualTo(1);
+        assertThat(leaderboard.rank(0)).isEqualTo(2);
+        assertThat(leaderboard.rank(3)).isEqualTo(2);
+        assertThat(leaderboard.rank(1)).isEqualTo(4);
+    }
+
+    @Test
+    void top_ShouldOrderByScoreThenByTimeOfReachingScore() {
+        // Given
+        LiveLeaderboard leaderboard = new LiveLeaderboard(5, 10);
+        leaderboard.increment(4);
+        leaderboard.increment(1);
+        leaderboard.increment(1);
+        leaderboard.increment(3);
+
+        // When
+        List<Integer> top = leaderboard.top(3);
+
+        // Then
+        assertThat(top).containsExactly(1, 4, 3);
+    }
+
+    @Test
+    void drainChanges_ShouldOnlyReportChangedParticipants() {
+        // Given
+        LiveLeaderboard leaderboard = new LiveLeaderboard(3, 10);
+        leaderboard.increment(0);
+        leaderboard.drainChanges();
+
+        // When: Slot 2 zieht mit Slot 0 gleich, Slot 1 rutscht dadurch auf Rang 3; Slot 0 bleibt unverändert
+        leaderboard.increment(2);
+        List<LiveSessionState.RankChange> changes = leaderboard.drainChanges();
+
+        // Then
+        assertThat(changes).containsExactly(
+                new LiveSessionState.RankChange(1, 0, 3, 2),
+                new LiveSessionState.RankChange(2, 1, 1, 2));
+        assertThat(leaderboard.drainChanges()).isEmpty();
+    }
+
+    @Test
+    void setScore_ShouldMoveParticipantBetweenBuckets() {
+        // Given
+        LiveLeaderboard leaderboard = new LiveLeaderboard(2, 10);
+
+        // When
+        leaderboard.setScore(1, 7);
+        leaderboard.setScore(1, 3);
+
+        // Then
+        assertThat(leaderboard.score(1)).isEqualTo(3);
+        assertThat(leaderboard.rank(1)).isEqualTo(1);
+        assertThat(leaderboard.top(2)).containsExactly(1, 0);
+    }
+}
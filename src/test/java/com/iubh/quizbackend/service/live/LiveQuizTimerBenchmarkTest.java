@@ -0,0 +1,172 @@
+package com.iubh.quizbackend.service.live;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vergleich Hashed-Wheel vs. {@link ThreadPoolTaskScheduler} mit 10k simulierten Sessions.
+ * <p>
+ * Jede Session plant das Ende ihrer Frage und armiert es danach so oft neu, wie Antworten
+ * eintreffen (Verhalten des früheren {@code submitAnswer}). Gemessen werden Durchsatz beim
+ * Planen/Stornieren, Feuer-Verspätung und die Größe der Scheduler-Queue nach dem Churn.
+ * <p>
+ * Nicht Teil des normalen Testlaufs: {@code mvn test -Pbenchmark}
+ */
+@Tag("benchmark")
+class LiveQuizTimerBenchmarkTest {
+
+    private static final int SESSIONS = 10_000;
+    private static final int REARMS_PER_SESSION = 20;
+    private static final long MIN_DELAY_MS = 500;
+    private static final long MAX_DELAY_MS = 1_500;
+
+    @Test
+    void compareWheelWithTaskScheduler() throws InterruptedException {
+        Result scheduler = runTaskScheduler();
+        Result wheel = runWheel();
+
+        System.out.println("=== Live timer benchmark (" + SESSIONS + " sessions, " + REARMS_PER_SESSION + " re-arms each) ===");
+        System.out.println(scheduler);
+        System.out.println(wheel);
+
+        assertThat(wheel.fired).isEqualTo(SESSIONS);
+        assertThat(scheduler.fired).isEqualTo(SESSIONS);
+    }
+
+    private Result runTaskScheduler() throws InterruptedException {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("bench-scheduler-");
+        scheduler.initialize();
+
+        Map<UUID, ScheduledFuture<?>> futures = new ConcurrentHashMap<>();
+        LatencyRecorder latencies = new LatencyRecorder(SESSIONS);
+        List<Plan> plans = plans();
+
+        long start = System.nanoTime();
+        for (int round = 0; round <= REARMS_PER_SESSION; round++) {
+            for (Plan plan : plans) {
+                ScheduledFuture<?> previous = futures.remove(plan.sessionId);
+                if (previous != null) previous.cancel(false);
+                futures.put(plan.sessionId, scheduler.schedule(() -> latencies.record(plan.deadline), plan.deadline));
+            }
+        }
+        long scheduleNanos = System.nanoTime() - start;
+        int queued = scheduler.getScheduledThreadPoolExecutor().getQueue().size();
+
+        latencies.await();
+        scheduler.shutdown();
+        return new Result("ThreadPoolTaskScheduler", scheduleNanos, queued, latencies);
+    }
+
+    private Result runWheel() throws InterruptedException {
+        LiveQuizTimer timer = new LiveQuizTimer(Duration.ofMillis(10), 512, 2);
+
+        LatencyRecorder latencies = new LatencyRecorder(SESSIONS);
+        List<Plan> plans = plans();
+
+        long start = System.nanoTime();
+        for (int round = 0; round <= REARMS_PER_SESSION; round++) {
+            for (Plan plan : plans) {
+                timer.schedule(plan.sessionId, plan.deadline, () -> latencies.record(plan.deadline));
+            }
+        }
+        long scheduleNanos = System.nanoTime() - start;
+        int queued = timer.pendingTimeouts();
+
+        latencies.await();
+        timer.stop();
+        return new Result("LiveQuizTimer (wheel)", scheduleNanos, queued, latencies);
+    }
+
+    private static List<Plan> plans() {
+        Random random = new Random(42);
+        Instant now = Instant.now();
+        List<Plan> plans = new ArrayList<>(SESSIONS);
+        for (int i = 0; i < SESSIONS; i++) {
+            long delay = MIN_DELAY_MS + random.nextLong(MAX_DELAY_MS - MIN_DELAY_MS);
+            plans.add(new Plan(UUID.randomUUID(), now.plusMillis(delay)));
+        }
+        return plans;
+    }
+
+    private record Plan(UUID sessionId, Instant deadline) {}
+
+    private static final class LatencyRecorder {
+        private final long[] lateMillis;
+        private final CountDownLatch latch;
+        private final Object lock = new Object();
+        private int count;
+
+        private LatencyRecorder(int expected) {
+            this.lateMillis = new long[expected];
+            this.latch = new CountDownLatch(expected);
+        }
+
+        private void record(Instant deadline) {
+            long late = Duration.between(deadline, Instant.now()).toMillis();
+            synchronized (lock) {
+                if (count < lateMillis.length) {
+                    lateMillis[count++] = late;
+                }
+            }
+            latch.countDown();
+        }
+
+        private boolean await() throws InterruptedException {
+            return latch.await(MAX_DELAY_MS + 10_000, TimeUnit.MILLISECONDS);
+        }
+
+        private long percentile(double p) {
+            synchronized (lock) {
+                if (count == 0) return -1;
+                long[] sorted = Arrays.copyOf(lateMillis, count);
+                Arrays.sort(sorted);
+                return sorted[Math.min(count - 1, (int) Math.ceil(p * count) - 1)];
+            }
+        }
+
+        private int count() {
+            synchronized (lock) {
+                return count;
+            }
+        }
+    }
+
+    private static final class Result {
+        private final String name;
+        private final long scheduleNanos;
+        private final int queuedAfterChurn;
+        private final int fired;
+        private final long p50;
+        private final long p99;
+        private final long max;
+
+        private Result(String name, long scheduleNanos, int queuedAfterChurn, LatencyRecorder latencies) {
+            this.name = name;
+            this.scheduleNanos = scheduleNanos;
+            this.queuedAfterChurn = queuedAfterChurn;
+            this.fired = latencies.count();
+            this.p50 = latencies.percentile(0.50);
+            this.p99 = latencies.percentile(0.99);
+            this.max = latencies.percentile(1.0);
+        }
+
+        @Override
+        public String toString() {
+            long ops = (long) SESSIONS * (REARMS_PER_SESSION + 1);
+            return String.format(Locale.ROOT,
+                    "%-24s schedule+cancel: %,d ops in %d ms (%,.0f ops/s) | queued after churn: %,d | fired: %,d | late p50=%dms p99=%dms max=%dms",
+                    name, ops, TimeUnit.NANOSECONDS.toMillis(scheduleNanos),
+                    ops / (scheduleNanos / 1e9), queuedAfterChurn, fired, p50, p99, max);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.iubh.quizbackend.service.live;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveQuizTimerTest {
+
+    private LiveQuizTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new LiveQuizTimer(Duration.ofMillis(5), 64, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void schedule_ShouldFireNotBeforeDeadline() throws InterruptedException {
+        // Given
+        CountDownLatch fired = new CountDownLatch(1);
+        Instant deadline = Instant.now().plusMillis(50);
+        AtomicInteger firedEarly = new AtomicInteger();
+
+        // When
+        timer.schedule(UUID.randomUUID(), deadline, () -> {
+            if (Instant.now().isBefore(deadline.minusMillis(1))) firedEarly.incrementAndGet();
+            fired.countDown();
+        });
+
+        // Then
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedEarly.get()).isZero();
+    }
+
+    @Test
+    void schedule_WithSameKey_ShouldReplacePreviousDeadline() throws InterruptedException {
+        // Given
+        UUID key = UUID.randomUUID();
+        AtomicInteger first = new AtomicInteger();
+        CountDownLatch second = new CountDownLatch(1);
+
+        // When
+        timer.schedule(key, Instant.now().plusMillis(30), first::incrementAndGet);
+        timer.schedule(key, Instant.now().plusMillis(60), second::countDown);
+
+        // Then
+        assertThat(second.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(first.get()).isZero();
+        assertThat(timer.isScheduled(key)).isFalse();
+    }
+
+    @Test
+    void cancel_ShouldPreventExecution() throws InterruptedException {
+        // Given
+        UUID key = UUID.randomUUID();
+        AtomicInteger fired = new AtomicInteger();
+        timer.schedule(key, Instant.now().plusMillis(20), fired::incrementAndGet);
+
+        // When
+        boolean cancelled = timer.cancel(key);
+        Thread.sleep(100);
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(fired.get()).isZero();
+        assertThat(timer.cancel(key)).isFalse();
+    }
+
+    @Test
+    void schedule_BeyondOneWheelRotation_ShouldWaitForRemainingRounds() throws InterruptedException {
+        // Given: 64 Buckets à 5ms → eine Umdrehung = 320ms
+        CountDownLatch fired = new CountDownLatch(1);
+        Instant deadline = Instant.now().plusMillis(500);
+
+        // When
+        timer.schedule(UUID.randomUUID(), deadline, fired::countDown);
+
+        // Then
+        assertThat(fired.await(300, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,158 @@
+package com.iubh.quizbackend.service.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iubh.quizbackend.entity.question.Answer;
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.quiz.AnswerOrder;
+import com.iubh.quizbackend.entity.quiz.LiveQuizSession;
+import com.iubh.quizbackend.entity.quiz.SessionQuestion;
+import com.iubh.quizbackend.entity.quiz.SessionStatus;
+import com.iubh.quizbackend.repository.LiveQuizParticipantRepository;
+import com.iubh.quizbackend.repository.LiveQuizSessionRepository;
+import com.iubh.quizbackend.repository.ParticipantAnswerRepository;
+import com.iubh.quizbackend.repository.SessionQuestionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiveSessionEngineTest {
+
+    @Mock
+    private LiveQuizSessionRepository sessionRepo;
+
+    @Mock
+    private SessionQuestionRepository sessionQuestionRepo;
+
+    @Mock
+    private LiveQuizParticipantRepository participantRepo;
+
+    @Mock
+    private ParticipantAnswerRepository answerRepo;
+
+    @Mock
+    private PlatformTransactionManager txManager;
+
+    private LiveSessionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new LiveSessionEngine(sessionRepo, sessionQuestionRepo, participantRepo, answerRepo, new ObjectMapper(), txManager);
+    }
+
+    @Test
+    void newState_WithFewerQuestionsThanRequested_ShouldEndAfterLastQuestion() {
+        // Given
+        LiveQuizSession session = session(10, SessionStatus.COUNTDOWN);
+        List<LiveSessionState.FrozenQuestion> questions = List.of(frozen(), frozen(), frozen());
+
+        // When
+        LiveSessionState state = LiveSessionEngine.newState(session, questions, List.of());
+        state.setCurrentIndex(2);
+
+        // Then
+        assertThat(state.getTotalQuestions()).isEqualTo(3);
+        assertThat(state.hasMoreQuestions()).isFalse();
+    }
+
+    @Test
+    void get_ForRegisteredSession_ShouldNotQueryDatabase() {
+        // Given
+        LiveSessionState state = LiveSessionEngine.newState(session(1, SessionStatus.RUNNING), List.of(frozen()), List.of());
+        engine.register(state);
+
+        // When / Then
+        assertThat(engine.get(state.getSessionId())).isSameAs(state);
+        verifyNoInteractions(sessionRepo);
+
+        engine.evict(state.getSessionId());
+        assertThat(engine.find(state.getSessionId())).isEmpty();
+    }
+
+    @Test
+    void get_ForUnknownSession_ShouldHydrateStoredOrderAndRegisterIt() {
+        // Given
+        LiveQuizSession session = session(10, SessionStatus.RUNNING);
+        Answer right = Answer.builder().id(UUID.randomUUID()).text("Right").isCorrect(true).build();
+        Answer wrong = Answer.builder().id(UUID.randomUUID()).text("Wrong").isCorrect(false).build();
+        ChoiceQuestion question = ChoiceQuestion.builder().id(UUID.randomUUID()).questionText("Q").build();
+        question.getAnswers().addAll(List.of(right, wrong));
+        SessionQuestion stored = SessionQuestion.builder()
+                .session(session)
+                .indexInSession(0)
+                .question(question)
+                .answerOrder(AnswerOrder.of(List.of(wrong, right)))
+                .build();
+        when(sessionRepo.findById(session.getId())).thenReturn(Optional.of(session));
+        when(sessionQuestionRepo.findAllWithQuestionAndAnswers(session.getId())).thenReturn(List.of(stored));
+        when(participantRepo.findRosterBySessionId(session.getId())).thenReturn(List.of());
+        when(answerRepo.findAnsweredBySessionId(session.getId())).thenReturn(List.of());
+
+        // When
+        LiveSessionState state = engine.get(session.getId());
+
+        // Then
+        assertThat(state.getTotalQuestions()).isEqualTo(1);
+        assertThat(state.question(0).answers()).extracting(LiveSessionState.FrozenAnswer::id)
+                .containsExactly(wrong.getId(), right.getId());
+        assertThat(engine.get(session.getId())).isSameAs(state);
+        verify(sessionRepo, times(1)).findById(session.getId());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void get_ForUnmigratedSession_ShouldReadLegacyJsonOrder() {
+        // Given
+        LiveQuizSession session = session(1, SessionStatus.RUNNING);
+        Answer a = Answer.builder().id(UUID.randomUUID()).text("A").isCorrect(true).build();
+        Answer b = Answer.builder().id(UUID.randomUUID()).text("B").isCorrect(false).build();
+        Answer c = Answer.builder().id(UUID.randomUUID()).text("C").isCorrect(false).build();
+        ChoiceQuestion question = ChoiceQuestion.builder().id(UUID.randomUUID()).questionText("Q").build();
+        question.getAnswers().addAll(List.of(a, b, c));
+        SessionQuestion legacy = SessionQuestion.builder()
+                .session(session)
+                .indexInSession(0)
+                .question(question)
+                .answerOrderJson("[\"" + c.getId() + "\",\"" + a.getId() + "\",\"" + b.getId() + "\"]")
+                .build();
+        when(sessionRepo.findById(session.getId())).thenReturn(Optional.of(session));
+        when(sessionQuestionRepo.findAllWithQuestionAndAnswers(session.getId())).thenReturn(List.of(legacy));
+        when(participantRepo.findRosterBySessionId(session.getId())).thenReturn(List.of());
+        when(answerRepo.findAnsweredBySessionId(session.getId())).thenReturn(List.of());
+
+        // When
+        LiveSessionState state = engine.get(session.getId());
+
+        // Then
+        assertThat(state.question(0).answers()).extracting(LiveSessionState.FrozenAnswer::id)
+                .containsExactly(c.getId(), a.getId(), b.getId());
+    }
+
+    private static LiveQuizSession session(int totalQuestions, SessionStatus status) {
+        return LiveQuizSession.builder()
+                .id(UUID.randomUUID())
+                .lobbyId(UUID.randomUUID())
+                .status(status)
+                .totalQuestions(totalQuestions)
+                .startAt(Instant.now())
+                .questions(new ArrayList<>())
+                .build();
+    }
+
+    private static LiveSessionState.FrozenQuestion frozen() {
+        return new LiveSessionState.FrozenQuestion(UUID.randomUUID(), "Question",
+                List.of(new LiveSessionState.FrozenAnswer(UUID.randomUUID(), "Answer", true)));
+    }
+}
@@ -0,0 +1,87 @@
+package com.iubh.quizbackend.service.live;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LiveSessionMailboxTest {
+
+    private ExecutorService executor;
+    private AtomicInteger failures;
+    private LiveSessionMailbox mailbox;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        failures = new AtomicInteger();
+        mailbox = new LiveSessionMailbox(executor, (command, waitNanos, processingNanos, failed) -> {
+            if (failed) failures.incrementAndGet();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void submit_ShouldRunCommandsInOrderAndNeverConcurrently() throws Exception {
+        // Given
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        int commands = 500;
+
+        // When
+        CompletableFuture<?>[] results = new CompletableFuture<?>[commands];
+        for (int i = 0; i < commands; i++) {
+            int n = i;
+            results[i] = mailbox.submit(LiveCommand.ANSWER, () -> {
+                if (running.incrementAndGet() > 1) overlaps.incrementAndGet();
+                order.add(n);
+                running.decrementAndGet();
+                return n;
+            });
+        }
+        CompletableFuture.allOf(results).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(overlaps.get()).isZero();
+        assertThat(order).hasSize(commands).isSorted();
+        assertThat(mailbox.depth()).isZero();
+    }
+
+    @Test
+    void submit_FailingCommand_ShouldNotStopLaterCommands() throws Exception {
+        // When
+        CompletableFuture<Object> failing = mailbox.submit(LiveCommand.TICK, () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<String> next = mailbox.submit(LiveCommand.END, () -> "done");
+
+        // Then
+        assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThatThrownBy(failing::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(failures.get()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_WhenExecutorRejects_ShouldFailPendingCommands() {
+        // Given
+        executor.shutdown();
+
+        // When
+        CompletableFuture<String> result = mailbox.submit(LiveCommand.ANSWER, () -> "never");
+
+        // Then
+        assertThatThrownBy(result::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(mailbox.depth()).isZero();
+    }
+}
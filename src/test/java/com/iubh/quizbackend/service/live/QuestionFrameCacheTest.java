@@ -0,0 +1,80 @@
+package com.iubh.quizbackend.service.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.iubh.quizbackend.api.dto.live.LiveEvents;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionFrameCacheTest {
+
+    private ObjectMapper objectMapper;
+    private QuestionFrameCache cache;
+    private LiveSessionState state;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        cache = new QuestionFrameCache(objectMapper, 2);
+        List<LiveSessionState.FrozenQuestion> questions = List.of(question("First"), question("Second"), question("Third"));
+        state = new LiveSessionState(UUID.randomUUID(), UUID.randomUUID(), questions.size(), 30, 2, true,
+                Instant.now(), questions, List.of());
+    }
+
+    @Test
+    void render_ShouldMatchSerializedQuestionShowEvent() throws Exception {
+        // Given
+        Instant endsAt = Instant.parse("2025-01-01T12:00:30Z");
+        LiveSessionState.FrozenQuestion q = state.question(1);
+        var expected = LiveEvents.QuestionShow.builder()
+                .sessionId(state.getSessionId())
+                .index(1)
+                .endsAt(endsAt)
+                .question(LiveEvents.QuestionShow.QuestionPayload.builder()
+                        .id(q.questionId())
+                        .text(q.text())
+                        .answers(q.answers().stream()
+                                .map(a -> new LiveEvents.QuestionShow.AnswerPayload(a.id(), a.text()))
+                                .toList())
+                        .build())
+                .build();
+
+        // When
+        cache.precompute(state.getSessionId(), state.getQuestions());
+        byte[] rendered = cache.get(state, 1).render(cache.serializeInstant(endsAt));
+
+        // Then
+        assertThat(objectMapper.readTree(rendered)).isEqualTo(objectMapper.valueToTree(expected));
+    }
+
+    @Test
+    void get_AfterEviction_ShouldRebuildFromState() {
+        // Given
+        cache.precompute(state.getSessionId(), state.getQuestions());
+        LiveSessionState.FrozenQuestion first = state.question(0);
+
+        // When: only two entries fit, the first question was pushed out by the third
+        QuestionFrameCache.QuestionFrame rebuilt = cache.get(state, 0);
+
+        // Then
+        assertThat(rebuilt.questionJson()).contains(first.questionId().toString(), "First");
+        assertThat(cache.get(state, 0)).isSameAs(rebuilt);
+    }
+
+    private static LiveSessionState.FrozenQuestion question(String text) {
+        return new LiveSessionState.FrozenQuestion(UUID.randomUUID(), text, List.of(
+                new LiveSessionState.FrozenAnswer(UUID.randomUUID(), text + " right", true),
+                new LiveSessionState.FrozenAnswer(UUID.randomUUID(), text + " wrong", false)));
+    }
+}
@@ -0,0 +1,90 @@
+package com.iubh.quizbackend.support;
+
+import com.iubh.quizbackend.entity.module.Module;
+import com.iubh.quizbackend.entity.question.Answer;
+import com.iubh.quizbackend.entity.question.ChoiceQuestion;
+import com.iubh.quizbackend.entity.quiz.QuizLobby;
+import com.iubh.quizbackend.entity.quiz.QuizLobbyStatus;
+import com.iubh.quizbackend.entity.user.Profile;
+import com.iubh.quizbackend.entity.user.Role;
+import com.iubh.quizbackend.entity.user.User;
+import com.iubh.quizbackend.repository.ChoiceQuestionRepository;
+import com.iubh.quizbackend.repository.ModuleRepository;
+import com.iubh.quizbackend.repository.QuizLobbyRepository;
+import com.iubh.quizbackend.repository.UserRepository;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seeds waiting live quiz lobbies into a running application context for the benchmarks and load
+ * simulations that start the whole application.
+ * <p>
+ * The module gets exactly the requested number of questions. A live session picks at most ten questions
+ * from its module, so with ten or fewer questions the sessions run exactly that many.
+ */
+public final class LiveQuizFixture {
+
+    /** A waiting lobby with its host and players; the host is not a player. */
+    public record Lobby(UUID id, User host, List<User> players) {}
+
+    private LiveQuizFixture() {
+    }
+
+    /**
+     * Seeds one module and {@code lobbies} lobbies on it in a single transaction.
+     *
+     * @param context   The running application.
+     * @param name      Prefix of the module title and the user emails, so several fixtures do not collide.
+     * @param questions Number of questions of the module; the first of four answers is correct.
+     * @param lobbies   Number of lobbies.
+     * @param players   Number of players per lobby.
+     * @return The lobbies in creation order.
+     */
+    public static List<Lobby> seed(ConfigurableApplicationContext context, String name, int questions, int lobbies, int players) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ModuleRepository moduleRepository = context.getBean(ModuleRepository.class);
+        ChoiceQuestionRepository questionRepository = context.getBean(ChoiceQuestionRepository.class);
+        QuizLobbyRepository lobbyRepository = context.getBean(QuizLobbyRepository.class);
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        return tx.execute(status -> {
+            Module module = moduleRepository.save(Module.builder().title(name + " module").description(name).build());
+            for (int i = 0; i < questions; i++) {
+                ChoiceQuestion question = ChoiceQuestion.builder().questionText("Question " + i).active(true).module(module).build();
+                for (int a = 0; a < 4; a++) {
+                    question.addAnswer(Answer.builder().text("Answer " + i + "." + a).isCorrect(a == 0).build());
+                }
+                questionRepository.save(question);
+            }
+
+            List<Lobby> result = new ArrayList<>(lobbies);
+            for (int l = 0; l < lobbies; l++) {
+                User host = userRepository.save(user(name + "-host" + l + "@test.com"));
+                List<User> lobbyPlayers = new ArrayList<>(players);
+                for (int p = 0; p < players; p++) {
+                    lobbyPlayers.add(user(name + "-player" + l + "-" + p + "@test.com"));
+                }
+                lobbyPlayers = userRepository.saveAll(lobbyPlayers);
+
+                QuizLobby lobby = QuizLobby.builder().host(host).module(module).status(QuizLobbyStatus.WAITING).build();
+                lobby.getParticipants().addAll(lobbyPlayers);
+                result.add(new Lobby(lobbyRepository.save(lobby).getId(), host, lobbyPlayers));
+            }
+            return result;
+        });
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("password123")
+                .role(Role.STUDENT)
+                .profile(Profile.builder().firstName("Test").name(email).build())
+                .build();
+    }
+}